@@ -0,0 +1,23 @@
+package ensemble;
+
+/**
+ * Interface représentant un index d'accessibilité construit une fois pour une relation fixe,
+ * vue comme un graphe orienté, afin de répondre rapidement à de nombreuses questions
+ * « b est-il atteignable depuis a ? » sans calculer la fermeture transitive.
+ * L'index est immuable et peut être interrogé par plusieurs fils en même temps.
+ *
+ * @param <T> Le type des éléments de la relation
+ */
+public interface Accessibilite<T> {
+
+    /**
+     * Détermine si b est atteignable depuis a par une suite d'au moins un couple de la relation,
+     * c'est-à-dire si le couple (a, b) appartient à la fermeture transitive de la relation.
+     * En particulier, a n'est atteignable depuis lui-même que s'il appartient à un cycle.
+     *
+     * @param a L'élément de départ
+     * @param b L'élément d'arrivée
+     * @return true si b est atteignable depuis a, false sinon ou si l'un des éléments n'est pas dans la relation
+     */
+    boolean atteignable(T a, T b);
+}
@@ -0,0 +1,207 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Opérations de l'algèbre des relations écrites pour une implémentation quelconque de
+ * {@link Relation} : elles servent lorsque les deux opérandes n'ont pas la même représentation,
+ * ou lorsqu'une implémentation n'a pas de meilleur algorithme. Ce sont les implémentations par
+ * défaut des méthodes de l'interface.
+ * Les images sont toujours demandées à la relation elle-même, qui les obtient de son index
+ * en un temps proportionnel au nombre de successeurs.
+ * Toutes les méthodes retournent des relations immuables.
+ */
+final class AlgebreRelation {
+
+    private AlgebreRelation() {
+    }
+
+    /**
+     * Vérifie que l'opérande d'une opération binaire est utilisable.
+     *
+     * @param autre l'opérande
+     * @throws IllegalArgumentException si l'opérande est null
+     */
+    static void verifierOperande(Relation<?> autre) throws IllegalArgumentException {
+        if (autre == null) {
+            throw new IllegalArgumentException("La relation ne peut pas être null.");
+        }
+    }
+
+    /**
+     * Compare une relation à un objet : deux relations sont égales si elles contiennent les
+     * mêmes couples, quelles que soient leurs implémentations.
+     *
+     * @param r la relation
+     * @param o l'objet à comparer
+     * @return {@code true} si l'objet est une relation de mêmes couples, {@code false} sinon
+     */
+    static boolean egales(Relation<?> r, Object o) {
+        if (r == o) return true;
+        if (!(o instanceof Relation<?> autre)) return false;
+        return r.elements().equals(autre.elements());
+    }
+
+    /**
+     * Calcule le hash code d'une relation à partir de ses couples, de la même façon pour toutes
+     * les implémentations.
+     *
+     * @param r la relation
+     * @return le hash code de la relation
+     */
+    static int hachage(Relation<?> r) {
+        return Objects.hash(r.elements());
+    }
+
+    /**
+     * Calcule la composée de deux relations par jointure sur l'élément intermédiaire :
+     * pour chaque couple (a, b) de la première, les c de l'image de b par la seconde.
+     * Un élément intermédiaire qui a plusieurs prédécesseurs voit son image demandée une seule fois.
+     *
+     * @param <T> le type des éléments
+     * @param r la relation appliquée en premier
+     * @param s la relation appliquée ensuite
+     * @return les couples (a, c) tels qu'il existe b avec (a, b) dans r et (b, c) dans s
+     */
+    static <T> Relation<T> composer(Relation<T> r, Relation<T> s) {
+        Set<Couple<T, T>> resultat = new HashSet<>();
+        Set<T> intermediaires = new HashSet<>();
+        for (Couple<T, T> ab : r.elements()) {
+            T b = ab.getDeuxieme();
+            if (!intermediaires.add(b)) {
+                continue;
+            }
+            Ensemble<T> images = s.image(b);
+            if (images.cardinal() == 0) {
+                continue;
+            }
+            for (Iterator<T> a = EnsembleVue.iterateur(r.preImage(b)); a.hasNext(); ) {
+                T premier = a.next();
+                for (Iterator<T> c = EnsembleVue.iterateur(images); c.hasNext(); ) {
+                    resultat.add(new CoupleImpl<>(premier, c.next()));
+                }
+            }
+        }
+        return RelationImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule la relation réciproque.
+     *
+     * @param <T> le type des éléments
+     * @param r la relation
+     * @return les couples (b, a) tels que (a, b) appartient à r
+     */
+    static <T> Relation<T> inverser(Relation<T> r) {
+        Set<Couple<T, T>> resultat = new HashSet<>(r.elements().size() * 4 / 3 + 1);
+        for (Couple<T, T> couple : r.elements()) {
+            resultat.add(new CoupleImpl<>(couple.getDeuxieme(), couple.getPremier()));
+        }
+        return RelationImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule la réunion de deux relations : la plus grande est copiée, la plus petite y est ajoutée.
+     *
+     * @param <T> le type des éléments
+     * @param r la première relation
+     * @param s la seconde relation
+     * @return les couples présents dans l'une ou l'autre relation
+     */
+    static <T> Relation<T> reunir(Relation<T> r, Relation<T> s) {
+        Set<Couple<T, T>> grand = r.elements();
+        Set<Couple<T, T>> petit = s.elements();
+        if (petit.size() > grand.size()) {
+            grand = s.elements();
+            petit = r.elements();
+        }
+        Set<Couple<T, T>> resultat = new HashSet<>(grand);
+        resultat.addAll(petit);
+        return RelationImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule l'intersection de deux relations en parcourant la plus petite
+     * et en cherchant chacun de ses couples dans la plus grande.
+     *
+     * @param <T> le type des éléments
+     * @param r la première relation
+     * @param s la seconde relation
+     * @return les couples présents dans les deux relations
+     */
+    static <T> Relation<T> intersecter(Relation<T> r, Relation<T> s) {
+        Relation<T> grande = r;
+        Relation<T> petite = s;
+        if (petite.elements().size() > grande.elements().size()) {
+            grande = s;
+            petite = r;
+        }
+        Set<Couple<T, T>> resultat = new HashSet<>();
+        for (Couple<T, T> couple : petite.elements()) {
+            if (grande.contient(couple)) {
+                resultat.add(couple);
+            }
+        }
+        return RelationImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule l'image d'un élément en parcourant tous les couples de la relation, pour les
+     * implémentations qui n'ont pas d'index.
+     *
+     * @param <T> le type des éléments
+     * @param r la relation
+     * @param x l'élément
+     * @return les b tels que (x, b) appartient à r
+     */
+    static <T> Ensemble<T> imageElement(Relation<T> r, T x) {
+        Set<T> resultat = new HashSet<>();
+        for (Couple<T, T> couple : r.elements()) {
+            if (Objects.equals(couple.getPremier(), x)) {
+                resultat.add(couple.getDeuxieme());
+            }
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule l'image réciproque d'un élément en parcourant tous les couples de la relation.
+     *
+     * @param <T> le type des éléments
+     * @param r la relation
+     * @param x l'élément
+     * @return les a tels que (a, x) appartient à r
+     */
+    static <T> Ensemble<T> preImageElement(Relation<T> r, T x) {
+        Set<T> resultat = new HashSet<>();
+        for (Couple<T, T> couple : r.elements()) {
+            if (Objects.equals(couple.getDeuxieme(), x)) {
+                resultat.add(couple.getPremier());
+            }
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Calcule l'image d'un ensemble : la réunion des images de ses éléments.
+     *
+     * @param <T> le type des éléments
+     * @param r la relation
+     * @param ensemble l'ensemble de départ
+     * @return les b tels qu'il existe a dans l'ensemble avec (a, b) dans r
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    static <T> Ensemble<T> image(Relation<T> r, Ensemble<T> ensemble) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(ensemble);
+        Set<T> resultat = new HashSet<>();
+        for (Iterator<T> a = EnsembleVue.iterateur(ensemble); a.hasNext(); ) {
+            for (Iterator<T> b = EnsembleVue.iterateur(r.image(a.next())); b.hasNext(); ) {
+                resultat.add(b.next());
+            }
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+}
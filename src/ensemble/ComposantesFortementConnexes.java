@@ -0,0 +1,31 @@
+package ensemble;
+
+/**
+ * Interface représentant la décomposition d'une relation, vue comme un graphe orienté, en
+ * composantes fortement connexes : deux éléments sont dans la même composante si chacun est
+ * atteignable depuis l'autre par une suite de couples de la relation.
+ * Les composantes forment une partition des éléments de la relation ; le graphe condensé,
+ * dont les sommets sont les composantes, est sans cycle.
+ * La décomposition est immuable.
+ *
+ * @param <T> Le type des éléments de la relation
+ */
+public interface ComposantesFortementConnexes<T> extends Partition<T> {
+
+    /**
+     * Retourne la relation condensée : le couple (C, D) lui appartient si C et D sont deux
+     * composantes distinctes et qu'un couple de la relation va d'un élément de C à un élément de D.
+     * Les composantes sont les ensembles retournés par {@link #classes()}.
+     *
+     * @return Une relation immuable sans cycle entre les composantes
+     */
+    Relation<Ensemble<T>> condensation();
+
+    /**
+     * Détermine si la relation est sans cycle : aucune composante n'a plus d'un élément
+     * et aucun élément n'est en relation avec lui-même.
+     *
+     * @return true si la relation ne contient aucun cycle, false sinon
+     */
+    boolean estAcyclique();
+}
@@ -0,0 +1,170 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface ComposantesFortementConnexes par l'algorithme de Tarjan.
+ * Le calcul, confié à {@link Graphe}, est itératif : il n'utilise que des tableaux d'entiers
+ * indexés par les numéros des éléments, en temps linéaire en le nombre de couples, et traite
+ * des relations de plusieurs millions de couples sans dépassement de pile.
+ * Les composantes et la relation condensée sont construites au premier appel qui en a besoin.
+ * La décomposition est immuable.
+ *
+ * @param <T> Le type des éléments de la relation
+ */
+class ComposantesTarjan<T> implements ComposantesFortementConnexes<T> {
+
+    /** Le graphe de la relation, qui numérote ses éléments. */
+    private final Graphe<T> graphe;
+
+    /** Le numéro de composante de chaque élément, dans l'ordre topologique inverse. */
+    private final int[] composanteDe;
+
+    /** Le nombre de composantes. */
+    private final int nombreComposantes;
+
+    /** Vrai si la relation ne contient aucun cycle. */
+    private final boolean acyclique;
+
+    /**
+     * Les composantes, construites au premier appel d'une méthode qui en a besoin.
+     * Deux fils peuvent les construire en même temps sans inconvénient.
+     */
+    private List<Ensemble<T>> composantes;
+
+    /** La relation condensée, construite au premier appel de la même manière. */
+    private Relation<Ensemble<T>> condensation;
+
+    /**
+     * Décompose une relation en composantes fortement connexes.
+     *
+     * @param relation la relation
+     */
+    ComposantesTarjan(Relation<T> relation) {
+        this.graphe = new Graphe<>(relation.elements());
+        this.composanteDe = graphe.composantes();
+        int n = graphe.nbSommets();
+        int[] tailles = new int[n];
+        int nb = 0;
+        boolean sansCycle = true;
+        for (int v = 0; v < n; v++) {
+            int c = composanteDe[v];
+            nb = Math.max(nb, c + 1);
+            if (++tailles[c] > 1 || sansCycle && relation.contient(graphe.sommet(v), graphe.sommet(v))) {
+                sansCycle = false;
+            }
+        }
+        this.nombreComposantes = nb;
+        this.acyclique = sansCycle;
+    }
+
+    /**
+     * Détermine si deux éléments appartiennent à la même composante.
+     *
+     * @param a le premier élément
+     * @param b le deuxième élément
+     * @return {@code true} si les deux éléments sont dans la relation et dans la même composante
+     */
+    @Override
+    public boolean memeClasse(T a, T b) {
+        Integer va = graphe.numeroDe(a);
+        Integer vb = graphe.numeroDe(b);
+        return va != null && vb != null && composanteDe[va] == composanteDe[vb];
+    }
+
+    /**
+     * Retourne la composante d'un élément.
+     *
+     * @param element l'élément
+     * @return sa composante, ou un ensemble vide si l'élément n'est pas dans la relation
+     */
+    @Override
+    public Ensemble<T> classe(T element) {
+        Integer v = graphe.numeroDe(element);
+        if (v == null) {
+            return EnsembleImpl.sansCopie(new HashSet<>());
+        }
+        return listeComposantes().get(composanteDe[v]);
+    }
+
+    /**
+     * Retourne le nombre de composantes.
+     *
+     * @return le nombre de composantes
+     */
+    @Override
+    public int nombreClasses() {
+        return nombreComposantes;
+    }
+
+    /**
+     * Retourne l'ensemble des composantes.
+     *
+     * @return un ensemble immuable contenant chaque composante
+     */
+    @Override
+    public Ensemble<Ensemble<T>> classes() {
+        return EnsembleImpl.sansCopie(new HashSet<>(listeComposantes()));
+    }
+
+    /**
+     * Retourne la relation condensée, en la construisant si nécessaire à partir des arcs
+     * entre composantes calculés par le graphe.
+     *
+     * @return la relation entre composantes
+     */
+    @Override
+    public Relation<Ensemble<T>> condensation() {
+        Relation<Ensemble<T>> r = condensation;
+        if (r == null) {
+            List<Ensemble<T>> liste = listeComposantes();
+            int[][] arcs = graphe.arcsCondenses(composanteDe, nombreComposantes);
+            Set<Couple<Ensemble<T>, Ensemble<T>>> couples = new HashSet<>();
+            for (int c = 0; c < nombreComposantes; c++) {
+                for (int d : arcs[c]) {
+                    couples.add(new CoupleImpl<>(liste.get(c), liste.get(d)));
+                }
+            }
+            r = RelationImpl.sansCopie(couples);
+            condensation = r;
+        }
+        return r;
+    }
+
+    /**
+     * Détermine si la relation est sans cycle.
+     *
+     * @return {@code true} si la relation ne contient aucun cycle
+     */
+    @Override
+    public boolean estAcyclique() {
+        return acyclique;
+    }
+
+    /**
+     * Retourne les composantes, indexées par leur numéro, en les construisant si nécessaire.
+     *
+     * @return la liste des composantes
+     */
+    private List<Ensemble<T>> listeComposantes() {
+        List<Ensemble<T>> c = composantes;
+        if (c == null) {
+            List<Set<T>> membres = new ArrayList<>(nombreComposantes);
+            for (int k = 0; k < nombreComposantes; k++) {
+                membres.add(new HashSet<>());
+            }
+            for (int v = 0; v < composanteDe.length; v++) {
+                membres.get(composanteDe[v]).add(graphe.sommet(v));
+            }
+            c = new ArrayList<>(nombreComposantes);
+            for (Set<T> m : membres) {
+                c.add(EnsembleImpl.sansCopie(m));
+            }
+            composantes = c;
+        }
+        return c;
+    }
+}
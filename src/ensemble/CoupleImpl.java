@@ -82,12 +82,14 @@ class CoupleImpl<A, B> implements Couple<A, B> {
 	
 	/**
 	 * Retourne le code de hachage de ce couple, basé sur ses éléments.
+	 * La valeur est celle de {@code Objects.hash(premier, deuxieme)}, calculée sans
+	 * créer le tableau d'arguments.
 	 *
 	 * @return le code de hachage
 	 */
     @Override
     public int hashCode() {
-        return Objects.hash(premier, deuxieme);
+        return 31 * (31 + Objects.hashCode(premier)) + Objects.hashCode(deuxieme);
     }
 
 	/**
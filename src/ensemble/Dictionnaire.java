@@ -0,0 +1,106 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionnaire d'éléments, qui attribue à chaque élément un numéro dense à partir de 0.
+ * Un élément garde son numéro pour toute la vie du dictionnaire : des ensembles construits sur
+ * un même dictionnaire (voir {@link FabriqueEnsemble#creerEnsembleDictionnaire(Dictionnaire, java.util.Set)})
+ * représentent leurs éléments par une bitmap compressée de ces numéros, et font leurs opérations
+ * ensemblistes sur les numéros sans comparer les éléments eux-mêmes.
+ * Le dictionnaire ne fait que grandir. Il peut être partagé entre plusieurs fils : la recherche
+ * d'un numéro et d'un élément se fait sans verrou, seule l'attribution d'un nouveau numéro est
+ * synchronisée.
+ *
+ * @param <T> Le type des éléments numérotés
+ */
+public final class Dictionnaire<T> {
+
+    /** Le numéro de chaque élément. */
+    private final Map<T, Integer> numeros = new ConcurrentHashMap<>();
+
+    /**
+     * L'élément de chaque numéro. Le tableau est republié après chaque attribution, pour que
+     * l'élément d'un numéro obtenu par un autre fil soit visible.
+     */
+    private volatile Object[] elements = new Object[16];
+
+    /** Le nombre d'éléments numérotés. */
+    private volatile int taille = 0;
+
+    /**
+     * Crée un dictionnaire vide.
+     */
+    public Dictionnaire() {
+    }
+
+    /**
+     * Retourne le numéro d'un élément, en lui attribuant le suivant s'il n'en a pas encore.
+     *
+     * @param element l'élément
+     * @return son numéro
+     * @throws IllegalArgumentException si l'élément est null
+     */
+    public int numero(T element) throws IllegalArgumentException {
+        if (element == null) {
+            throw new IllegalArgumentException("Un dictionnaire ne peut pas contenir null");
+        }
+        Integer v = numeros.get(element);
+        if (v != null) {
+            return v;
+        }
+        synchronized (this) {
+            v = numeros.get(element);
+            if (v != null) {
+                return v;
+            }
+            int n = taille;
+            Object[] tableau = elements;
+            if (n == tableau.length) {
+                tableau = Arrays.copyOf(tableau, 2 * n);
+            }
+            tableau[n] = element;
+            elements = tableau;
+            taille = n + 1;
+            numeros.put(element, n);
+            return n;
+        }
+    }
+
+    /**
+     * Retourne le numéro d'un élément sans lui en attribuer.
+     *
+     * @param element l'élément
+     * @return son numéro, ou −1 s'il n'en a pas
+     */
+    public int chercher(Object element) {
+        Integer v = element == null ? null : numeros.get(element);
+        return v == null ? -1 : v;
+    }
+
+    /**
+     * Retourne l'élément d'un numéro.
+     *
+     * @param numero le numéro
+     * @return l'élément qui porte ce numéro
+     * @throws IllegalArgumentException si aucun élément ne porte ce numéro
+     */
+    @SuppressWarnings("unchecked")
+    public T element(int numero) throws IllegalArgumentException {
+        if (numero < 0 || numero >= taille) {
+            throw new IllegalArgumentException("Aucun élément ne porte le numéro " + numero);
+        }
+        return (T) elements[numero];
+    }
+
+    /**
+     * Retourne le nombre d'éléments numérotés.
+     *
+     * @return le nombre d'éléments
+     */
+    public int taille() {
+        return taille;
+    }
+}
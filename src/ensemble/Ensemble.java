@@ -75,6 +75,8 @@ public interface Ensemble<T> {
 
     /**
      * Retourne un ensemble représentant tous les éléments de l'ensemble actuel.
+     * Le Set retourné est une vue en lecture seule : il n'est pas copié et toute
+     * tentative de modification lève une {@link UnsupportedOperationException}.
      * 
      * @return Un ensemble représentant tous les éléments de l'ensemble actuel
      */
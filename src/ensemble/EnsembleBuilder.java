@@ -0,0 +1,78 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Constructeur mutable d'ensembles.
+ * Les éléments sont ajoutés un à un dans un Set interne, qui est ensuite transmis
+ * tel quel (sans copie) à l'ensemble immuable créé par {@link #construire()}.
+ * Après {@code construire()}, le constructeur repart d'un Set vide et peut être réutilisé.
+ *
+ * @param <T> Le type des éléments de l'ensemble
+ */
+public class EnsembleBuilder<T> {
+
+    /** Les éléments ajoutés depuis la dernière construction. */
+    private Set<T> elements;
+
+    /**
+     * Crée un constructeur d'ensemble vide.
+     */
+    public EnsembleBuilder() {
+        this.elements = new HashSet<>();
+    }
+
+    /**
+     * Crée un constructeur d'ensemble vide dimensionné pour recevoir un nombre d'éléments
+     * connu à l'avance, afin d'éviter les redimensionnements successifs de la table.
+     *
+     * @param capaciteAttendue le nombre d'éléments attendu
+     * @throws IllegalArgumentException si la capacité est négative
+     */
+    public EnsembleBuilder(int capaciteAttendue) throws IllegalArgumentException {
+        if (capaciteAttendue < 0) {
+            throw new IllegalArgumentException("La capacité ne peut pas être négative");
+        }
+        this.elements = new HashSet<>((int) Math.min((long) (capaciteAttendue / 0.75f) + 1, 1 << 30));
+    }
+
+    /**
+     * Ajoute un élément à l'ensemble en construction.
+     *
+     * @param element l'élément à ajouter
+     * @return ce constructeur, pour enchaîner les appels
+     */
+    public EnsembleBuilder<T> ajouter(T element) {
+        elements.add(element);
+        return this;
+    }
+
+    /**
+     * Ajoute tous les éléments d'un ensemble à l'ensemble en construction.
+     *
+     * @param ensemble l'ensemble dont les éléments sont ajoutés
+     * @return ce constructeur, pour enchaîner les appels
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    public EnsembleBuilder<T> ajouterTout(Ensemble<T> ensemble) throws IllegalArgumentException {
+        if (ensemble == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        elements.addAll(ensemble.elements());
+        return this;
+    }
+
+    /**
+     * Crée l'ensemble immuable contenant les éléments ajoutés.
+     * Le Set interne est transmis à l'ensemble sans être copié ; le constructeur
+     * en utilise ensuite un nouveau.
+     *
+     * @return l'ensemble immuable construit
+     */
+    public Ensemble<T> construire() {
+        Ensemble<T> resultat = EnsembleImpl.sansCopie(elements);
+        elements = new HashSet<>();
+        return resultat;
+    }
+}
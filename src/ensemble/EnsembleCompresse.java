@@ -0,0 +1,1064 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation compressée de l'interface Ensemble pour les entiers (principe des "Roaring bitmaps").
+ * L'espace des entiers 32 bits est découpé en tranches de 65536 valeurs, identifiées par
+ * leurs 16 bits de poids fort. Chaque tranche non vide est stockée dans un conteneur qui
+ * choisit sa représentation selon la densité :
+ * <ul>
+ *   <li>un tableau trié des 16 bits de poids faible (tranche peu remplie) ;</li>
+ *   <li>un tableau de 1024 mots de 64 bits (tranche dense) ;</li>
+ *   <li>une liste de plages [début, fin] (valeurs consécutives).</li>
+ * </ul>
+ * Les opérations ensemblistes travaillent conteneur par conteneur, sans jamais reconstruire
+ * l'ensemble complet, et les tranches présentes dans un seul opérande sont partagées telles quelles.
+ * L'ensemble est immuable.
+ */
+class EnsembleCompresse implements EnsembleParcourable<Integer> {
+
+    /** Nombre maximal d'éléments d'un conteneur tableau (au-delà, le tableau de bits est plus petit). */
+    private static final int SEUIL_TABLEAU = 4096;
+
+    /** Nombre de mots de 64 bits d'un conteneur tableau de bits. */
+    private static final int MOTS_PAR_TRANCHE = 1024;
+
+    /** Nombre de valeurs d'une tranche. */
+    private static final int TAILLE_TRANCHE = 65536;
+
+    /** Taille en octets d'un conteneur tableau de bits. */
+    private static final int OCTETS_BITMAP = MOTS_PAR_TRANCHE * 8;
+
+    /** Les opérations ensemblistes appliquées tranche par tranche. */
+    private enum Operation { UNION, INTERSECTION, DIFFERENCE, DIFF_SYMETRIQUE }
+
+    /** Les clés (16 bits de poids fort décalés pour respecter l'ordre signé) des tranches non vides, triées. */
+    private final char[] cles;
+
+    /** Le conteneur de chaque tranche, au même indice que sa clé. */
+    private final Conteneur[] conteneurs;
+
+    /** Le cardinal, calculé une seule fois à la construction. */
+    private final int cardinal;
+
+    /**
+     * Constructeur pour créer un ensemble compressé à partir d'un Set d'entiers.
+     *
+     * @param elements Le Set des entiers à mettre dans l'ensemble
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    public EnsembleCompresse(Set<Integer> elements) throws IllegalArgumentException {
+        this(valeursDe(elements), elements.size());
+    }
+
+    /**
+     * Constructeur interne à partir d'un tableau d'entiers distincts, dans un ordre quelconque.
+     * Le tableau est trié sur place.
+     *
+     * @param valeurs les entiers
+     * @param n le nombre d'entiers utilisés dans le tableau
+     */
+    private EnsembleCompresse(int[] valeurs, int n) {
+        Arrays.sort(valeurs, 0, n);
+
+        char[] clesTemp = new char[n];
+        Conteneur[] conteneursTemp = new Conteneur[n];
+        int nbTranches = 0;
+        int debut = 0;
+        while (debut < n) {
+            char cle = cle(valeurs[debut]);
+            int fin = debut;
+            while (fin < n && cle(valeurs[fin]) == cle) {
+                fin++;
+            }
+            char[] basses = new char[fin - debut];
+            for (int i = debut; i < fin; i++) {
+                basses[i - debut] = (char) valeurs[i];
+            }
+            clesTemp[nbTranches] = cle;
+            conteneursTemp[nbTranches] = depuisValeurs(basses, basses.length);
+            nbTranches++;
+            debut = fin;
+        }
+        this.cles = Arrays.copyOf(clesTemp, nbTranches);
+        this.conteneurs = Arrays.copyOf(conteneursTemp, nbTranches);
+        this.cardinal = n;
+    }
+
+    /**
+     * Crée un ensemble à partir d'un tableau d'entiers distincts, sans copie du tableau,
+     * qui est trié sur place.
+     *
+     * @param valeurs les entiers, dont la propriété est transférée
+     * @param n le nombre d'entiers utilisés dans le tableau
+     * @return le nouvel ensemble
+     */
+    static EnsembleCompresse depuisEntiers(int[] valeurs, int n) {
+        return new EnsembleCompresse(valeurs, n);
+    }
+
+    /**
+     * Copie les entiers d'un Set dans un tableau.
+     *
+     * @param elements le Set des entiers
+     * @return le tableau des entiers
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    private static int[] valeursDe(Set<Integer> elements) throws IllegalArgumentException {
+        if (elements == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        int[] valeurs = new int[elements.size()];
+        int n = 0;
+        for (Integer e : elements) {
+            if (e == null) {
+                throw new IllegalArgumentException("Un ensemble d'entiers ne peut pas contenir null");
+            }
+            valeurs[n++] = e;
+        }
+        return valeurs;
+    }
+
+    /**
+     * Constructeur interne utilisé par les opérations ensemblistes.
+     * Seules les {@code n} premières tranches des tableaux sont conservées.
+     *
+     * @param cles les clés des tranches
+     * @param conteneurs les conteneurs des tranches
+     * @param n le nombre de tranches utilisées
+     */
+    private EnsembleCompresse(char[] cles, Conteneur[] conteneurs, int n) {
+        this.cles = n == cles.length ? cles : Arrays.copyOf(cles, n);
+        this.conteneurs = n == conteneurs.length ? conteneurs : Arrays.copyOf(conteneurs, n);
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            total += conteneurs[i].cardinal();
+        }
+        this.cardinal = total;
+    }
+
+    /**
+     * Retourne la clé de la tranche contenant un entier.
+     * La clé est décalée de 32768 pour que l'ordre des clés suive l'ordre des entiers signés.
+     *
+     * @param valeur l'entier
+     * @return la clé de sa tranche
+     */
+    private static char cle(int valeur) {
+        return (char) ((valeur >> 16) + 32768);
+    }
+
+    /**
+     * Reconstitue un entier à partir de la clé de sa tranche et de ses 16 bits de poids faible.
+     *
+     * @param cle la clé de la tranche
+     * @param basse les 16 bits de poids faible
+     * @return l'entier correspondant
+     */
+    private static int recomposer(char cle, int basse) {
+        return ((cle - 32768) << 16) | basse;
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return cardinal;
+    }
+
+    /**
+     * Vérifie si un entier donné appartient à l'ensemble.
+     *
+     * @param element l'entier à rechercher
+     * @return {@code true} si l'entier est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Integer element) {
+        if (element == null) {
+            return false;
+        }
+        return contient(element.intValue());
+    }
+
+    /**
+     * Vérifie si un entier primitif appartient à l'ensemble.
+     * Une recherche dichotomique trouve la tranche, puis le conteneur répond sans allocation.
+     *
+     * @param element l'entier à rechercher
+     * @return {@code true} si l'entier est présent, {@code false} sinon
+     */
+    public boolean contient(int element) {
+        int indice = Arrays.binarySearch(cles, cle(element));
+        return indice >= 0 && conteneurs[indice].contient((char) element);
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble d'entiers.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> union(Ensemble<Integer> autre) throws IllegalArgumentException {
+        return combiner(versEnsembleCompresse(autre), Operation.UNION);
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble d'entiers.
+     * Avec une autre implémentation, le plus petit des deux ensembles est parcouru et
+     * chacun de ses éléments est cherché dans l'autre, sans conversion.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> intersection(Ensemble<Integer> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (!(autre instanceof EnsembleCompresse)) {
+            if (this.cardinal <= autre.cardinal()) {
+                return filtrer(iterateur(), this.cardinal, autre, true);
+            }
+            return filtrer(EnsembleVue.iterateur(autre), autre.cardinal(), this, true);
+        }
+        return combiner((EnsembleCompresse) autre, Operation.INTERSECTION);
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble d'entiers.
+     * Avec une autre implémentation plus grande que cet ensemble, ses éléments sont
+     * filtrés par appartenance à l'autre au lieu de le convertir.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> difference(Ensemble<Integer> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (!(autre instanceof EnsembleCompresse) && this.cardinal <= autre.cardinal()) {
+            return filtrer(iterateur(), this.cardinal, autre, false);
+        }
+        return combiner(versEnsembleCompresse(autre), Operation.DIFFERENCE);
+    }
+
+    /**
+     * Construit un ensemble compressé à partir des entiers d'un itérateur qui sont (ou ne sont pas)
+     * dans un ensemble donné.
+     *
+     * @param source l'itérateur sur des entiers distincts
+     * @param taille le nombre d'entiers produits par l'itérateur
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les entiers présents dans {@code sonde}
+     * @return le nouvel ensemble
+     */
+    private static EnsembleCompresse filtrer(Iterator<Integer> source, int taille, Ensemble<Integer> sonde,
+            boolean presents) {
+        int[] valeurs = new int[taille];
+        int n = 0;
+        while (source.hasNext()) {
+            Integer e = source.next();
+            if (sonde.contient(e) == presents) {
+                valeurs[n++] = e;
+            }
+        }
+        return new EnsembleCompresse(valeurs, n);
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble d'entiers.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> diffSymetrique(Ensemble<Integer> autre) throws IllegalArgumentException {
+        return combiner(versEnsembleCompresse(autre), Operation.DIFF_SYMETRIQUE);
+    }
+
+    /**
+     * Combine les tranches de deux ensembles compressés.
+     * Les clés sont fusionnées comme deux listes triées : une tranche présente d'un seul côté
+     * est reprise (sans copie) ou ignorée selon l'opération, une tranche commune est combinée
+     * conteneur à conteneur.
+     *
+     * @param b l'autre ensemble
+     * @param operation l'opération à appliquer
+     * @return le nouvel ensemble
+     */
+    private EnsembleCompresse combiner(EnsembleCompresse b, Operation operation) {
+        boolean garderA = operation != Operation.INTERSECTION;
+        boolean garderB = operation == Operation.UNION || operation == Operation.DIFF_SYMETRIQUE;
+        char[] resCles = new char[this.cles.length + b.cles.length];
+        Conteneur[] resConteneurs = new Conteneur[resCles.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < this.cles.length && j < b.cles.length) {
+            if (this.cles[i] < b.cles[j]) {
+                if (garderA) {
+                    resCles[n] = this.cles[i];
+                    resConteneurs[n++] = this.conteneurs[i];
+                }
+                i++;
+            } else if (this.cles[i] > b.cles[j]) {
+                if (garderB) {
+                    resCles[n] = b.cles[j];
+                    resConteneurs[n++] = b.conteneurs[j];
+                }
+                j++;
+            } else {
+                Conteneur c = operer(this.conteneurs[i], b.conteneurs[j], operation);
+                if (c != null) {
+                    resCles[n] = this.cles[i];
+                    resConteneurs[n++] = c;
+                }
+                i++;
+                j++;
+            }
+        }
+        for (; garderA && i < this.cles.length; i++) {
+            resCles[n] = this.cles[i];
+            resConteneurs[n++] = this.conteneurs[i];
+        }
+        for (; garderB && j < b.cles.length; j++) {
+            resCles[n] = b.cles[j];
+            resConteneurs[n++] = b.conteneurs[j];
+        }
+        return new EnsembleCompresse(resCles, resConteneurs, n);
+    }
+
+    /**
+     * Applique une opération à deux conteneurs de la même tranche.
+     * Les cas tableau/tableau et plages/plages sont traités par fusion ; l'intersection et la
+     * différence d'un tableau filtrent ses valeurs ; les autres cas passent par un tableau de bits
+     * de la tranche (8 Ko).
+     *
+     * @param a le conteneur de gauche
+     * @param b le conteneur de droite
+     * @param operation l'opération
+     * @return le conteneur résultat, ou {@code null} si la tranche résultat est vide
+     */
+    private static Conteneur operer(Conteneur a, Conteneur b, Operation operation) {
+        if (a instanceof Tableau && b instanceof Tableau) {
+            return fusionner(((Tableau) a).valeurs, ((Tableau) b).valeurs, operation);
+        }
+        switch (operation) {
+            case UNION:
+                if (a instanceof Plages && b instanceof Plages) {
+                    return unionPlages((Plages) a, (Plages) b);
+                }
+                long[] union = a.enBits();
+                b.ouDans(union);
+                return depuisBits(union);
+            case INTERSECTION:
+                if (a instanceof Tableau) {
+                    return filtrer((Tableau) a, b, true);
+                }
+                if (b instanceof Tableau) {
+                    return filtrer((Tableau) b, a, true);
+                }
+                if (a instanceof Plages && b instanceof Plages) {
+                    return intersectionPlages((Plages) a, (Plages) b);
+                }
+                long[] intersection = a.enBits();
+                b.etDans(intersection);
+                return depuisBits(intersection);
+            case DIFFERENCE:
+                if (a instanceof Tableau) {
+                    return filtrer((Tableau) a, b, false);
+                }
+                long[] difference = a.enBits();
+                b.etNonDans(difference);
+                return depuisBits(difference);
+            default:
+                long[] diffSym = a.enBits();
+                b.xorDans(diffSym);
+                return depuisBits(diffSym);
+        }
+    }
+
+    /**
+     * Fusionne deux tableaux triés de valeurs selon l'opération demandée.
+     *
+     * @param a les valeurs de gauche
+     * @param b les valeurs de droite
+     * @param operation l'opération
+     * @return le conteneur résultat, ou {@code null} s'il est vide
+     */
+    private static Conteneur fusionner(char[] a, char[] b, Operation operation) {
+        boolean garderA = operation != Operation.INTERSECTION;
+        boolean garderB = operation == Operation.UNION || operation == Operation.DIFF_SYMETRIQUE;
+        boolean garderCommun = operation == Operation.UNION || operation == Operation.INTERSECTION;
+        char[] resultat = new char[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                if (garderA) {
+                    resultat[n++] = a[i];
+                }
+                i++;
+            } else if (a[i] > b[j]) {
+                if (garderB) {
+                    resultat[n++] = b[j];
+                }
+                j++;
+            } else {
+                if (garderCommun) {
+                    resultat[n++] = a[i];
+                }
+                i++;
+                j++;
+            }
+        }
+        for (; garderA && i < a.length; i++) {
+            resultat[n++] = a[i];
+        }
+        for (; garderB && j < b.length; j++) {
+            resultat[n++] = b[j];
+        }
+        return depuisValeurs(resultat, n);
+    }
+
+    /**
+     * Garde les valeurs d'un tableau qui sont (ou ne sont pas) dans un autre conteneur.
+     *
+     * @param a le tableau à filtrer
+     * @param b le conteneur de référence
+     * @param presentes {@code true} pour garder les valeurs présentes dans b, {@code false} pour les absentes
+     * @return le conteneur résultat, ou {@code null} s'il est vide
+     */
+    private static Conteneur filtrer(Tableau a, Conteneur b, boolean presentes) {
+        char[] resultat = new char[a.valeurs.length];
+        int n = 0;
+        for (char v : a.valeurs) {
+            if (b.contient(v) == presentes) {
+                resultat[n++] = v;
+            }
+        }
+        return depuisValeurs(resultat, n);
+    }
+
+    /**
+     * Calcule l'union de deux listes de plages en fusionnant les plages qui se chevauchent ou se touchent.
+     *
+     * @param a les plages de gauche
+     * @param b les plages de droite
+     * @return le conteneur résultat
+     */
+    private static Conteneur unionPlages(Plages a, Plages b) {
+        char[] resultat = new char[a.plages.length + b.plages.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.plages.length || j < b.plages.length) {
+            char[] source;
+            int indice;
+            if (j >= b.plages.length || (i < a.plages.length && a.plages[i] <= b.plages[j])) {
+                source = a.plages;
+                indice = i;
+                i += 2;
+            } else {
+                source = b.plages;
+                indice = j;
+                j += 2;
+            }
+            if (n > 0 && source[indice] <= resultat[n - 1] + 1) {
+                resultat[n - 1] = (char) Math.max(resultat[n - 1], source[indice + 1]);
+            } else {
+                resultat[n++] = source[indice];
+                resultat[n++] = source[indice + 1];
+            }
+        }
+        return depuisPlages(resultat, n);
+    }
+
+    /**
+     * Calcule l'intersection de deux listes de plages.
+     *
+     * @param a les plages de gauche
+     * @param b les plages de droite
+     * @return le conteneur résultat, ou {@code null} s'il est vide
+     */
+    private static Conteneur intersectionPlages(Plages a, Plages b) {
+        char[] resultat = new char[a.plages.length + b.plages.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.plages.length && j < b.plages.length) {
+            int debut = Math.max(a.plages[i], b.plages[j]);
+            int fin = Math.min(a.plages[i + 1], b.plages[j + 1]);
+            if (debut <= fin) {
+                resultat[n++] = (char) debut;
+                resultat[n++] = (char) fin;
+            }
+            if (a.plages[i + 1] < b.plages[j + 1]) {
+                i += 2;
+            } else {
+                j += 2;
+            }
+        }
+        return depuisPlages(resultat, n);
+    }
+
+    /**
+     * Choisit le meilleur conteneur pour des valeurs triées et distinctes.
+     *
+     * @param valeurs les valeurs (seules les n premières sont utilisées)
+     * @param n le nombre de valeurs
+     * @return le conteneur le plus compact, ou {@code null} si n vaut 0
+     */
+    private static Conteneur depuisValeurs(char[] valeurs, int n) {
+        if (n == 0) {
+            return null;
+        }
+        if (n > SEUIL_TABLEAU) {
+            long[] bits = new long[MOTS_PAR_TRANCHE];
+            for (int i = 0; i < n; i++) {
+                bits[valeurs[i] >>> 6] |= 1L << valeurs[i];
+            }
+            return depuisBits(bits);
+        }
+        int nbPlages = 1;
+        for (int i = 1; i < n; i++) {
+            if (valeurs[i] != valeurs[i - 1] + 1) {
+                nbPlages++;
+            }
+        }
+        if (4 * nbPlages < 2 * n) {
+            char[] plages = new char[2 * nbPlages];
+            int p = 0;
+            plages[p++] = valeurs[0];
+            for (int i = 1; i < n; i++) {
+                if (valeurs[i] != valeurs[i - 1] + 1) {
+                    plages[p++] = valeurs[i - 1];
+                    plages[p++] = valeurs[i];
+                }
+            }
+            plages[p] = valeurs[n - 1];
+            return new Plages(plages);
+        }
+        return new Tableau(n == valeurs.length ? valeurs : Arrays.copyOf(valeurs, n));
+    }
+
+    /**
+     * Choisit le meilleur conteneur pour une liste de plages triées et disjointes.
+     *
+     * @param plages les plages (seules les n premières bornes sont utilisées)
+     * @param n le nombre de bornes (deux par plage)
+     * @return le conteneur le plus compact, ou {@code null} si la liste est vide
+     */
+    private static Conteneur depuisPlages(char[] plages, int n) {
+        if (n == 0) {
+            return null;
+        }
+        int total = 0;
+        for (int i = 0; i < n; i += 2) {
+            total += plages[i + 1] - plages[i] + 1;
+        }
+        if (2 * n <= Math.min(2 * total, OCTETS_BITMAP)) {
+            return new Plages(n == plages.length ? plages : Arrays.copyOf(plages, n));
+        }
+        long[] bits = new long[MOTS_PAR_TRANCHE];
+        for (int i = 0; i < n; i += 2) {
+            remplirPlage(bits, plages[i], plages[i + 1]);
+        }
+        return total <= SEUIL_TABLEAU ? new Tableau(valeursDe(bits, total)) : new Bitmap(bits, total);
+    }
+
+    /**
+     * Choisit le meilleur conteneur pour une tranche donnée sous forme de tableau de bits.
+     * La taille de chaque représentation est estimée (2 octets par valeur pour le tableau,
+     * 4 octets par plage, 8 Ko pour le tableau de bits) et la plus petite est retenue.
+     *
+     * @param bits les 1024 mots de la tranche (repris sans copie si le tableau de bits est retenu)
+     * @return le conteneur le plus compact, ou {@code null} si la tranche est vide
+     */
+    private static Conteneur depuisBits(long[] bits) {
+        int total = 0;
+        int nbPlages = 0;
+        long retenue = 0L;
+        for (long mot : bits) {
+            total += Long.bitCount(mot);
+            // un début de plage est un bit à 1 dont le bit précédent est à 0
+            nbPlages += Long.bitCount(mot & ~((mot << 1) | retenue));
+            retenue = mot >>> 63;
+        }
+        if (total == 0) {
+            return null;
+        }
+        if (4 * nbPlages < Math.min(2 * total, OCTETS_BITMAP)) {
+            char[] plages = new char[2 * nbPlages];
+            int p = 0;
+            int debut = prochainBit(bits, 0, true);
+            while (debut < TAILLE_TRANCHE) {
+                int fin = prochainBit(bits, debut, false);
+                plages[p++] = (char) debut;
+                plages[p++] = (char) (fin - 1);
+                debut = prochainBit(bits, fin, true);
+            }
+            return new Plages(plages);
+        }
+        return total <= SEUIL_TABLEAU ? new Tableau(valeursDe(bits, total)) : new Bitmap(bits, total);
+    }
+
+    /**
+     * Extrait les valeurs d'un tableau de bits, dans l'ordre croissant.
+     *
+     * @param bits les mots de la tranche
+     * @param total le nombre de bits à 1
+     * @return les valeurs triées
+     */
+    private static char[] valeursDe(long[] bits, int total) {
+        char[] valeurs = new char[total];
+        int n = 0;
+        for (int i = 0; i < bits.length; i++) {
+            long mot = bits[i];
+            while (mot != 0L) {
+                valeurs[n++] = (char) (i * 64 + Long.numberOfTrailingZeros(mot));
+                mot &= mot - 1;
+            }
+        }
+        return valeurs;
+    }
+
+    /**
+     * Cherche la première position à partir de {@code depuis} dont le bit vaut {@code valeur}.
+     *
+     * @param bits les mots de la tranche
+     * @param depuis la position de départ
+     * @param valeur la valeur de bit recherchée
+     * @return la position trouvée, ou 65536 si aucune
+     */
+    private static int prochainBit(long[] bits, int depuis, boolean valeur) {
+        if (depuis >= TAILLE_TRANCHE) {
+            return TAILLE_TRANCHE;
+        }
+        int i = depuis >>> 6;
+        long mot = (valeur ? bits[i] : ~bits[i]) & (-1L << depuis);
+        while (mot == 0L) {
+            if (++i == bits.length) {
+                return TAILLE_TRANCHE;
+            }
+            mot = valeur ? bits[i] : ~bits[i];
+        }
+        return i * 64 + Long.numberOfTrailingZeros(mot);
+    }
+
+    /**
+     * Met à 1 les bits d'une plage [debut, fin].
+     *
+     * @param bits les mots de la tranche
+     * @param debut la première position (incluse)
+     * @param fin la dernière position (incluse)
+     */
+    private static void remplirPlage(long[] bits, int debut, int fin) {
+        for (int i = debut >>> 6; i <= fin >>> 6; i++) {
+            bits[i] |= masque(i, debut, fin);
+        }
+    }
+
+    /**
+     * Calcule le masque des bits d'un mot qui appartiennent à la plage [debut, fin].
+     *
+     * @param indiceMot l'indice du mot
+     * @param debut la première position (incluse)
+     * @param fin la dernière position (incluse)
+     * @return le masque correspondant
+     */
+    private static long masque(int indiceMot, int debut, int fin) {
+        long m = -1L;
+        if (indiceMot == debut >>> 6) {
+            m &= -1L << debut;
+        }
+        if (indiceMot == fin >>> 6) {
+            m &= -1L >>> (63 - (fin & 63));
+        }
+        return m;
+    }
+
+    /**
+     * Convertit un ensemble quelconque d'entiers en ensemble compressé.
+     *
+     * @param autre l'ensemble à convertir
+     * @return l'ensemble compressé
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    private static EnsembleCompresse versEnsembleCompresse(Ensemble<Integer> autre) throws IllegalArgumentException {
+        if (autre instanceof EnsembleCompresse) {
+            return (EnsembleCompresse) autre;
+        }
+        EnsembleVue.verifierCompatible(autre);
+        return new EnsembleCompresse(autre.elements());
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<Integer, Integer>> produitCartesien(Ensemble<Integer> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<Integer> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments, dans l'ordre croissant.
+     * Les valeurs sont décodées une à une, tranche par tranche.
+     *
+     * @return un itérateur sur les entiers de l'ensemble
+     */
+    @Override
+    public Iterator<Integer> iterateur() {
+        return new Iterator<Integer>() {
+            private int indice = 0;
+            private int basse = conteneurs.length > 0 ? conteneurs[0].suivant(0) : -1;
+
+            @Override
+            public boolean hasNext() {
+                while (basse < 0 && indice + 1 < conteneurs.length) {
+                    basse = conteneurs[++indice].suivant(0);
+                }
+                return basse >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int valeur = recomposer(cles[indice], basse);
+                basse = conteneurs[indice].suivant(basse + 1);
+                return valeur;
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, dans l'ordre croissant, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<Integer> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+
+    /**
+     * Conteneur des 16 bits de poids faible des éléments d'une tranche.
+     * Un conteneur n'est jamais vide et n'est jamais modifié après sa construction,
+     * ce qui permet de le partager entre plusieurs ensembles.
+     */
+    private abstract static class Conteneur {
+
+        /**
+         * Retourne le nombre de valeurs du conteneur.
+         *
+         * @return le cardinal du conteneur
+         */
+        abstract int cardinal();
+
+        /**
+         * Vérifie si une valeur appartient au conteneur.
+         *
+         * @param valeur la valeur (16 bits de poids faible)
+         * @return {@code true} si la valeur est présente
+         */
+        abstract boolean contient(char valeur);
+
+        /**
+         * Retourne la plus petite valeur du conteneur supérieure ou égale à {@code depuis}.
+         *
+         * @param depuis la borne inférieure
+         * @return la valeur trouvée, ou -1 si aucune
+         */
+        abstract int suivant(int depuis);
+
+        /**
+         * Met à 1 dans {@code bits} les positions des valeurs du conteneur.
+         *
+         * @param bits les 1024 mots d'une tranche
+         */
+        abstract void ouDans(long[] bits);
+
+        /**
+         * Met à 0 dans {@code bits} les positions des valeurs du conteneur.
+         *
+         * @param bits les 1024 mots d'une tranche
+         */
+        abstract void etNonDans(long[] bits);
+
+        /**
+         * Inverse dans {@code bits} les positions des valeurs du conteneur.
+         *
+         * @param bits les 1024 mots d'une tranche
+         */
+        abstract void xorDans(long[] bits);
+
+        /**
+         * Ne garde dans {@code bits} que les positions des valeurs du conteneur.
+         *
+         * @param bits les 1024 mots d'une tranche
+         */
+        void etDans(long[] bits) {
+            long[] masque = enBits();
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] &= masque[i];
+            }
+        }
+
+        /**
+         * Retourne un nouveau tableau de bits contenant les valeurs du conteneur.
+         *
+         * @return les 1024 mots de la tranche
+         */
+        long[] enBits() {
+            long[] bits = new long[MOTS_PAR_TRANCHE];
+            ouDans(bits);
+            return bits;
+        }
+    }
+
+    /**
+     * Conteneur pour une tranche peu remplie : tableau trié des valeurs.
+     */
+    private static final class Tableau extends Conteneur {
+
+        /** Les valeurs, triées et distinctes. */
+        private final char[] valeurs;
+
+        Tableau(char[] valeurs) {
+            this.valeurs = valeurs;
+        }
+
+        @Override
+        int cardinal() {
+            return valeurs.length;
+        }
+
+        @Override
+        boolean contient(char valeur) {
+            return Arrays.binarySearch(valeurs, valeur) >= 0;
+        }
+
+        @Override
+        int suivant(int depuis) {
+            if (depuis >= TAILLE_TRANCHE) {
+                return -1;
+            }
+            int i = Arrays.binarySearch(valeurs, (char) depuis);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return i < valeurs.length ? valeurs[i] : -1;
+        }
+
+        @Override
+        void ouDans(long[] bits) {
+            for (char v : valeurs) {
+                bits[v >>> 6] |= 1L << v;
+            }
+        }
+
+        @Override
+        void etNonDans(long[] bits) {
+            for (char v : valeurs) {
+                bits[v >>> 6] &= ~(1L << v);
+            }
+        }
+
+        @Override
+        void xorDans(long[] bits) {
+            for (char v : valeurs) {
+                bits[v >>> 6] ^= 1L << v;
+            }
+        }
+    }
+
+    /**
+     * Conteneur pour une tranche dense : un bit par valeur possible.
+     */
+    private static final class Bitmap extends Conteneur {
+
+        /** Les 1024 mots de la tranche. */
+        private final long[] mots;
+
+        /** Le nombre de bits à 1. */
+        private final int cardinal;
+
+        Bitmap(long[] mots, int cardinal) {
+            this.mots = mots;
+            this.cardinal = cardinal;
+        }
+
+        @Override
+        int cardinal() {
+            return cardinal;
+        }
+
+        @Override
+        boolean contient(char valeur) {
+            return (mots[valeur >>> 6] & (1L << valeur)) != 0L;
+        }
+
+        @Override
+        int suivant(int depuis) {
+            int position = prochainBit(mots, depuis, true);
+            return position < TAILLE_TRANCHE ? position : -1;
+        }
+
+        @Override
+        void ouDans(long[] bits) {
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] |= mots[i];
+            }
+        }
+
+        @Override
+        void etNonDans(long[] bits) {
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] &= ~mots[i];
+            }
+        }
+
+        @Override
+        void xorDans(long[] bits) {
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] ^= mots[i];
+            }
+        }
+
+        @Override
+        void etDans(long[] bits) {
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] &= mots[i];
+            }
+        }
+
+        @Override
+        long[] enBits() {
+            return mots.clone();
+        }
+    }
+
+    /**
+     * Conteneur pour une tranche formée de longues suites de valeurs consécutives :
+     * liste triée de plages [début, fin] disjointes et non adjacentes.
+     */
+    private static final class Plages extends Conteneur {
+
+        /** Les bornes des plages : début0, fin0, début1, fin1, ... (fins incluses). */
+        private final char[] plages;
+
+        /** Le nombre de valeurs couvertes par les plages. */
+        private final int cardinal;
+
+        Plages(char[] plages) {
+            this.plages = plages;
+            int total = 0;
+            for (int i = 0; i < plages.length; i += 2) {
+                total += plages[i + 1] - plages[i] + 1;
+            }
+            this.cardinal = total;
+        }
+
+        /**
+         * Cherche la première plage dont la fin est supérieure ou égale à une valeur.
+         *
+         * @param valeur la valeur
+         * @return l'indice du début de cette plage, ou la longueur du tableau si aucune
+         */
+        private int plageDe(int valeur) {
+            int bas = 0;
+            int haut = plages.length / 2;
+            while (bas < haut) {
+                int milieu = (bas + haut) >>> 1;
+                if (plages[2 * milieu + 1] < valeur) {
+                    bas = milieu + 1;
+                } else {
+                    haut = milieu;
+                }
+            }
+            return 2 * bas;
+        }
+
+        @Override
+        int cardinal() {
+            return cardinal;
+        }
+
+        @Override
+        boolean contient(char valeur) {
+            int i = plageDe(valeur);
+            return i < plages.length && plages[i] <= valeur;
+        }
+
+        @Override
+        int suivant(int depuis) {
+            int i = plageDe(depuis);
+            return i < plages.length ? Math.max(plages[i], depuis) : -1;
+        }
+
+        @Override
+        void ouDans(long[] bits) {
+            for (int i = 0; i < plages.length; i += 2) {
+                remplirPlage(bits, plages[i], plages[i + 1]);
+            }
+        }
+
+        @Override
+        void etNonDans(long[] bits) {
+            for (int i = 0; i < plages.length; i += 2) {
+                for (int m = plages[i] >>> 6; m <= plages[i + 1] >>> 6; m++) {
+                    bits[m] &= ~masque(m, plages[i], plages[i + 1]);
+                }
+            }
+        }
+
+        @Override
+        void xorDans(long[] bits) {
+            for (int i = 0; i < plages.length; i += 2) {
+                for (int m = plages[i] >>> 6; m <= plages[i + 1] >>> 6; m++) {
+                    bits[m] ^= masque(m, plages[i], plages[i + 1]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface Ensemble pour des éléments quelconques, numérotés par un
+ * {@link Dictionnaire} partagé. L'ensemble ne stocke que les numéros de ses éléments, dans un
+ * {@link EnsembleCompresse} : chaque tranche de 65536 numéros est un tableau trié, un tableau de
+ * bits ou une liste de plages selon sa densité, si bien que la place occupée suit le cardinal de
+ * l'ensemble, et non la taille du dictionnaire.
+ * Les opérations ensemblistes entre deux ensembles du même dictionnaire se font sur les numéros,
+ * conteneur par conteneur, et les éléments ne sont retrouvés dans le dictionnaire qu'au moment du
+ * parcours. Avec un autre ensemble, ses éléments sont numérotés dans le dictionnaire quand le
+ * résultat peut les contenir, et seulement cherchés sinon.
+ * L'ensemble est immuable.
+ *
+ * @param <T> Le type des éléments de l'ensemble
+ */
+class EnsembleDictionnaire<T> implements EnsembleParcourable<T> {
+
+    /** Le dictionnaire qui numérote les éléments. */
+    private final Dictionnaire<T> dictionnaire;
+
+    /** Les numéros des éléments de l'ensemble. */
+    private final EnsembleCompresse numeros;
+
+    /**
+     * Constructeur pour créer un ensemble à partir d'un Set d'éléments, qui sont numérotés
+     * dans le dictionnaire s'ils n'y sont pas encore.
+     *
+     * @param dictionnaire le dictionnaire qui numérote les éléments
+     * @param elements le Set des éléments à mettre dans l'ensemble
+     * @throws IllegalArgumentException si le dictionnaire ou le Set est null, ou si le Set contient null
+     */
+    EnsembleDictionnaire(Dictionnaire<T> dictionnaire, Set<T> elements) throws IllegalArgumentException {
+        if (dictionnaire == null) {
+            throw new IllegalArgumentException("Le dictionnaire ne peut pas être null");
+        }
+        if (elements == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        this.dictionnaire = dictionnaire;
+        this.numeros = numeroter(dictionnaire, elements.iterator(), elements.size());
+    }
+
+    /**
+     * Constructeur interne à partir des numéros déjà calculés.
+     *
+     * @param dictionnaire le dictionnaire qui numérote les éléments
+     * @param numeros les numéros des éléments, qui ne sont pas copiés
+     */
+    private EnsembleDictionnaire(Dictionnaire<T> dictionnaire, Ensemble<Integer> numeros) {
+        this.dictionnaire = dictionnaire;
+        // une opération entre deux ensembles compressés retourne un ensemble compressé
+        this.numeros = (EnsembleCompresse) numeros;
+    }
+
+    /**
+     * Numérote les éléments distincts produits par un itérateur, en attribuant les numéros
+     * manquants.
+     *
+     * @param dictionnaire le dictionnaire
+     * @param source l'itérateur sur des éléments distincts
+     * @param taille le nombre d'éléments attendus, qui sert à dimensionner le tableau
+     * @return l'ensemble compressé de leurs numéros
+     * @throws IllegalArgumentException si un élément est null
+     */
+    private static <T> EnsembleCompresse numeroter(Dictionnaire<T> dictionnaire, Iterator<T> source, int taille) {
+        int[] valeurs = new int[Math.max(taille, 1)];
+        int n = 0;
+        while (source.hasNext()) {
+            if (n == valeurs.length) {
+                valeurs = Arrays.copyOf(valeurs, 2 * n);
+            }
+            valeurs[n++] = dictionnaire.numero(source.next());
+        }
+        return EnsembleCompresse.depuisEntiers(valeurs, n);
+    }
+
+    /**
+     * Retourne les numéros d'un autre ensemble s'il est construit sur le même dictionnaire.
+     *
+     * @param autre l'autre ensemble
+     * @return ses numéros, ou null s'il n'utilise pas ce dictionnaire
+     */
+    private EnsembleCompresse memesNumeros(Ensemble<T> autre) {
+        if (autre instanceof EnsembleDictionnaire<T> e && e.dictionnaire == dictionnaire) {
+            return e.numeros;
+        }
+        return null;
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return numeros.cardinal();
+    }
+
+    /**
+     * Vérifie si un élément est présent : une recherche dans le dictionnaire puis dans les numéros.
+     *
+     * @param element l'élément à rechercher
+     * @return {@code true} si l'élément est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T element) {
+        int v = dictionnaire.chercher(element);
+        return v >= 0 && numeros.contient(v);
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble.
+     * Les éléments d'un ensemble construit sur un autre dictionnaire sont numérotés dans celui-ci.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        EnsembleCompresse b = memesNumeros(autre);
+        if (b == null) {
+            b = numeroter(dictionnaire, EnsembleVue.iterateur(autre), autre.cardinal());
+        }
+        return new EnsembleDictionnaire<>(dictionnaire, numeros.union(b));
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble.
+     * Avec un ensemble d'un autre dictionnaire, le plus petit des deux est parcouru et ses
+     * éléments sont cherchés dans l'autre, sans attribuer de numéro.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        EnsembleCompresse b = memesNumeros(autre);
+        if (b != null) {
+            return new EnsembleDictionnaire<>(dictionnaire, numeros.intersection(b));
+        }
+        if (cardinal() <= autre.cardinal()) {
+            return filtrer(autre, true);
+        }
+        return new EnsembleDictionnaire<>(dictionnaire, chercher(autre));
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        EnsembleCompresse b = memesNumeros(autre);
+        if (b == null) {
+            if (cardinal() <= autre.cardinal()) {
+                return filtrer(autre, false);
+            }
+            // l'autre ensemble est plus petit : retirer ceux de ses éléments qui sont présents
+            b = chercher(autre);
+        }
+        return new EnsembleDictionnaire<>(dictionnaire, numeros.difference(b));
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble.
+     * Les éléments d'un ensemble construit sur un autre dictionnaire sont numérotés dans celui-ci.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        EnsembleCompresse b = memesNumeros(autre);
+        if (b == null) {
+            b = numeroter(dictionnaire, EnsembleVue.iterateur(autre), autre.cardinal());
+        }
+        return new EnsembleDictionnaire<>(dictionnaire, numeros.diffSymetrique(b));
+    }
+
+    /**
+     * Cherche dans le dictionnaire les éléments d'un autre ensemble, sans attribuer de numéro,
+     * et garde ceux qui sont présents dans cet ensemble.
+     *
+     * @param autre l'ensemble parcouru
+     * @return l'ensemble compressé des numéros communs
+     */
+    private EnsembleCompresse chercher(Ensemble<T> autre) {
+        int[] valeurs = new int[Math.min(cardinal(), autre.cardinal())];
+        int n = 0;
+        for (Iterator<T> it = EnsembleVue.iterateur(autre); it.hasNext() && n < valeurs.length; ) {
+            int v = dictionnaire.chercher(it.next());
+            if (v >= 0 && numeros.contient(v)) {
+                valeurs[n++] = v;
+            }
+        }
+        return EnsembleCompresse.depuisEntiers(valeurs, n);
+    }
+
+    /**
+     * Garde les éléments de cet ensemble qui sont (ou ne sont pas) dans un autre ensemble.
+     *
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les éléments présents dans {@code sonde}
+     * @return le nouvel ensemble
+     */
+    private EnsembleDictionnaire<T> filtrer(Ensemble<T> sonde, boolean presents) {
+        int[] valeurs = new int[cardinal()];
+        int n = 0;
+        for (Iterator<Integer> it = numeros.iterateur(); it.hasNext(); ) {
+            int v = it.next();
+            if (sonde.contient(dictionnaire.element(v)) == presents) {
+                valeurs[n++] = v;
+            }
+        }
+        return new EnsembleDictionnaire<>(dictionnaire, EnsembleCompresse.depuisEntiers(valeurs, n));
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<T> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments, dans l'ordre de leurs numéros.
+     *
+     * @return un itérateur sur les éléments de l'ensemble
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        Iterator<Integer> it = numeros.iterateur();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return dictionnaire.element(it.next());
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, dans l'ordre de leurs numéros, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<T> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+}
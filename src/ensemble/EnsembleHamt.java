@@ -0,0 +1,629 @@
+package ensemble;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation persistante de l'interface Ensemble, stockée dans un arbre de hachage
+ * (<i>hash array mapped trie</i>).
+ * Chaque nœud consomme 5 bits du code de hachage et ne réserve de place que pour ses
+ * positions occupées, repérées par un masque de 32 bits. Une opération qui ajoute ou retire
+ * k éléments ne recopie que les chemins qui mènent à ces éléments, en O(k·log n) : le nouvel
+ * ensemble partage tous les autres nœuds avec l'ancien, qui reste inchangé.
+ * Ainsi {@code union} ou {@code difference} d'un grand ensemble avec un petit ne coûtent
+ * que la taille du petit, et de nombreuses versions dérivées d'une même base occupent
+ * à peine plus de mémoire que la base.
+ * L'ensemble est immuable et ne peut pas contenir null.
+ *
+ * @param <T> Le type des éléments dans l'ensemble
+ */
+class EnsembleHamt<T> implements EnsembleParcourable<T> {
+
+    /** Nombre de bits du code de hachage consommés par niveau. */
+    private static final int BITS = 5;
+
+    /** Masque extrayant l'indice d'un niveau. */
+    private static final int MASQUE = (1 << BITS) - 1;
+
+    /** Profondeur maximale de l'arbre : 7 niveaux de masque puis un nœud de collisions. */
+    private static final int PROFONDEUR_MAX = 8;
+
+    /** La racine de l'arbre, ou null si l'ensemble est vide. */
+    private final Noeud racine;
+
+    /** Le nombre d'éléments. */
+    private final int cardinal;
+
+    /**
+     * Constructeur pour créer un ensemble persistant à partir d'un Set d'éléments.
+     *
+     * @param elements Le Set des éléments à mettre dans l'ensemble
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    public EnsembleHamt(Set<T> elements) throws IllegalArgumentException {
+        if (elements == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        Lot lot = new Lot(null, 0);
+        for (T e : elements) {
+            lot.ajouter(verifierElement(e));
+        }
+        this.racine = lot.racine;
+        this.cardinal = lot.cardinal;
+    }
+
+    /**
+     * Constructeur interne utilisé par les opérations ensemblistes.
+     *
+     * @param racine la racine de l'arbre
+     * @param cardinal le nombre d'éléments
+     */
+    private EnsembleHamt(Noeud racine, int cardinal) {
+        this.racine = racine;
+        this.cardinal = cardinal;
+    }
+
+    /**
+     * Vérifie qu'un élément à insérer n'est pas null.
+     *
+     * @param element l'élément
+     * @return l'élément
+     * @throws IllegalArgumentException si l'élément est null
+     */
+    private static Object verifierElement(Object element) throws IllegalArgumentException {
+        if (element == null) {
+            throw new IllegalArgumentException("Un ensemble persistant ne peut pas contenir null");
+        }
+        return element;
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return cardinal;
+    }
+
+    /**
+     * Vérifie si un élément donné appartient à l'ensemble, en descendant au plus un nœud par niveau.
+     *
+     * @param element l'élément à rechercher
+     * @return {@code true} si l'élément est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T element) {
+        return element != null && racine != null && racine.contient(element, element.hashCode(), 0);
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble.
+     * Les éléments du plus petit ensemble sont insérés dans le plus grand s'il est lui aussi
+     * persistant, sinon dans cet ensemble ; le résultat partage la structure de l'ensemble complété.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null ou contient null
+     */
+    @Override
+    public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (autre instanceof EnsembleHamt && autre.cardinal() > cardinal) {
+            return ((EnsembleHamt<T>) autre).modifier(iterateur(), true, false);
+        }
+        return modifier(EnsembleVue.iterateur(autre), true, false);
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble.
+     * Le plus petit des deux est parcouru ; s'il est persistant, le résultat est obtenu en lui
+     * retirant les éléments absents de l'autre, et partage sa structure.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (cardinal <= autre.cardinal()) {
+            return filtrer(autre, true);
+        }
+        if (autre instanceof EnsembleHamt) {
+            return ((EnsembleHamt<T>) autre).filtrer(this, true);
+        }
+        Lot lot = new Lot(null, 0);
+        for (Iterator<T> it = EnsembleVue.iterateur(autre); it.hasNext(); ) {
+            T e = it.next();
+            if (contient(e)) {
+                lot.ajouter(e);
+            }
+        }
+        return new EnsembleHamt<>(lot.racine, lot.cardinal);
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble.
+     * Si l'autre ensemble est plus petit, ses éléments sont retirés un à un, en O(k·log n) ;
+     * sinon les éléments de cet ensemble présents dans l'autre sont retirés.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (autre.cardinal() < cardinal) {
+            return modifier(EnsembleVue.iterateur(autre), false, false);
+        }
+        return filtrer(autre, false);
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble.
+     * Chaque élément du plus petit ensemble est retiré du plus grand s'il y figure, ajouté sinon.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null ou contient null
+     */
+    @Override
+    public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (autre instanceof EnsembleHamt && autre.cardinal() > cardinal) {
+            return ((EnsembleHamt<T>) autre).modifier(iterateur(), true, true);
+        }
+        return modifier(EnsembleVue.iterateur(autre), true, true);
+    }
+
+    /**
+     * Ajoute ou retire des éléments à partir de cet ensemble, en un seul lot.
+     *
+     * @param elements les éléments, distincts
+     * @param ajouter {@code true} pour ajouter les éléments absents
+     * @param retirerPresents {@code true} pour retirer les éléments déjà présents
+     *                        (avec {@code ajouter} à {@code false}, les éléments sont toujours retirés)
+     * @return le nouvel ensemble, ou cet ensemble s'il n'a pas changé
+     */
+    private EnsembleHamt<T> modifier(Iterator<T> elements, boolean ajouter, boolean retirerPresents) {
+        Lot lot = new Lot(racine, cardinal);
+        while (elements.hasNext()) {
+            T e = elements.next();
+            if (!ajouter) {
+                lot.retirer(e);
+            } else if (retirerPresents && contient(e)) {
+                lot.retirer(e);
+            } else {
+                lot.ajouter(verifierElement(e));
+            }
+        }
+        return lot.racine == racine ? this : new EnsembleHamt<>(lot.racine, lot.cardinal);
+    }
+
+    /**
+     * Garde les éléments de cet ensemble qui sont (ou ne sont pas) dans un autre ensemble,
+     * en retirant les autres : les parties de l'arbre sans élément retiré sont partagées.
+     *
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les éléments présents dans {@code sonde}
+     * @return le nouvel ensemble, ou cet ensemble s'il n'a pas changé
+     */
+    private EnsembleHamt<T> filtrer(Ensemble<T> sonde, boolean presents) {
+        Lot lot = new Lot(racine, cardinal);
+        for (Iterator<T> it = iterateur(); it.hasNext(); ) {
+            T e = it.next();
+            if (sonde.contient(e) != presents) {
+                lot.retirer(e);
+            }
+        }
+        return lot.racine == racine ? this : new EnsembleHamt<>(lot.racine, lot.cardinal);
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<T> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur qui parcourt l'arbre en profondeur.
+     *
+     * @return un itérateur sur les éléments de l'ensemble
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        return new Iterator<T>() {
+            private final Noeud[] noeuds = new Noeud[PROFONDEUR_MAX];
+            private final int[] positions = new int[PROFONDEUR_MAX];
+            private int profondeur = -1;
+            private Object prochain;
+
+            {
+                if (racine != null) {
+                    noeuds[0] = racine;
+                    profondeur = 0;
+                }
+                avancer();
+            }
+
+            private void avancer() {
+                prochain = null;
+                while (profondeur >= 0) {
+                    Noeud n = noeuds[profondeur];
+                    if (positions[profondeur] == n.taille()) {
+                        profondeur--;
+                        continue;
+                    }
+                    Object o = n.entree(positions[profondeur]++);
+                    if (o instanceof Noeud) {
+                        profondeur++;
+                        noeuds[profondeur] = (Noeud) o;
+                        positions[profondeur] = 0;
+                    } else {
+                        prochain = o;
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return prochain != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T e = (T) prochain;
+                avancer();
+                return e;
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<T> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+
+    /**
+     * Lot de modifications appliquées à partir d'une racine.
+     * Le lot marque les nœuds qu'il crée de son jeton d'édition : ces nœuds ne sont encore
+     * visibles d'aucun ensemble et sont modifiés sur place, les autres sont recopiés.
+     * Un lot n'est plus utilisé une fois l'ensemble résultat construit, et aucun nœud ne le
+     * retient.
+     */
+    private static final class Lot {
+
+        /** Le jeton d'édition des nœuds créés par ce lot. */
+        final Object jeton = new Object();
+
+        /** La racine courante, ou null si l'ensemble est vide. */
+        Noeud racine;
+
+        /** Le nombre d'éléments courant. */
+        int cardinal;
+
+        Lot(Noeud racine, int cardinal) {
+            this.racine = racine;
+            this.cardinal = cardinal;
+        }
+
+        void ajouter(Object e) {
+            int h = e.hashCode();
+            if (racine == null) {
+                racine = new NoeudMasque(jeton, 1 << (h & MASQUE), new Object[] {e});
+                cardinal++;
+            } else {
+                racine = racine.ajouter(this, e, h, 0);
+            }
+        }
+
+        void retirer(Object e) {
+            if (e != null && racine != null) {
+                racine = racine.retirer(this, e, e.hashCode(), 0);
+            }
+        }
+    }
+
+    /**
+     * Nœud de l'arbre. Ses entrées sont des éléments ou des nœuds fils.
+     */
+    private abstract static class Noeud {
+
+        /**
+         * Le jeton du lot qui a créé ce nœud et peut seul le modifier sur place. Le jeton ne
+         * désigne pas le lot : un nœud partagé avec une version plus récente ne retient ainsi
+         * ni le lot ni la racine de la version qui l'a créé.
+         */
+        final Object edition;
+
+        Noeud(Object edition) {
+            this.edition = edition;
+        }
+
+        abstract boolean contient(Object e, int h, int decalage);
+
+        /**
+         * Ajoute un élément sous ce nœud.
+         *
+         * @return ce nœud s'il n'a pas changé ou a été modifié sur place, sinon sa copie modifiée
+         */
+        abstract Noeud ajouter(Lot lot, Object e, int h, int decalage);
+
+        /**
+         * Retire un élément sous ce nœud.
+         *
+         * @return ce nœud s'il n'a pas changé ou a été modifié sur place, sa copie modifiée,
+         *         ou null si le nœud est devenu vide
+         */
+        abstract Noeud retirer(Lot lot, Object e, int h, int decalage);
+
+        /** Retourne l'unique entrée du nœud si c'est un élément, null sinon. */
+        abstract Object seul();
+
+        abstract int taille();
+
+        abstract Object entree(int i);
+    }
+
+    /**
+     * Nœud interne : un masque de 32 bits indique les positions occupées, et le tableau
+     * ne contient que ces positions, dans l'ordre.
+     */
+    private static final class NoeudMasque extends Noeud {
+
+        int masque;
+        Object[] contenu;
+
+        NoeudMasque(Object edition, int masque, Object[] contenu) {
+            super(edition);
+            this.masque = masque;
+            this.contenu = contenu;
+        }
+
+        @Override
+        boolean contient(Object e, int h, int decalage) {
+            int bit = 1 << ((h >>> decalage) & MASQUE);
+            if ((masque & bit) == 0) {
+                return false;
+            }
+            Object o = contenu[Integer.bitCount(masque & (bit - 1))];
+            return o instanceof Noeud ? ((Noeud) o).contient(e, h, decalage + BITS) : o.equals(e);
+        }
+
+        @Override
+        Noeud ajouter(Lot lot, Object e, int h, int decalage) {
+            int bit = 1 << ((h >>> decalage) & MASQUE);
+            int i = Integer.bitCount(masque & (bit - 1));
+            if ((masque & bit) == 0) {
+                Object[] nouveau = new Object[contenu.length + 1];
+                System.arraycopy(contenu, 0, nouveau, 0, i);
+                nouveau[i] = e;
+                System.arraycopy(contenu, i, nouveau, i + 1, contenu.length - i);
+                lot.cardinal++;
+                if (edition == lot.jeton) {
+                    masque |= bit;
+                    contenu = nouveau;
+                    return this;
+                }
+                return new NoeudMasque(lot.jeton, masque | bit, nouveau);
+            }
+            Object o = contenu[i];
+            Object remplacant;
+            if (o instanceof Noeud) {
+                remplacant = ((Noeud) o).ajouter(lot, e, h, decalage + BITS);
+                if (remplacant == o) {
+                    return this;
+                }
+            } else if (o.equals(e)) {
+                return this;
+            } else {
+                remplacant = fusionner(lot, o, o.hashCode(), e, h, decalage + BITS);
+                lot.cardinal++;
+            }
+            return remplacer(lot, i, remplacant);
+        }
+
+        @Override
+        Noeud retirer(Lot lot, Object e, int h, int decalage) {
+            int bit = 1 << ((h >>> decalage) & MASQUE);
+            if ((masque & bit) == 0) {
+                return this;
+            }
+            int i = Integer.bitCount(masque & (bit - 1));
+            Object o = contenu[i];
+            if (o instanceof Noeud) {
+                Noeud fils = ((Noeud) o).retirer(lot, e, h, decalage + BITS);
+                if (fils == o && fils.seul() == null) {
+                    return this;
+                }
+                if (fils != null) {
+                    // un fils réduit à un seul élément est remplacé par cet élément
+                    Object seul = fils.seul();
+                    return remplacer(lot, i, seul != null ? seul : fils);
+                }
+            } else if (o.equals(e)) {
+                lot.cardinal--;
+            } else {
+                return this;
+            }
+            if (masque == bit) {
+                return null;
+            }
+            Object[] nouveau = new Object[contenu.length - 1];
+            System.arraycopy(contenu, 0, nouveau, 0, i);
+            System.arraycopy(contenu, i + 1, nouveau, i, contenu.length - i - 1);
+            if (edition == lot.jeton) {
+                masque ^= bit;
+                contenu = nouveau;
+                return this;
+            }
+            return new NoeudMasque(lot.jeton, masque ^ bit, nouveau);
+        }
+
+        /**
+         * Remplace une entrée, sur place si le nœud appartient au lot, sinon dans une copie.
+         */
+        private Noeud remplacer(Lot lot, int i, Object valeur) {
+            if (edition == lot.jeton) {
+                contenu[i] = valeur;
+                return this;
+            }
+            Object[] copie = contenu.clone();
+            copie[i] = valeur;
+            return new NoeudMasque(lot.jeton, masque, copie);
+        }
+
+        @Override
+        Object seul() {
+            return contenu.length == 1 && !(contenu[0] instanceof Noeud) ? contenu[0] : null;
+        }
+
+        @Override
+        int taille() {
+            return contenu.length;
+        }
+
+        @Override
+        Object entree(int i) {
+            return contenu[i];
+        }
+    }
+
+    /**
+     * Crée le plus petit sous-arbre contenant deux éléments distincts, à partir d'un niveau donné.
+     * Si les deux codes de hachage sont égaux, les éléments finissent dans un nœud de collisions.
+     */
+    private static Noeud fusionner(Lot lot, Object a, int ha, Object b, int hb, int decalage) {
+        if (decalage >= Integer.SIZE) {
+            return new NoeudCollisions(lot.jeton, new Object[] {a, b});
+        }
+        int ia = (ha >>> decalage) & MASQUE;
+        int ib = (hb >>> decalage) & MASQUE;
+        if (ia == ib) {
+            return new NoeudMasque(lot.jeton, 1 << ia, new Object[] {fusionner(lot, a, ha, b, hb, decalage + BITS)});
+        }
+        return new NoeudMasque(lot.jeton, (1 << ia) | (1 << ib), ia < ib ? new Object[] {a, b} : new Object[] {b, a});
+    }
+
+    /**
+     * Feuille regroupant des éléments distincts qui ont exactement le même code de hachage.
+     */
+    private static final class NoeudCollisions extends Noeud {
+
+        Object[] elements;
+
+        NoeudCollisions(Object edition, Object[] elements) {
+            super(edition);
+            this.elements = elements;
+        }
+
+        private int indice(Object e) {
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i].equals(e)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean contient(Object e, int h, int decalage) {
+            return indice(e) >= 0;
+        }
+
+        @Override
+        Noeud ajouter(Lot lot, Object e, int h, int decalage) {
+            if (indice(e) >= 0) {
+                return this;
+            }
+            Object[] nouveau = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, nouveau, 0, elements.length);
+            nouveau[elements.length] = e;
+            lot.cardinal++;
+            if (edition == lot.jeton) {
+                elements = nouveau;
+                return this;
+            }
+            return new NoeudCollisions(lot.jeton, nouveau);
+        }
+
+        @Override
+        Noeud retirer(Lot lot, Object e, int h, int decalage) {
+            int i = indice(e);
+            if (i < 0) {
+                return this;
+            }
+            lot.cardinal--;
+            if (elements.length == 1) {
+                return null;
+            }
+            Object[] nouveau = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, nouveau, 0, i);
+            System.arraycopy(elements, i + 1, nouveau, i, elements.length - i - 1);
+            if (edition == lot.jeton) {
+                elements = nouveau;
+                return this;
+            }
+            return new NoeudCollisions(lot.jeton, nouveau);
+        }
+
+        @Override
+        Object seul() {
+            return elements.length == 1 ? elements[0] : null;
+        }
+
+        @Override
+        int taille() {
+            return elements.length;
+        }
+
+        @Override
+        Object entree(int i) {
+            return elements[i];
+        }
+    }
+}
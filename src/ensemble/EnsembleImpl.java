@@ -1,6 +1,8 @@
 package ensemble;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
 
 /**
@@ -10,7 +12,7 @@ import java.util.Set;
  *
  * @param <T> Le type des éléments dans l'ensemble
  */
-class EnsembleImpl<T> implements Ensemble<T> {
+class EnsembleImpl<T> implements EnsembleParcourable<T> {
 
     /**
      * Les éléments de l'ensemble, stockés dans une structure de type Set.
@@ -31,6 +33,29 @@ class EnsembleImpl<T> implements Ensemble<T> {
         this.elements = new HashSet<>(elements);
     }
 
+    /**
+     * Constructeur interne qui reprend le Set fourni sans le copier.
+     *
+     * @param elements le Set des éléments, qui ne doit plus être modifié par l'appelant
+     * @param proprietaire marqueur distinguant ce constructeur du constructeur public
+     */
+    private EnsembleImpl(Set<T> elements, boolean proprietaire) {
+        this.elements = elements;
+    }
+
+    /**
+     * Crée un ensemble qui devient propriétaire du Set fourni, sans copie défensive.
+     * Réservé au code du paquetage (constructeurs d'ensembles, matérialisation) qui
+     * garantit que le Set n'est plus référencé ailleurs.
+     *
+     * @param <T> le type des éléments
+     * @param elements le Set des éléments, dont la propriété est transférée
+     * @return l'ensemble immuable construit sur ce Set
+     */
+    static <T> EnsembleImpl<T> sansCopie(Set<T> elements) {
+        return new EnsembleImpl<>(elements, true);
+    }
+
     /**
      * Retourne le nombre d'éléments dans l'ensemble.
      *
@@ -54,108 +79,90 @@ class EnsembleImpl<T> implements Ensemble<T> {
 
     /**
      * Retourne l'union de cet ensemble avec un autre ensemble.
+     * Le résultat est une vue paresseuse : aucun élément n'est copié.
      *
      * @param autre l'autre ensemble à unir
-     * @return un nouvel ensemble représentant l'union des deux
-     * @throws IllegalArgumentException si l'autre ensemble n'est pas une instance compatible
+     * @return un ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
      */
     @Override
     public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
-        if (autre instanceof EnsembleImpl) {
-            Set<T> union = new HashSet<>(this.elements);
-            union.addAll(((EnsembleImpl<T>) autre).elements);
-            return new EnsembleImpl<>(union);
-        } else {
-            throw new IllegalArgumentException("L'ensemble passé en paramètre n'est pas compatible.");
-        }
+        return EnsembleVue.creer(EnsembleVue.Operation.UNION, this, autre);
     }
 
     /**
      * Retourne l'intersection de cet ensemble avec un autre.
+     * Le résultat est une vue paresseuse : aucun élément n'est copié.
      *
      * @param autre l'autre ensemble avec lequel faire l'intersection
-     * @return un nouvel ensemble contenant les éléments communs
-     * @throws IllegalArgumentException si l'autre ensemble n'est pas une instance compatible
+     * @return un ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
      */
     @Override
     public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
-        if (autre instanceof EnsembleImpl) {
-            Set<T> intersection = new HashSet<>(this.elements);
-            intersection.retainAll(((EnsembleImpl<T>) autre).elements);
-            return new EnsembleImpl<>(intersection);
-        } else {
-            throw new IllegalArgumentException("L'ensemble passé en paramètre n'est pas compatible.");
-        }
+        return EnsembleVue.creer(EnsembleVue.Operation.INTERSECTION, this, autre);
     }
 
     /**
      * Retourne la différence entre cet ensemble et un autre.
+     * Le résultat est une vue paresseuse : aucun élément n'est copié.
      *
      * @param autre l'autre ensemble à soustraire
-     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
-     * @throws IllegalArgumentException si l'autre ensemble n'est pas une instance compatible
+     * @return un ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
      */
     @Override
     public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
-        if (autre instanceof EnsembleImpl) {
-            Set<T> difference = new HashSet<>(this.elements);
-            difference.removeAll(((EnsembleImpl<T>) autre).elements);
-            return new EnsembleImpl<>(difference);
-        } else {
-            throw new IllegalArgumentException("L'ensemble passé en paramètre n'est pas compatible.");
-        }
+        return EnsembleVue.creer(EnsembleVue.Operation.DIFFERENCE, this, autre);
     }
 
     /**
      * Retourne la différence symétrique entre cet ensemble et un autre.
      * Elle contient les éléments présents dans un seul des deux ensembles.
      * (xOr)
+     * Le résultat est une vue paresseuse : aucun élément n'est copié.
      * 
      * @param autre l'autre ensemble à comparer
-     * @return un nouvel ensemble représentant la différence symétrique
-     * @throws IllegalArgumentException si l'autre ensemble n'est pas une instance compatible
+     * @return un ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
      */
     @Override
     public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
-        if (autre instanceof EnsembleImpl) {
-            Set<T> diff1 = new HashSet<>(this.elements);
-            diff1.removeAll(((EnsembleImpl<T>) autre).elements);
-
-            Set<T> diff2 = new HashSet<>(((EnsembleImpl<T>) autre).elements);
-            diff2.removeAll(this.elements);
-
-            diff1.addAll(diff2);
-            return new EnsembleImpl<>(diff1);
-        } else {
-            throw new IllegalArgumentException("L'ensemble passé en paramètre n'est pas compatible.");
-        }
+        return EnsembleVue.creer(EnsembleVue.Operation.DIFF_SYMETRIQUE, this, autre);
     }
 
     /**
-     * Calcule le produit cartésien de cet ensemble avec un autre ensemble.
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
      *
      * @param autre l'autre ensemble à utiliser pour le produit cartésien
-     * @return un nouvel ensemble de couples représentant le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
      */
     @Override
-    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) {
-        Set<Couple<T, T>> resultat = new HashSet<>();
-        for (T a : this.elements) {
-            for (T b : autre.elements()) {
-                resultat.add(new CoupleImpl<>(a, b));
-            }
-        }
-        return new EnsembleImpl<>(resultat);
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
     }
 
     /**
-     * Retourne une copie des éléments contenus dans l'ensemble.
+     * Retourne une vue en lecture seule sur les éléments contenus dans l'ensemble.
+     * Aucune copie n'est faite : l'immuabilité est garantie par la vue non modifiable.
      *
-     * @return un {@link Set} contenant tous les éléments
+     * @return un {@link Set} non modifiable contenant tous les éléments
      */
     @Override
     public Set<T> elements() {
-        return new HashSet<>(this.elements);
+        return Collections.unmodifiableSet(this.elements);
+    }
+
+    /**
+     * Retourne un itérateur en lecture seule sur les éléments, sans copie.
+     *
+     * @return un itérateur sur les éléments de l'ensemble
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        return elements().iterator();
     }
 
     /**
@@ -0,0 +1,335 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Vue d'un ensemble dont les opérations ensemblistes s'exécutent en parallèle sur un
+ * {@link ForkJoinPool}, retournée par {@link FabriqueEnsemble#parallele}.
+ * L'ensemble parcouru est découpé par son {@link Spliterator} jusqu'à ce que chaque morceau
+ * compte au plus {@code seuil} éléments ; chaque morceau est filtré par {@code contient} sur
+ * l'autre opérande dans une tâche du pool, qui range aussitôt les éléments retenus dans la table
+ * du résultat. Cette table est une {@link ConcurrentHashMap}, découpée en cases verrouillées
+ * séparément : le résultat est construit par toutes les tâches à la fois, sans réunion
+ * séquentielle des morceaux à la fin.
+ * Les résultats sont des ensembles concrets, identiques à ceux des opérations séquentielles.
+ * Les opérandes ne doivent pas être modifiés pendant le calcul ; les implémentations
+ * immuables du paquetage peuvent être interrogées par plusieurs fils à la fois.
+ *
+ * @param <T> Le type des éléments dans l'ensemble
+ */
+class EnsembleParallele<T> implements EnsembleParcourable<T> {
+
+    /** Nombre d'éléments par défaut en dessous duquel un morceau est traité séquentiellement. */
+    static final int SEUIL_DEFAUT = 1 << 13;
+
+    /** L'ensemble dont on parallélise les opérations. */
+    private final Ensemble<T> source;
+
+    /** Le pool qui exécute toutes les tâches des opérations. */
+    private final ForkJoinPool pool;
+
+    /** Le nombre d'éléments en dessous duquel un morceau n'est plus découpé. */
+    private final int seuil;
+
+    /**
+     * Construit une vue parallèle sur un ensemble.
+     *
+     * @param source l'ensemble dont on parallélise les opérations
+     * @param pool le pool qui exécute les tâches
+     * @param seuil le nombre d'éléments en dessous duquel un morceau est traité séquentiellement
+     * @throws IllegalArgumentException si l'ensemble ou le pool est null, ou si le seuil est inférieur à 1
+     */
+    EnsembleParallele(Ensemble<T> source, ForkJoinPool pool, int seuil) throws IllegalArgumentException {
+        if (source == null || pool == null) {
+            throw new IllegalArgumentException("L'ensemble et le pool ne peuvent pas être null");
+        }
+        if (seuil < 1) {
+            throw new IllegalArgumentException("Le seuil doit être strictement positif");
+        }
+        // éviter d'empiler les vues parallèles
+        this.source = source instanceof EnsembleParallele ? ((EnsembleParallele<T>) source).source : source;
+        this.pool = pool;
+        this.seuil = seuil;
+    }
+
+    /**
+     * Retourne le nombre d'éléments de l'ensemble sous-jacent.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return source.cardinal();
+    }
+
+    /**
+     * Vérifie si un élément appartient à l'ensemble sous-jacent ; une seule recherche
+     * n'a rien à paralléliser.
+     *
+     * @param element l'élément à rechercher
+     * @return {@code true} si l'élément est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T element) {
+        return source.contient(element);
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble.
+     * Les éléments des deux ensembles sont rangés en parallèle dans la table du résultat,
+     * qui écarte d'elle-même les doublons.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
+        Ensemble<T> b = deballer(autre);
+        Resultat<T> resultat = new Resultat<>(Math.max(source.cardinal(), b.cardinal()));
+        executer(new Filtrage<>(source.elements().spliterator(), null, true, seuil, resultat),
+                new Filtrage<>(b.elements().spliterator(), null, true, seuil, resultat));
+        return resultat.construire();
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble.
+     * Le plus petit des deux est parcouru en parallèle et chacun de ses éléments est cherché dans l'autre.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
+        Ensemble<T> b = deballer(autre);
+        Ensemble<T> petit = source.cardinal() <= b.cardinal() ? source : b;
+        Ensemble<T> grand = petit == source ? b : source;
+        Resultat<T> resultat = new Resultat<>(petit.cardinal());
+        executer(new Filtrage<>(petit.elements().spliterator(), grand, true, seuil, resultat), null);
+        return resultat.construire();
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble.
+     * Les éléments de cet ensemble sont filtrés en parallèle par absence dans l'autre.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
+        Ensemble<T> b = deballer(autre);
+        Resultat<T> resultat = new Resultat<>(source.cardinal());
+        executer(new Filtrage<>(source.elements().spliterator(), b, false, seuil, resultat), null);
+        return resultat.construire();
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble.
+     * Les deux différences sont calculées en parallèle, chacune découpée à son tour, et rangées
+     * dans la même table.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
+        Ensemble<T> b = deballer(autre);
+        Resultat<T> resultat = new Resultat<>(Math.max(source.cardinal(), b.cardinal()));
+        executer(new Filtrage<>(source.elements().spliterator(), b, false, seuil, resultat),
+                new Filtrage<>(b.elements().spliterator(), source, false, seuil, resultat));
+        return resultat.construire();
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : il n'y a rien à paralléliser.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(source, deballer(autre));
+    }
+
+    /**
+     * Retourne les éléments de l'ensemble sous-jacent, sans copie.
+     *
+     * @return un {@link Set} contenant tous les éléments
+     */
+    @Override
+    public Set<T> elements() {
+        return source.elements();
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments de l'ensemble sous-jacent, sans copie lorsqu'il
+     * offre la capacité {@link EnsembleParcourable}.
+     *
+     * @return un itérateur sur les éléments de l'ensemble
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        return EnsembleVue.iterateur(source);
+    }
+
+    /**
+     * Vérifie un opérande et retire son éventuelle enveloppe parallèle.
+     *
+     * @param autre l'opérande
+     * @return l'ensemble sous-jacent
+     * @throws IllegalArgumentException si l'opérande est null
+     */
+    private Ensemble<T> deballer(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        return autre instanceof EnsembleParallele ? ((EnsembleParallele<T>) autre).source : autre;
+    }
+
+    /**
+     * Exécute une ou deux tâches de filtrage sur le pool et attend leur fin.
+     *
+     * @param premiere la première tâche
+     * @param seconde la seconde tâche, exécutée en même temps que la première, ou null
+     */
+    private void executer(Filtrage<T> premiere, Filtrage<T> seconde) {
+        if (seconde != null) {
+            pool.execute(seconde);
+        }
+        pool.invoke(premiere);
+        if (seconde != null) {
+            seconde.join();
+        }
+    }
+
+    /**
+     * Table du résultat d'une opération, remplie en même temps par toutes les tâches.
+     * Une {@link ConcurrentHashMap} ne peut pas contenir null : cet élément éventuel est noté à part.
+     *
+     * @param <T> Le type des éléments
+     */
+    private static final class Resultat<T> {
+
+        /** Les éléments retenus, sauf null. */
+        private final Set<T> elements;
+
+        /** Vrai si l'élément null a été retenu. */
+        private final AtomicBoolean avecNull = new AtomicBoolean();
+
+        /**
+         * Crée une table vide dimensionnée pour un nombre d'éléments attendu.
+         *
+         * @param capacite le nombre d'éléments attendu
+         */
+        Resultat(int capacite) {
+            this.elements = ConcurrentHashMap.newKeySet(capacite);
+        }
+
+        /**
+         * Range un élément retenu ; la méthode peut être appelée par plusieurs fils à la fois.
+         *
+         * @param element l'élément
+         */
+        void ajouter(T element) {
+            if (element == null) {
+                avecNull.set(true);
+            } else {
+                elements.add(element);
+            }
+        }
+
+        /**
+         * Crée l'ensemble concret des éléments retenus, une fois toutes les tâches terminées.
+         *
+         * @return l'ensemble
+         */
+        Ensemble<T> construire() {
+            if (!avecNull.get()) {
+                return EnsembleImpl.sansCopie(elements);
+            }
+            Set<T> copie = new HashSet<>(elements);
+            copie.add(null);
+            return EnsembleImpl.sansCopie(copie);
+        }
+    }
+
+    /**
+     * Tâche qui filtre les éléments d'un {@link Spliterator} par appartenance à un ensemble
+     * et range ceux qu'elle retient dans la table du résultat.
+     * Tant que le morceau dépasse le seuil, sa moitié est confiée à une sous-tâche.
+     *
+     * @param <T> Le type des éléments
+     */
+    private static final class Filtrage<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /** Les éléments restant à filtrer par cette tâche. */
+        private final Spliterator<T> morceau;
+
+        /** L'ensemble interrogé, ou null pour retenir tous les éléments. */
+        private final Ensemble<T> sonde;
+
+        /** {@code true} pour retenir les éléments présents dans la sonde, {@code false} pour les absents. */
+        private final boolean presents;
+
+        /** Le nombre d'éléments en dessous duquel le morceau n'est plus découpé. */
+        private final int seuil;
+
+        /** La table partagée où sont rangés les éléments retenus. */
+        private final Resultat<T> resultat;
+
+        /**
+         * Crée une tâche de filtrage sur un morceau.
+         *
+         * @param morceau les éléments à filtrer
+         * @param sonde l'ensemble interrogé, ou null pour retenir tous les éléments
+         * @param presents {@code true} pour retenir les éléments présents dans la sonde
+         * @param seuil le nombre d'éléments en dessous duquel le morceau n'est plus découpé
+         * @param resultat la table où ranger les éléments retenus
+         */
+        Filtrage(Spliterator<T> morceau, Ensemble<T> sonde, boolean presents, int seuil, Resultat<T> resultat) {
+            this.morceau = morceau;
+            this.sonde = sonde;
+            this.presents = presents;
+            this.seuil = seuil;
+            this.resultat = resultat;
+        }
+
+        /**
+         * Confie des moitiés du morceau à des sous-tâches tant qu'il dépasse le seuil, filtre
+         * le reste sur place, puis attend les sous-tâches, de la dernière créée à la première.
+         */
+        @Override
+        protected void compute() {
+            List<Filtrage<T>> sousTaches = new ArrayList<>();
+            Spliterator<T> moitie;
+            while (morceau.estimateSize() > seuil && (moitie = morceau.trySplit()) != null) {
+                Filtrage<T> sousTache = new Filtrage<>(moitie, sonde, presents, seuil, resultat);
+                sousTache.fork();
+                sousTaches.add(sousTache);
+            }
+            morceau.forEachRemaining(e -> {
+                if (sonde == null || sonde.contient(e) == presents) {
+                    resultat.ajouter(e);
+                }
+            });
+            for (int i = sousTaches.size() - 1; i >= 0; i--) {
+                sousTaches.get(i).join();
+            }
+        }
+    }
+}
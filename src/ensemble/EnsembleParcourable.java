@@ -0,0 +1,21 @@
+package ensemble;
+
+import java.util.Iterator;
+
+/**
+ * Capacité interne des implémentations d'{@link Ensemble} du paquetage : parcourir leurs
+ * éléments directement, sans passer par une copie ni par la vue retournée par {@code elements()}.
+ * Les opérations entre deux implémentations différentes s'appuient sur cette capacité pour
+ * parcourir le plus petit des deux ensembles et interroger le plus grand avec {@code contient}.
+ *
+ * @param <T> Le type des éléments dans l'ensemble
+ */
+interface EnsembleParcourable<T> extends Ensemble<T> {
+
+    /**
+     * Retourne un itérateur en lecture seule sur les éléments de l'ensemble.
+     *
+     * @return un itérateur sur les éléments
+     */
+    Iterator<T> iterateur();
+}
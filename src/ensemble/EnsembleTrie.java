@@ -0,0 +1,379 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface Ensemble pour des éléments comparables, stockés dans un
+ * tableau trié et sans doublon.
+ * Par rapport à {@link EnsembleImpl}, il n'y a ni nœud ni table de hachage : l'ensemble
+ * occupe un seul tableau contigu, le parcours se fait dans l'ordre naturel et les opérations
+ * ensemblistes sont des fusions linéaires de deux tableaux triés.
+ * L'ensemble est immuable.
+ *
+ * @param <T> Le type des éléments dans l'ensemble
+ */
+class EnsembleTrie<T extends Comparable<? super T>> implements EnsembleParcourable<T> {
+
+    /**
+     * Rapport de taille à partir duquel l'intersection cherche les éléments du petit
+     * ensemble dans le grand par recherche exponentielle au lieu de parcourir le grand.
+     */
+    private static final int RAPPORT_GALOP = 32;
+
+    /** Les éléments, triés selon leur ordre naturel et distincts. */
+    private final Object[] elements;
+
+    /**
+     * Constructeur pour créer un ensemble trié à partir d'un Set d'éléments.
+     *
+     * @param elements Le Set des éléments à mettre dans l'ensemble
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    public EnsembleTrie(Set<T> elements) throws IllegalArgumentException {
+        if (elements == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        Object[] tableau = elements.toArray();
+        for (Object e : tableau) {
+            if (e == null) {
+                throw new IllegalArgumentException("Un ensemble trié ne peut pas contenir null");
+            }
+        }
+        Arrays.sort(tableau);
+        // un Set peut contenir des éléments distincts pour equals mais égaux pour compareTo
+        int n = 0;
+        for (int i = 0; i < tableau.length; i++) {
+            if (n == 0 || comparer(tableau[n - 1], tableau[i]) != 0) {
+                tableau[n++] = tableau[i];
+            }
+        }
+        this.elements = n == tableau.length ? tableau : Arrays.copyOf(tableau, n);
+    }
+
+    /**
+     * Constructeur interne utilisé par les opérations ensemblistes.
+     * Le tableau, déjà trié et sans doublon, est repris sans copie s'il est plein.
+     *
+     * @param elements les éléments triés
+     * @param n le nombre d'éléments utilisés
+     */
+    private EnsembleTrie(Object[] elements, int n) {
+        this.elements = n == elements.length ? elements : Arrays.copyOf(elements, n);
+    }
+
+    /**
+     * Compare deux éléments du tableau selon leur ordre naturel.
+     *
+     * @param a le premier élément
+     * @param b le deuxième élément
+     * @return un entier négatif, nul ou positif
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<? super T>> int comparer(Object a, Object b) {
+        return ((T) a).compareTo((T) b);
+    }
+
+    /**
+     * Retourne l'élément à un indice donné du tableau.
+     *
+     * @param i l'indice
+     * @return l'élément
+     */
+    @SuppressWarnings("unchecked")
+    private T element(int i) {
+        return (T) elements[i];
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return elements.length;
+    }
+
+    /**
+     * Vérifie si un élément donné appartient à l'ensemble, par recherche dichotomique.
+     *
+     * @param element l'élément à rechercher
+     * @return {@code true} si l'élément est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T element) {
+        return element != null && Arrays.binarySearch(elements, element) >= 0;
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble (fusion linéaire).
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
+        return fusionner(versEnsembleTrie(autre), true, true, true);
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble.
+     * Si un des deux ensembles est beaucoup plus petit que l'autre, ses éléments sont
+     * cherchés dans le grand par recherche exponentielle (galop) ; sinon les deux tableaux
+     * sont fusionnés. Avec une autre implémentation, le plus petit des deux ensembles est
+     * parcouru et chacun de ses éléments est cherché dans l'autre, sans conversion.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (!(autre instanceof EnsembleTrie)) {
+            if (this.elements.length <= autre.cardinal()) {
+                return filtrer(autre, true);
+            }
+            Object[] resultat = new Object[autre.cardinal()];
+            int n = 0;
+            for (Iterator<T> it = EnsembleVue.iterateur(autre); it.hasNext(); ) {
+                T e = it.next();
+                if (contient(e)) {
+                    resultat[n++] = e;
+                }
+            }
+            Arrays.sort(resultat, 0, n);
+            return new EnsembleTrie<>(resultat, n);
+        }
+        EnsembleTrie<T> b = (EnsembleTrie<T>) autre;
+        if ((long) this.elements.length * RAPPORT_GALOP < b.elements.length) {
+            return intersectionGalop(this.elements, b.elements);
+        }
+        if ((long) b.elements.length * RAPPORT_GALOP < this.elements.length) {
+            return intersectionGalop(b.elements, this.elements);
+        }
+        return fusionner(b, false, false, true);
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble (fusion linéaire).
+     * Avec une autre implémentation, les éléments de cet ensemble sont simplement filtrés
+     * par appartenance à l'autre, sans le convertir.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (!(autre instanceof EnsembleTrie)) {
+            return filtrer(autre, false);
+        }
+        return fusionner((EnsembleTrie<T>) autre, true, false, false);
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble (fusion linéaire).
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
+        return fusionner(versEnsembleTrie(autre), true, true, false);
+    }
+
+    /**
+     * Fusionne les tableaux triés de deux ensembles en ne gardant que certaines catégories
+     * d'éléments : ceux présents seulement dans cet ensemble, seulement dans l'autre, ou dans les deux.
+     *
+     * @param b l'autre ensemble
+     * @param garderA garder les éléments présents seulement dans cet ensemble
+     * @param garderB garder les éléments présents seulement dans l'autre ensemble
+     * @param garderCommuns garder les éléments présents dans les deux
+     * @return le nouvel ensemble
+     */
+    private EnsembleTrie<T> fusionner(EnsembleTrie<T> b, boolean garderA, boolean garderB, boolean garderCommuns) {
+        Object[] x = this.elements;
+        Object[] y = b.elements;
+        Object[] resultat = new Object[(garderA ? x.length : 0) + (garderB ? y.length : 0)
+                + (garderA || garderB ? 0 : Math.min(x.length, y.length))];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < x.length && j < y.length) {
+            int c = comparer(x[i], y[j]);
+            if (c < 0) {
+                if (garderA) {
+                    resultat[n++] = x[i];
+                }
+                i++;
+            } else if (c > 0) {
+                if (garderB) {
+                    resultat[n++] = y[j];
+                }
+                j++;
+            } else {
+                if (garderCommuns) {
+                    resultat[n++] = x[i];
+                }
+                i++;
+                j++;
+            }
+        }
+        if (garderA) {
+            System.arraycopy(x, i, resultat, n, x.length - i);
+            n += x.length - i;
+        }
+        if (garderB) {
+            System.arraycopy(y, j, resultat, n, y.length - j);
+            n += y.length - j;
+        }
+        return new EnsembleTrie<>(resultat, n);
+    }
+
+    /**
+     * Calcule l'intersection d'un petit tableau trié avec un grand.
+     * Pour chaque élément du petit tableau, la position dans le grand est cherchée à partir
+     * de la position précédente par pas doublés (1, 2, 4, ...) puis par dichotomie ;
+     * le coût est en O(p log(g / p)) au lieu de O(p + g).
+     *
+     * @param petit le plus petit tableau
+     * @param grand le plus grand tableau
+     * @return l'ensemble des éléments communs
+     */
+    private static <T extends Comparable<? super T>> EnsembleTrie<T> intersectionGalop(Object[] petit, Object[] grand) {
+        Object[] resultat = new Object[petit.length];
+        int n = 0;
+        int debut = 0;
+        for (Object e : petit) {
+            if (debut >= grand.length) {
+                break;
+            }
+            // galop : trouver une borne haute au-delà de e
+            int pas = 1;
+            int haut = debut;
+            while (haut < grand.length && EnsembleTrie.<T>comparer(grand[haut], e) < 0) {
+                debut = haut + 1;
+                haut += pas;
+                pas <<= 1;
+            }
+            int i = Arrays.binarySearch(grand, debut, Math.min(haut + 1, grand.length), e);
+            if (i >= 0) {
+                resultat[n++] = e;
+                debut = i + 1;
+            } else {
+                debut = -i - 1;
+            }
+        }
+        return new EnsembleTrie<>(resultat, n);
+    }
+
+    /**
+     * Garde, dans l'ordre, les éléments de cet ensemble qui sont (ou ne sont pas) dans un autre ensemble.
+     *
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les éléments présents dans {@code sonde}
+     * @return le nouvel ensemble
+     */
+    private EnsembleTrie<T> filtrer(Ensemble<T> sonde, boolean presents) {
+        Object[] resultat = new Object[elements.length];
+        int n = 0;
+        for (int i = 0; i < elements.length; i++) {
+            if (sonde.contient(element(i)) == presents) {
+                resultat[n++] = elements[i];
+            }
+        }
+        return new EnsembleTrie<>(resultat, n);
+    }
+
+    /**
+     * Convertit un ensemble quelconque en ensemble trié.
+     * Si l'ensemble est déjà un {@code EnsembleTrie}, il est retourné tel quel.
+     *
+     * @param autre l'ensemble à convertir
+     * @return l'ensemble trié
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    private EnsembleTrie<T> versEnsembleTrie(Ensemble<T> autre) throws IllegalArgumentException {
+        if (autre instanceof EnsembleTrie) {
+            return (EnsembleTrie<T>) autre;
+        }
+        EnsembleVue.verifierCompatible(autre);
+        return new EnsembleTrie<>(autre.elements());
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<T> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments, dans l'ordre naturel.
+     *
+     * @return un itérateur sur les éléments de l'ensemble
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        return new Iterator<T>() {
+            private int indice = 0;
+
+            @Override
+            public boolean hasNext() {
+                return indice < elements.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return element(indice++);
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, dans l'ordre naturel, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0) {
+                str.append(", ");
+            }
+            str.append(elements[i]);
+        }
+        str.append("}");
+        return str.toString();
+    }
+}
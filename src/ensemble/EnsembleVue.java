@@ -0,0 +1,399 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Vue paresseuse représentant le résultat d'une opération ensembliste entre deux ensembles.
+ * Aucun élément n'est copié à la construction : la vue garde une référence vers ses deux
+ * opérandes, qui peuvent eux-mêmes être des vues, et forme ainsi un arbre d'expression.
+ * {@code contient} parcourt cet arbre, et {@code cardinal} est calculé au premier appel
+ * en parcourant le plus petit opérande, puis mémorisé.
+ * Comme les opérandes sont immuables, la vue l'est aussi.
+ * Lorsque l'arbre devient trop profond, le résultat est matérialisé dans un {@link EnsembleImpl}.
+ *
+ * @param <T> Le type des éléments dans l'ensemble
+ */
+class EnsembleVue<T> implements EnsembleParcourable<T> {
+
+    /**
+     * Profondeur maximale de l'arbre d'expression : au-delà, le résultat d'une opération
+     * est matérialisé pour que {@code contient} garde un coût raisonnable.
+     */
+    static final int PROFONDEUR_MAX = 16;
+
+    /** Les opérations ensemblistes qu'une vue peut représenter. */
+    enum Operation { UNION, INTERSECTION, DIFFERENCE, DIFF_SYMETRIQUE }
+
+    /** L'opération représentée par la vue. */
+    private final Operation operation;
+
+    /** L'opérande de gauche. */
+    private final Ensemble<T> gauche;
+
+    /** L'opérande de droite. */
+    private final Ensemble<T> droite;
+
+    /** La profondeur de l'arbre d'expression dont cette vue est la racine. */
+    private final int profondeur;
+
+    /** Le cardinal, ou -1 tant qu'il n'a pas été calculé. */
+    private int cardinal = -1;
+
+    /**
+     * Construit une vue sur le résultat d'une opération entre deux ensembles.
+     *
+     * @param operation l'opération
+     * @param gauche l'opérande de gauche
+     * @param droite l'opérande de droite
+     */
+    private EnsembleVue(Operation operation, Ensemble<T> gauche, Ensemble<T> droite) {
+        this.operation = operation;
+        this.gauche = gauche;
+        this.droite = droite;
+        this.profondeur = 1 + Math.max(profondeur(gauche), profondeur(droite));
+    }
+
+    /**
+     * Crée l'ensemble résultat d'une opération entre deux ensembles compatibles.
+     * Le résultat est une vue, sauf si l'arbre d'expression dépasse {@link #PROFONDEUR_MAX} :
+     * il est alors matérialisé.
+     *
+     * @param <T> le type des éléments
+     * @param operation l'opération
+     * @param gauche l'opérande de gauche
+     * @param droite l'opérande de droite
+     * @return le résultat de l'opération
+     * @throws IllegalArgumentException si l'opérande de droite est null
+     */
+    static <T> Ensemble<T> creer(Operation operation, Ensemble<T> gauche, Ensemble<T> droite)
+            throws IllegalArgumentException {
+        verifierCompatible(droite);
+        EnsembleVue<T> vue = new EnsembleVue<>(operation, gauche, droite);
+        if (vue.profondeur > PROFONDEUR_MAX) {
+            return vue.materialiser();
+        }
+        return vue;
+    }
+
+    /**
+     * Vérifie qu'un ensemble peut être utilisé comme opérande d'une opération ensembliste.
+     * Toute implémentation d'{@link Ensemble} est acceptée.
+     *
+     * @param autre l'ensemble à vérifier
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    static void verifierCompatible(Ensemble<?> autre) throws IllegalArgumentException {
+        if (autre == null) {
+            throw new IllegalArgumentException("L'ensemble passé en paramètre n'est pas compatible.");
+        }
+    }
+
+    /**
+     * Retourne la profondeur de l'arbre d'expression d'un ensemble (0 pour un ensemble matérialisé).
+     *
+     * @param ensemble l'ensemble
+     * @return sa profondeur
+     */
+    private static int profondeur(Ensemble<?> ensemble) {
+        return ensemble instanceof EnsembleVue ? ((EnsembleVue<?>) ensemble).profondeur : 0;
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments d'un ensemble quelconque, sans copie lorsque
+     * l'implémentation offre la capacité {@link EnsembleParcourable}.
+     *
+     * @param <T> le type des éléments
+     * @param ensemble l'ensemble à parcourir
+     * @return un itérateur sur ses éléments
+     */
+    static <T> Iterator<T> iterateur(Ensemble<T> ensemble) {
+        if (ensemble instanceof EnsembleParcourable) {
+            return ((EnsembleParcourable<T>) ensemble).iterateur();
+        }
+        return ensemble.elements().iterator();
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     * Le premier appel parcourt l'opérande le plus petit ; le résultat est ensuite mémorisé.
+     * Comme pour {@link java.util.Collection#size()}, il est plafonné à {@link Integer#MAX_VALUE}.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        if (cardinal < 0) {
+            // la vue est immuable : un calcul concurrent donne le même résultat
+            cardinal = calculerCardinal();
+        }
+        return cardinal;
+    }
+
+    /**
+     * Calcule le cardinal à partir de ceux des opérandes et d'un parcours du plus petit.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    private int calculerCardinal() {
+        // calcul en long : la somme de deux cardinaux peut dépasser Integer.MAX_VALUE
+        switch (operation) {
+            case UNION: {
+                // |A ∪ B| = |A| + |B \ A| avec B le plus petit des deux
+                boolean gaucheGrand = gauche.cardinal() >= droite.cardinal();
+                Ensemble<T> grand = gaucheGrand ? gauche : droite;
+                Ensemble<T> petit = gaucheGrand ? droite : gauche;
+                return plafonner((long) grand.cardinal() + compter(petit, grand, false));
+            }
+            case INTERSECTION:
+                return plafonner(gauche.cardinal() <= droite.cardinal()
+                        ? compter(gauche, droite, true)
+                        : compter(droite, gauche, true));
+            case DIFFERENCE:
+                return plafonner(compter(gauche, droite, false));
+            default: {
+                long communs = gauche.cardinal() <= droite.cardinal()
+                        ? compter(gauche, droite, true)
+                        : compter(droite, gauche, true);
+                return plafonner((long) gauche.cardinal() + droite.cardinal() - 2 * communs);
+            }
+        }
+    }
+
+    /**
+     * Ramène un cardinal calculé en {@code long} dans l'intervalle d'un {@code int}.
+     *
+     * @param total le cardinal exact
+     * @return le cardinal, plafonné à {@link Integer#MAX_VALUE}
+     */
+    private static int plafonner(long total) {
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Compte les éléments d'un ensemble qui sont (ou ne sont pas) dans un autre.
+     *
+     * @param parcouru l'ensemble parcouru
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour compter les éléments présents dans {@code sonde}
+     * @return le nombre d'éléments comptés
+     */
+    private static <T> long compter(Ensemble<T> parcouru, Ensemble<T> sonde, boolean presents) {
+        long total = 0;
+        for (Iterator<T> it = iterateur(parcouru); it.hasNext(); ) {
+            if (sonde.contient(it.next()) == presents) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Vérifie si un élément appartient à l'ensemble en interrogeant les opérandes.
+     *
+     * @param element l'élément à rechercher
+     * @return {@code true} si l'élément est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T element) {
+        switch (operation) {
+            case UNION:
+                return gauche.contient(element) || droite.contient(element);
+            case INTERSECTION:
+                return gauche.contient(element) && droite.contient(element);
+            case DIFFERENCE:
+                return gauche.contient(element) && !droite.contient(element);
+            default:
+                return gauche.contient(element) != droite.contient(element);
+        }
+    }
+
+    /**
+     * Retourne une vue sur l'union de cet ensemble avec un autre ensemble.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> union(Ensemble<T> autre) throws IllegalArgumentException {
+        return creer(Operation.UNION, this, autre);
+    }
+
+    /**
+     * Retourne une vue sur l'intersection de cet ensemble avec un autre ensemble.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> intersection(Ensemble<T> autre) throws IllegalArgumentException {
+        return creer(Operation.INTERSECTION, this, autre);
+    }
+
+    /**
+     * Retourne une vue sur la différence entre cet ensemble et un autre ensemble.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> difference(Ensemble<T> autre) throws IllegalArgumentException {
+        return creer(Operation.DIFFERENCE, this, autre);
+    }
+
+    /**
+     * Retourne une vue sur la différence symétrique entre cet ensemble et un autre ensemble.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<T> diffSymetrique(Ensemble<T> autre) throws IllegalArgumentException {
+        return creer(Operation.DIFF_SYMETRIQUE, this, autre);
+    }
+
+    /**
+     * Retourne le produit cartésien virtuel de cet ensemble avec un autre ensemble.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<T, T>> produitCartesien(Ensemble<T> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<T> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Calcule le résultat de l'opération et le stocke dans un ensemble concret.
+     *
+     * @return un {@link EnsembleImpl} contenant les éléments de la vue
+     */
+    Ensemble<T> materialiser() {
+        Set<T> resultat = new HashSet<>();
+        for (Iterator<T> it = iterateur(); it.hasNext(); ) {
+            resultat.add(it.next());
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments de la vue.
+     * Les éléments sont produits au fur et à mesure en parcourant les opérandes,
+     * chaque élément n'étant produit qu'une fois.
+     *
+     * @return un itérateur sur les éléments
+     */
+    @Override
+    public Iterator<T> iterateur() {
+        switch (operation) {
+            case UNION:
+                return concatener(iterateur(gauche), filtrer(iterateur(droite), gauche, false));
+            case INTERSECTION:
+                return gauche.cardinal() <= droite.cardinal()
+                        ? filtrer(iterateur(gauche), droite, true)
+                        : filtrer(iterateur(droite), gauche, true);
+            case DIFFERENCE:
+                return filtrer(iterateur(gauche), droite, false);
+            default:
+                return concatener(filtrer(iterateur(gauche), droite, false),
+                        filtrer(iterateur(droite), gauche, false));
+        }
+    }
+
+    /**
+     * Filtre un itérateur en ne gardant que les éléments présents (ou absents) d'un ensemble.
+     *
+     * @param source l'itérateur à filtrer
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les éléments présents dans {@code sonde}
+     * @return l'itérateur filtré
+     */
+    private static <T> Iterator<T> filtrer(Iterator<T> source, Ensemble<T> sonde, boolean presents) {
+        return new Iterator<T>() {
+            private T prochain;
+            private boolean disponible;
+
+            @Override
+            public boolean hasNext() {
+                while (!disponible && source.hasNext()) {
+                    T candidat = source.next();
+                    if (sonde.contient(candidat) == presents) {
+                        prochain = candidat;
+                        disponible = true;
+                    }
+                }
+                return disponible;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                disponible = false;
+                return prochain;
+            }
+        };
+    }
+
+    /**
+     * Enchaîne deux itérateurs.
+     *
+     * @param premier l'itérateur parcouru en premier
+     * @param second l'itérateur parcouru ensuite
+     * @return l'itérateur sur les éléments des deux
+     */
+    private static <T> Iterator<T> concatener(Iterator<T> premier, Iterator<T> second) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return premier.hasNext() || second.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return premier.hasNext() ? premier.next() : second.next();
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<T> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+}
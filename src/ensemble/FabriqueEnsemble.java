@@ -1,11 +1,18 @@
 package ensemble;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Classe utilitaire permettant de créer des instances de l'interface Ensemble.
  * Cette fabrique offre une méthode statique pour encapsuler un ensemble existant (Set)
- * dans une implémentation immuable de type {@link EnsembleImpl}.
+ * dans une implémentation immuable de type {@link EnsembleImpl}, des méthodes pour les
+ * implémentations spécialisées, des opérations n-aires sur des collections d'ensembles
+ * et une vue parallèle pour les très grands ensembles.
  */
 public class FabriqueEnsemble {
 
@@ -20,4 +27,254 @@ public class FabriqueEnsemble {
     public static <T> Ensemble<T> creerEnsemble(Set<T> elements) {
         return new EnsembleImpl<>(elements);
     }
+
+    /**
+     * Crée le produit cartésien virtuel de deux ensembles d'éléments éventuellement de types différents.
+     * Aucun couple n'est créé à l'avance : le cardinal vaut |A|·|B|, l'appartenance d'un couple
+     * est testée sur chacun des facteurs et les couples sont produits au fur et à mesure du parcours.
+     *
+     * @param <A>      Le type des éléments du premier ensemble
+     * @param <B>      Le type des éléments du deuxième ensemble
+     * @param premier  Le premier facteur
+     * @param deuxieme Le deuxième facteur
+     * @return Un ensemble immuable de couples représentant A × B
+     * @throws IllegalArgumentException si l'un des ensembles est null
+     */
+    public static <A, B> Ensemble<Couple<A, B>> creerProduitCartesien(Ensemble<A> premier, Ensemble<B> deuxieme) {
+        return new ProduitCartesien<>(premier, deuxieme);
+    }
+
+    /**
+     * Calcule immédiatement les éléments d'un ensemble.
+     * Les opérations ensemblistes de {@link EnsembleImpl} retournent des vues paresseuses
+     * qui interrogent leurs opérandes à chaque appel ; cette méthode fige le résultat
+     * dans un ensemble concret, par exemple avant de l'interroger de nombreuses fois.
+     * Un ensemble qui n'est pas une vue est retourné tel quel.
+     *
+     * @param <T>      Le type des éléments dans l'ensemble
+     * @param ensemble L'ensemble à matérialiser
+     * @return Un ensemble contenant les mêmes éléments, stockés explicitement
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    public static <T> Ensemble<T> materialiser(Ensemble<T> ensemble) {
+        if (ensemble == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        if (ensemble instanceof EnsembleVue) {
+            return ((EnsembleVue<T>) ensemble).materialiser();
+        }
+        return ensemble;
+    }
+
+    /**
+     * Crée un nouvel ensemble d'entiers stocké sous forme de tableau de bits.
+     * Les opérations ensemblistes entre deux ensembles créés par cette méthode
+     * se font 64 éléments à la fois, et {@code contient} / {@code cardinal}
+     * ne font aucune allocation.
+     *
+     * @param elements Le Set d'entiers à encapsuler
+     * @return Une instance immuable de {@link Ensemble} d'entiers
+     */
+    public static Ensemble<Integer> creerEnsembleEntiers(Set<Integer> elements) {
+        return new IntEnsemble(elements);
+    }
+
+    /**
+     * Crée un nouvel ensemble d'entiers compressé, découpé en tranches de 65536 valeurs.
+     * Chaque tranche est stockée sous la forme la plus compacte (tableau trié, tableau de bits
+     * ou liste de plages), ce qui convient aux ensembles mêlant plages denses et valeurs isolées.
+     *
+     * @param elements Le Set d'entiers à encapsuler
+     * @return Une instance immuable de {@link Ensemble} d'entiers
+     */
+    public static Ensemble<Integer> creerEnsembleCompresse(Set<Integer> elements) {
+        return new EnsembleCompresse(elements);
+    }
+
+    /**
+     * Crée un nouvel ensemble d'éléments quelconques, stocké sous forme de bitmap compressée des
+     * numéros d'un dictionnaire. Les éléments absents du dictionnaire y sont ajoutés.
+     * La place occupée suit le cardinal de l'ensemble, et non la taille du dictionnaire. Les
+     * opérations ensemblistes entre deux ensembles créés sur le même dictionnaire se font sur les
+     * numéros, sans comparer les éléments eux-mêmes.
+     *
+     * @param <T>          Le type des éléments dans l'ensemble
+     * @param dictionnaire Le dictionnaire qui numérote les éléments, partagé entre les ensembles
+     * @param elements     Le Set d'éléments à encapsuler
+     * @return Une instance immuable de {@link Ensemble}
+     * @throws IllegalArgumentException si le dictionnaire ou le Set est null, ou si le Set contient null
+     */
+    public static <T> Ensemble<T> creerEnsembleDictionnaire(Dictionnaire<T> dictionnaire, Set<T> elements) {
+        return new EnsembleDictionnaire<>(dictionnaire, elements);
+    }
+
+    /**
+     * Crée un nouvel ensemble d'éléments comparables, stocké dans un tableau trié.
+     * Les opérations ensemblistes entre deux ensembles triés sont des fusions linéaires,
+     * et le parcours suit l'ordre naturel des éléments.
+     *
+     * @param <T>      Le type des éléments dans l'ensemble
+     * @param elements Le Set d'éléments à encapsuler
+     * @return Une instance immuable de {@link Ensemble}
+     */
+    public static <T extends Comparable<? super T>> Ensemble<T> creerEnsembleTrie(Set<T> elements) {
+        return new EnsembleTrie<>(elements);
+    }
+
+    /**
+     * Crée un nouvel ensemble persistant, stocké dans un arbre de hachage à partage de structure.
+     * Une opération entre cet ensemble et un petit ensemble (union, différence, intersection,
+     * différence symétrique) ne recopie que les chemins menant aux éléments concernés : les
+     * ensembles dérivés d'une même base partagent l'essentiel de leur mémoire avec elle.
+     *
+     * @param <T>      Le type des éléments dans l'ensemble
+     * @param elements Le Set d'éléments à encapsuler
+     * @return Une instance immuable de {@link Ensemble}
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    public static <T> Ensemble<T> creerEnsemblePersistant(Set<T> elements) {
+        return new EnsembleHamt<>(elements);
+    }
+
+    /**
+     * Retourne une vue d'un ensemble dont les opérations ensemblistes s'exécutent en parallèle
+     * sur le pool commun ({@link ForkJoinPool#commonPool()}), avec le seuil de découpage par défaut.
+     *
+     * @param <T>      Le type des éléments dans l'ensemble
+     * @param ensemble L'ensemble dont on parallélise les opérations
+     * @return Une vue contenant les mêmes éléments que {@code ensemble}
+     * @throws IllegalArgumentException si l'ensemble est null
+     * @see #parallele(Ensemble, ForkJoinPool, int)
+     */
+    public static <T> Ensemble<T> parallele(Ensemble<T> ensemble) {
+        return new EnsembleParallele<>(ensemble, ForkJoinPool.commonPool(), EnsembleParallele.SEUIL_DEFAUT);
+    }
+
+    /**
+     * Retourne une vue d'un ensemble dont les opérations ensemblistes s'exécutent en parallèle
+     * sur un pool donné. L'ensemble parcouru est découpé en morceaux d'au plus {@code seuil}
+     * éléments, filtrés chacun dans une tâche du pool par {@code contient} sur l'autre opérande ;
+     * le nombre de fils utilisés est donc borné par celui du pool.
+     * Les résultats sont des ensembles concrets, identiques à ceux des opérations séquentielles.
+     * La parallélisation n'est rentable que pour des ensembles de plusieurs centaines de milliers
+     * d'éléments.
+     *
+     * @param <T>      Le type des éléments dans l'ensemble
+     * @param ensemble L'ensemble dont on parallélise les opérations
+     * @param pool     Le pool qui exécute les tâches
+     * @param seuil    Le nombre d'éléments en dessous duquel un morceau est traité séquentiellement
+     * @return Une vue contenant les mêmes éléments que {@code ensemble}
+     * @throws IllegalArgumentException si l'ensemble ou le pool est null, ou si le seuil est inférieur à 1
+     */
+    public static <T> Ensemble<T> parallele(Ensemble<T> ensemble, ForkJoinPool pool, int seuil) {
+        return new EnsembleParallele<>(ensemble, pool, seuil);
+    }
+
+    /**
+     * Calcule l'union d'un nombre quelconque d'ensembles en une seule passe.
+     * La table du résultat est dimensionnée d'après la somme des cardinaux, puis chaque
+     * ensemble est parcouru une seule fois sans copie intermédiaire.
+     *
+     * @param <T>       Le type des éléments
+     * @param ensembles Les ensembles à unir
+     * @return L'union de tous les ensembles (vide si la collection est vide)
+     * @throws IllegalArgumentException si la collection ou l'un des ensembles est null
+     */
+    public static <T> Ensemble<T> unionAll(Collection<? extends Ensemble<T>> ensembles) {
+        verifierOperandes(ensembles);
+        long total = 0;
+        for (Ensemble<T> e : ensembles) {
+            total += e.cardinal();
+        }
+        EnsembleBuilder<T> builder = new EnsembleBuilder<>((int) Math.min(total, Integer.MAX_VALUE));
+        for (Ensemble<T> e : ensembles) {
+            for (Iterator<T> it = EnsembleVue.iterateur(e); it.hasNext(); ) {
+                builder.ajouter(it.next());
+            }
+        }
+        return builder.construire();
+    }
+
+    /**
+     * Calcule l'intersection d'un nombre quelconque d'ensembles.
+     * Les ensembles sont traités du plus petit au plus grand : les éléments du plus petit
+     * sont filtrés par chacun des suivants, et le calcul s'arrête dès que le résultat est vide.
+     *
+     * @param <T>       Le type des éléments
+     * @param ensembles Les ensembles à intersecter
+     * @return L'intersection de tous les ensembles
+     * @throws IllegalArgumentException si la collection est null ou vide, ou si l'un des ensembles est null
+     */
+    public static <T> Ensemble<T> intersectionAll(Collection<? extends Ensemble<T>> ensembles) {
+        verifierOperandes(ensembles);
+        if (ensembles.isEmpty()) {
+            throw new IllegalArgumentException("L'intersection d'aucun ensemble n'est pas définie");
+        }
+        List<Ensemble<T>> tries = new ArrayList<>(ensembles);
+        tries.sort(Comparator.comparingInt(Ensemble::cardinal));
+
+        List<T> candidats = new ArrayList<>(tries.get(0).cardinal());
+        for (Iterator<T> it = EnsembleVue.iterateur(tries.get(0)); it.hasNext(); ) {
+            candidats.add(it.next());
+        }
+        for (int i = 1; i < tries.size() && !candidats.isEmpty(); i++) {
+            Ensemble<T> filtre = tries.get(i);
+            candidats.removeIf(e -> !filtre.contient(e));
+        }
+        EnsembleBuilder<T> builder = new EnsembleBuilder<>(candidats.size());
+        for (T e : candidats) {
+            builder.ajouter(e);
+        }
+        return builder.construire();
+    }
+
+    /**
+     * Calcule la différence entre un ensemble et l'union de plusieurs autres,
+     * sans construire cette union : chaque élément de {@code base} est cherché dans les autres
+     * ensembles, du plus grand au plus petit, jusqu'au premier qui le contient.
+     *
+     * @param <T>    Le type des éléments
+     * @param base   L'ensemble dont on retire des éléments
+     * @param autres Les ensembles dont les éléments sont retirés
+     * @return Les éléments de {@code base} qui n'appartiennent à aucun des autres ensembles
+     * @throws IllegalArgumentException si l'un des paramètres ou l'un des ensembles est null
+     */
+    public static <T> Ensemble<T> differenceAll(Ensemble<T> base, Collection<? extends Ensemble<T>> autres) {
+        if (base == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        verifierOperandes(autres);
+        List<Ensemble<T>> tries = new ArrayList<>(autres);
+        tries.sort(Comparator.comparingInt((Ensemble<T> e) -> e.cardinal()).reversed());
+
+        EnsembleBuilder<T> builder = new EnsembleBuilder<>(base.cardinal());
+        for (Iterator<T> it = EnsembleVue.iterateur(base); it.hasNext(); ) {
+            T e = it.next();
+            boolean retire = false;
+            for (int i = 0; i < tries.size() && !retire; i++) {
+                retire = tries.get(i).contient(e);
+            }
+            if (!retire) {
+                builder.ajouter(e);
+            }
+        }
+        return builder.construire();
+    }
+
+    /**
+     * Vérifie qu'une collection d'opérandes et chacun de ses ensembles ne sont pas null.
+     *
+     * @param ensembles la collection à vérifier
+     * @throws IllegalArgumentException si la collection ou l'un des ensembles est null
+     */
+    private static void verifierOperandes(Collection<? extends Ensemble<?>> ensembles) {
+        if (ensembles == null) {
+            throw new IllegalArgumentException("La collection d'ensembles ne peut pas être null");
+        }
+        for (Ensemble<?> e : ensembles) {
+            if (e == null) {
+                throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+            }
+        }
+    }
 }
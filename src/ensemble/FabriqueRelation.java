@@ -1,11 +1,14 @@
 package ensemble;
 
+import java.util.HashSet;
 import java.util.Set;
 
 /**
  * Fabrique utilitaire permettant de créer des relations binaires immuables.
  * Cette classe fournit une méthode statique pour encapsuler un ensemble de couples 
- * dans une implémentation de l'interface {@link Relation}.
+ * dans une implémentation de l'interface {@link Relation}, des méthodes pour les
+ * implémentations spécialisées, le calcul des fermetures réflexive, symétrique et
+ * d'équivalence, celui des classes d'équivalence et des composantes fortement connexes, un index d'accessibilité et l'analyse des ordres.
  */
 public class FabriqueRelation {
 
@@ -19,4 +22,220 @@ public class FabriqueRelation {
     public static <T> Relation<T> creerRelation(Set<Couple<T, T>> couples) {
         return new RelationImpl<>(couples);
     }
+
+    /**
+     * Crée une relation binaire immuable sur des entiers, stockée sous forme de matrice de bits.
+     * Adaptée aux domaines denses : la mémoire occupée est d'un bit par case de
+     * [min, max] × [min, max] pour chaque ligne non vide, et les propriétés sont vérifiées
+     * 64 cases à la fois.
+     * Quand la matrice occuperait bien plus de place que les couples eux-mêmes, par exemple pour
+     * quelques couples sur des entiers éloignés, la relation est stockée sous forme compacte,
+     * comme par {@link #creerRelationEntiersCreuse(Set)}.
+     *
+     * @param couples L'ensemble des couples d'entiers représentant la relation
+     * @return Une instance de {@link Relation} représentant la relation binaire
+     * @throws IllegalArgumentException si l'ensemble est null ou contient null
+     */
+    public static Relation<Integer> creerRelationEntiers(Set<Couple<Integer, Integer>> couples) {
+        if (RelationMatrice.estAdaptee(couples)) {
+            return new RelationMatrice(couples);
+        }
+        return new RelationCompacte(couples);
+    }
+
+    /**
+     * Crée une relation binaire immuable sur des entiers, stockée sous forme compacte.
+     * Adaptée aux domaines creux : chaque couple occupe un seul {@code long} dans un tableau trié,
+     * et les objets {@link Couple} ne sont créés que lors du parcours des éléments.
+     *
+     * @param couples L'ensemble des couples d'entiers représentant la relation
+     * @return Une instance de {@link Relation} représentant la relation binaire
+     * @throws IllegalArgumentException si l'ensemble est null ou contient null
+     */
+    public static Relation<Integer> creerRelationEntiersCreuse(Set<Couple<Integer, Integer>> couples) {
+        return new RelationCompacte(couples);
+    }
+
+    /**
+     * Crée une relation binaire immuable en lignes compressées, pour les grandes relations
+     * construites une fois puis seulement interrogées.
+     * Les éléments sont numérotés, et chaque couple n'occupe plus qu'un entier dans un tableau ;
+     * la source n'est parcourue qu'une fois et peut produire ses couples à la volée.
+     *
+     * @param <T> Le type des éléments contenus dans les couples
+     * @param couples Les couples représentant la relation
+     * @return Une instance de {@link Relation} représentant la relation binaire
+     * @throws IllegalArgumentException si la source est null ou produit un couple null
+     */
+    public static <T> Relation<T> creerRelationStatique(Iterable<? extends Couple<T, T>> couples) {
+        return new RelationCsr<>(couples);
+    }
+
+    /**
+     * Crée une relation binaire immuable sur un support explicite, en lignes compressées.
+     * Chaque élément du support reçoit une fois pour toutes un numéro dense, y compris s'il ne figure
+     * dans aucun couple : la réflexivité porte sur tout le support, et les propriétés se vérifient
+     * sur des tableaux d'entiers. Les réunions, intersections et composées suivent le support de la
+     * relation sur laquelle elles sont appelées : celles d'une relation ainsi créée restent sur son
+     * support, que l'autre relation ait un support égal, même construit séparément, ou n'en ait
+     * pas, quelle que soit son implémentation ; celles d'une relation sans support n'en ont pas.
+     * Deux supports explicites différents ne se combinent pas.
+     *
+     * @param <T> Le type des éléments du support
+     * @param support L'ensemble des éléments sur lequel porte la relation
+     * @param couples Les couples représentant la relation
+     * @return Une instance de {@link Relation} représentant la relation binaire
+     * @throws IllegalArgumentException si le support ou la source est null, ou si un couple est null
+     * ou contient un élément hors du support
+     */
+    public static <T> Relation<T> creerRelationSur(Ensemble<T> support, Iterable<? extends Couple<T, T>> couples) {
+        if (support == null) {
+            throw new IllegalArgumentException("Le support ne peut pas être null");
+        }
+        return new RelationCsr<>(support, couples);
+    }
+
+    /**
+     * Calcule les classes d'une relation d'équivalence.
+     * La partition est construite par union-find en un temps quasi linéaire en le nombre de couples ;
+     * elle répond ensuite en temps constant à la question « même classe ? ».
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation Une relation réflexive, symétrique et transitive
+     * @return La partition des éléments de la relation en classes d'équivalence
+     * @throws IllegalArgumentException si la relation est null ou n'est pas une relation d'équivalence
+     */
+    public static <T> Partition<T> classesEquivalence(Relation<T> relation) {
+        verifierRelation(relation);
+        if (!relation.estReflexive() || !relation.estSymetrique() || !relation.estTransitive()) {
+            throw new IllegalArgumentException("La relation n'est pas une relation d'équivalence");
+        }
+        return new PartitionUnionFind<>(relation.elements());
+    }
+
+    /**
+     * Calcule la fermeture réflexive d'une relation : la relation complétée par les couples (e, e)
+     * de chacun de ses éléments.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation
+     * @return Une nouvelle relation immuable et réflexive contenant la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> Relation<T> fermetureReflexive(Relation<T> relation) {
+        verifierRelation(relation);
+        Set<Couple<T, T>> couples = new HashSet<>(relation.elements());
+        for (Couple<T, T> couple : relation.elements()) {
+            couples.add(new CoupleImpl<>(couple.getPremier(), couple.getPremier()));
+            couples.add(new CoupleImpl<>(couple.getDeuxieme(), couple.getDeuxieme()));
+        }
+        return RelationImpl.sansCopie(couples);
+    }
+
+    /**
+     * Calcule la fermeture symétrique d'une relation : la relation complétée par l'inverse de chacun de ses couples.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation
+     * @return Une nouvelle relation immuable et symétrique contenant la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> Relation<T> fermetureSymetrique(Relation<T> relation) {
+        verifierRelation(relation);
+        Set<Couple<T, T>> couples = new HashSet<>(relation.elements());
+        for (Couple<T, T> couple : relation.elements()) {
+            couples.add(new CoupleImpl<>(couple.getDeuxieme(), couple.getPremier()));
+        }
+        return RelationImpl.sansCopie(couples);
+    }
+
+    /**
+     * Calcule la fermeture d'équivalence d'une relation : la plus petite relation d'équivalence qui la contient.
+     * Ses classes sont les composantes connexes de la relation, vue comme un graphe non orienté,
+     * obtenues par union-find sans calculer les fermetures intermédiaires.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation
+     * @return Une nouvelle relation d'équivalence immuable contenant la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> Relation<T> fermetureEquivalence(Relation<T> relation) {
+        verifierRelation(relation);
+        return RelationImpl.sansCopie(new PartitionUnionFind<>(relation.elements()).couples());
+    }
+
+    /**
+     * Calcule la partition associée à la fermeture d'équivalence d'une relation quelconque :
+     * deux éléments sont dans la même classe s'ils sont reliés par une suite de couples, dans un sens ou dans l'autre.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation
+     * @return La partition des éléments de la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> Partition<T> partition(Relation<T> relation) {
+        verifierRelation(relation);
+        return new PartitionUnionFind<>(relation.elements());
+    }
+
+    /**
+     * Décompose une relation, vue comme un graphe orienté, en composantes fortement connexes.
+     * Le calcul est itératif et linéaire en le nombre de couples ; il donne aussi la relation
+     * condensée entre composantes, sans cycle, et permet de savoir si la relation a un cycle.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation à décomposer
+     * @return Les composantes fortement connexes de la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> ComposantesFortementConnexes<T> composantesFortementConnexes(Relation<T> relation) {
+        verifierRelation(relation);
+        return new ComposantesTarjan<>(relation);
+    }
+
+    /**
+     * Construit un index d'accessibilité pour une relation fixe, qui répond aux questions
+     * « b est-il atteignable depuis a ? » sans calculer la fermeture transitive.
+     * L'index occupe une mémoire linéaire en le nombre de couples et répond à la plupart des
+     * questions en temps constant.
+     *
+     * @param <T> Le type des éléments de la relation
+     * @param relation La relation à indexer
+     * @return L'index d'accessibilité de la relation
+     * @throws IllegalArgumentException si la relation est null
+     */
+    public static <T> Accessibilite<T> indexAccessibilite(Relation<T> relation) {
+        verifierRelation(relation);
+        return new IndexAccessibilite<>(relation);
+    }
+
+    /**
+     * Analyse une relation d'ordre, large ou stricte : diagramme de Hasse, éléments minimaux
+     * et maximaux, extension linéaire. Les calculs se font sur les éléments numérotés, en un
+     * temps qui dépend de la taille des résultats plutôt que du cube du nombre d'éléments.
+     *
+     * @param <T> Le type des éléments ordonnés
+     * @param relation Une relation antisymétrique et transitive
+     * @return L'analyse de l'ordre
+     * @throws IllegalArgumentException si la relation est null, ou n'est pas antisymétrique et transitive
+     */
+    public static <T> OrdrePartiel<T> ordrePartiel(Relation<T> relation) {
+        verifierRelation(relation);
+        if (!relation.estAntisymetrique() || !relation.estTransitive()) {
+            throw new IllegalArgumentException("La relation n'est pas une relation d'ordre");
+        }
+        return new OrdrePartielImpl<>(relation);
+    }
+
+    /**
+     * Vérifie qu'une relation n'est pas null.
+     *
+     * @param relation la relation à vérifier
+     * @throws IllegalArgumentException si la relation est null
+     */
+    private static void verifierRelation(Relation<?> relation) {
+        if (relation == null) {
+            throw new IllegalArgumentException("La relation ne peut pas être null");
+        }
+    }
 }
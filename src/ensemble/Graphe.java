@@ -0,0 +1,447 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Graphe orienté construit à partir des couples d'une relation, pour les algorithmes qui
+ * parcourent la relation de proche en proche.
+ * Chaque élément reçoit un numéro dense de 0 à n − 1, et les successeurs de tous les sommets
+ * sont rangés bout à bout dans un seul tableau d'entiers : les successeurs du sommet v
+ * occupent les cases {@code debut[v]} à {@code debut[v + 1] − 1}.
+ * Le graphe est immuable.
+ *
+ * @param <T> le type des éléments de la relation
+ */
+class Graphe<T> {
+
+    /** La ligne de fermeture partagée par les sommets qui n'atteignent aucun sommet. */
+    private static final int[] VIDE = new int[0];
+
+    /** L'élément de chaque sommet, ou null si le graphe n'est connu que par ses numéros. */
+    private final List<T> sommets;
+
+    /** Le numéro de chaque élément, ou null de même. */
+    private final Map<T, Integer> numeros;
+
+    /** Pour chaque sommet v, l'indice de son premier successeur ; {@code debut[n]} vaut le nombre d'arcs. */
+    private final int[] debut;
+
+    /** Les successeurs de tous les sommets, bout à bout. */
+    private final int[] successeurs;
+
+    /**
+     * Construit le graphe d'une relation.
+     *
+     * @param couples les couples de la relation
+     */
+    Graphe(Iterable<? extends Couple<T, T>> couples) {
+        this.sommets = new ArrayList<>();
+        this.numeros = new HashMap<>();
+        int[] origines = new int[16];
+        int[] cibles = new int[16];
+        int nbArcs = 0;
+        for (Couple<T, T> couple : couples) {
+            if (nbArcs == origines.length) {
+                origines = Arrays.copyOf(origines, 2 * nbArcs);
+                cibles = Arrays.copyOf(cibles, 2 * nbArcs);
+            }
+            origines[nbArcs] = numero(couple.getPremier());
+            cibles[nbArcs] = numero(couple.getDeuxieme());
+            nbArcs++;
+        }
+        // tri par dénombrement des arcs selon leur origine
+        int n = sommets.size();
+        this.debut = new int[n + 1];
+        for (int k = 0; k < nbArcs; k++) {
+            debut[origines[k] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            debut[v + 1] += debut[v];
+        }
+        this.successeurs = new int[nbArcs];
+        int[] position = Arrays.copyOf(debut, n);
+        for (int k = 0; k < nbArcs; k++) {
+            successeurs[position[origines[k]]++] = cibles[k];
+        }
+    }
+
+    /**
+     * Construit un graphe dont les sommets ne sont connus que par leurs numéros, à partir de
+     * successeurs déjà rangés, sans les copier. Les méthodes qui passent par les éléments,
+     * {@link #sommet(int)}, {@link #numeroDe(Object)} et {@link #fermetureTransitive()},
+     * ne sont pas disponibles.
+     *
+     * @param debut pour chaque sommet v, l'indice de son premier successeur, suivi du nombre d'arcs
+     * @param successeurs les successeurs de tous les sommets, bout à bout
+     */
+    Graphe(int[] debut, int[] successeurs) {
+        this.sommets = null;
+        this.numeros = null;
+        this.debut = debut;
+        this.successeurs = successeurs;
+    }
+
+    /**
+     * Retourne le numéro d'un élément, en lui attribuant le suivant s'il n'en a pas encore.
+     *
+     * @param element l'élément
+     * @return son numéro
+     */
+    private int numero(T element) {
+        Integer v = numeros.get(element);
+        if (v == null) {
+            v = sommets.size();
+            numeros.put(element, v);
+            sommets.add(element);
+        }
+        return v;
+    }
+
+    /**
+     * Retourne le nombre de sommets.
+     *
+     * @return le nombre d'éléments distincts de la relation
+     */
+    int nbSommets() {
+        return debut.length - 1;
+    }
+
+    /**
+     * Retourne l'élément d'un sommet.
+     *
+     * @param v le numéro du sommet
+     * @return son élément
+     */
+    T sommet(int v) {
+        return sommets.get(v);
+    }
+
+    /**
+     * Retourne le numéro d'un élément.
+     *
+     * @param element l'élément
+     * @return son numéro, ou null s'il n'apparaît dans aucun couple
+     */
+    Integer numeroDe(T element) {
+        return numeros.get(element);
+    }
+
+    /**
+     * Retourne l'indice du premier successeur d'un sommet ; ses successeurs occupent les indices
+     * {@code debutArcs(v)} à {@code debutArcs(v + 1) − 1}.
+     *
+     * @param v le numéro du sommet, de 0 à n inclus
+     * @return l'indice de son premier successeur
+     */
+    int debutArcs(int v) {
+        return debut[v];
+    }
+
+    /**
+     * Retourne l'extrémité d'un arc.
+     *
+     * @param k l'indice de l'arc
+     * @return le numéro du sommet atteint
+     */
+    int cible(int k) {
+        return successeurs[k];
+    }
+
+    /**
+     * Calcule les arcs du graphe condensé : pour chaque composante, les composantes distinctes
+     * qu'elle atteint par un arc. Chaque arc est examiné une fois, et les doublons sont écartés
+     * en marquant la dernière composante qui a atteint chaque cible.
+     *
+     * @param composante le numéro de composante de chaque sommet
+     * @param nbComposantes le nombre de composantes
+     * @return pour chaque composante, le tableau des composantes qui lui succèdent
+     */
+    int[][] arcsCondenses(int[] composante, int nbComposantes) {
+        int n = nbSommets();
+        // les sommets rangés par composante
+        int[] debutMembres = new int[nbComposantes + 1];
+        for (int v = 0; v < n; v++) {
+            debutMembres[composante[v] + 1]++;
+        }
+        for (int c = 0; c < nbComposantes; c++) {
+            debutMembres[c + 1] += debutMembres[c];
+        }
+        int[] membres = new int[n];
+        int[] position = Arrays.copyOf(debutMembres, nbComposantes);
+        for (int v = 0; v < n; v++) {
+            membres[position[composante[v]]++] = v;
+        }
+        int[][] arcs = new int[nbComposantes][];
+        int[] marque = new int[nbComposantes];
+        Arrays.fill(marque, -1);
+        int[] tampon = new int[16];
+        for (int c = 0; c < nbComposantes; c++) {
+            int nb = 0;
+            for (int m = debutMembres[c]; m < debutMembres[c + 1]; m++) {
+                int v = membres[m];
+                for (int k = debut[v]; k < debut[v + 1]; k++) {
+                    int d = composante[successeurs[k]];
+                    if (d != c && marque[d] != c) {
+                        marque[d] = c;
+                        if (nb == tampon.length) {
+                            tampon = Arrays.copyOf(tampon, 2 * nb);
+                        }
+                        tampon[nb++] = d;
+                    }
+                }
+            }
+            arcs[c] = Arrays.copyOf(tampon, nb);
+        }
+        return arcs;
+    }
+
+    /**
+     * Calcule les composantes fortement connexes par l'algorithme de Tarjan, sans récursion :
+     * la pile d'appels est remplacée par un tableau, ce qui permet de traiter des chemins de
+     * plusieurs millions de sommets.
+     * Une composante reçoit son numéro lorsqu'elle est terminée, donc après toutes les composantes
+     * qu'elle peut atteindre : les numéros suivent l'ordre topologique inverse du graphe condensé.
+     *
+     * @return le numéro de composante de chaque sommet
+     */
+    int[] composantes() {
+        int n = nbSommets();
+        int[] composante = new int[n];
+        int[] indice = new int[n];
+        int[] bas = new int[n];
+        int[] prochainArc = new int[n];
+        int[] appels = new int[n];
+        int[] pile = new int[n];
+        Arrays.fill(indice, -1);
+        int compteur = 0;
+        int nbComposantes = 0;
+        int hautPile = 0;
+        for (int s = 0; s < n; s++) {
+            if (indice[s] != -1) {
+                continue;
+            }
+            int hautAppels = 0;
+            indice[s] = bas[s] = compteur++;
+            prochainArc[s] = debut[s];
+            pile[hautPile++] = s;
+            appels[hautAppels++] = s;
+            while (hautAppels > 0) {
+                int v = appels[hautAppels - 1];
+                if (prochainArc[v] < debut[v + 1]) {
+                    int w = successeurs[prochainArc[v]++];
+                    if (indice[w] == -1) {
+                        indice[w] = bas[w] = compteur++;
+                        prochainArc[w] = debut[w];
+                        pile[hautPile++] = w;
+                        appels[hautAppels++] = w;
+                    } else if (indice[w] >= 0) {
+                        // w est encore sur la pile : il appartient à la composante en cours
+                        bas[v] = Math.min(bas[v], indice[w]);
+                    }
+                    continue;
+                }
+                hautAppels--;
+                if (hautAppels > 0) {
+                    int u = appels[hautAppels - 1];
+                    bas[u] = Math.min(bas[u], bas[v]);
+                }
+                if (bas[v] == indice[v]) {
+                    int w;
+                    do {
+                        w = pile[--hautPile];
+                        composante[w] = nbComposantes;
+                        // un indice négatif marque les sommets retirés de la pile
+                        indice[w] = -2;
+                    } while (w != v);
+                    nbComposantes++;
+                }
+            }
+        }
+        return composante;
+    }
+
+    /**
+     * Calcule la fermeture transitive du graphe sur les numéros de ses sommets.
+     * Les composantes fortement connexes sont d'abord condensées ; les composantes sont ensuite
+     * traitées dans l'ordre topologique inverse, et l'ensemble des composantes atteignables depuis
+     * chacune est obtenu par réunion des ensembles de ses successeurs. Un successeur déjà atteint
+     * n'est pas fusionné une seconde fois, puisque ses propres successeurs le sont déjà.
+     * Un ensemble de composantes atteintes est un tableau trié de numéros tant qu'il en compte
+     * au plus une sur 32, puis un tableau de bits sur toutes les composantes : la place occupée
+     * et le travail restent proportionnels à la taille de la fermeture, et non au carré du
+     * nombre de sommets.
+     * Les sommets d'une même composante partagent la même ligne, et tous les sommets qui
+     * n'atteignent rien partagent une même ligne vide. Les lignes ne doivent pas être modifiées.
+     *
+     * @return pour chaque sommet, le tableau trié des sommets qu'il atteint par un chemin non vide
+     */
+    int[][] fermetureNumerotee() {
+        int n = nbSommets();
+        int[] composante = composantes();
+        int nbComposantes = 0;
+        for (int c : composante) {
+            nbComposantes = Math.max(nbComposantes, c + 1);
+        }
+        // les sommets rangés par composante
+        int[] debutMembres = new int[nbComposantes + 1];
+        for (int v = 0; v < n; v++) {
+            debutMembres[composante[v] + 1]++;
+        }
+        for (int c = 0; c < nbComposantes; c++) {
+            debutMembres[c + 1] += debutMembres[c];
+        }
+        int[] membres = new int[n];
+        int[] position = Arrays.copyOf(debutMembres, nbComposantes);
+        for (int v = 0; v < n; v++) {
+            membres[position[composante[v]]++] = v;
+        }
+
+        // au-delà de ce nombre de composantes atteintes, un entier par composante occupe plus
+        // de place qu'un bit pour chacune
+        int seuil = nbComposantes >>> 5;
+        int nbMots = (nbComposantes + 63) >>> 6;
+        int[][] creuses = new int[nbComposantes][];
+        long[][] denses = new long[nbComposantes][];
+        int[] marque = new int[nbComposantes];
+        Arrays.fill(marque, -1);
+        int[] tampon = new int[16];
+        long[] bits = null;
+        int[][] fermeture = new int[n][];
+        for (int c = 0; c < nbComposantes; c++) {
+            int nb = 0;
+            boolean dense = false;
+            boolean cyclique = debutMembres[c + 1] - debutMembres[c] > 1;
+            for (int m = debutMembres[c]; m < debutMembres[c + 1]; m++) {
+                int v = membres[m];
+                for (int k = debut[v]; k < debut[v + 1]; k++) {
+                    int d = composante[successeurs[k]];
+                    if (d == c) {
+                        cyclique = true;
+                        continue;
+                    }
+                    if (dense ? (bits[d >>> 6] & (1L << d)) != 0 : marque[d] == c) {
+                        continue;
+                    }
+                    if (!dense && (denses[d] != null || nb + 1 + creuses[d].length > seuil)) {
+                        // passage au tableau de bits, partagé d'une composante à l'autre
+                        if (bits == null) {
+                            bits = new long[nbMots];
+                        }
+                        for (int i = 0; i < nb; i++) {
+                            bits[tampon[i] >>> 6] |= 1L << tampon[i];
+                        }
+                        dense = true;
+                    }
+                    if (dense) {
+                        bits[d >>> 6] |= 1L << d;
+                        if (denses[d] != null) {
+                            long[] suite = denses[d];
+                            for (int w = 0; w < nbMots; w++) {
+                                bits[w] |= suite[w];
+                            }
+                        } else {
+                            for (int e : creuses[d]) {
+                                bits[e >>> 6] |= 1L << e;
+                            }
+                        }
+                    } else {
+                        if (nb + 2 + creuses[d].length > tampon.length) {
+                            tampon = Arrays.copyOf(tampon, Math.max(2 * tampon.length, nb + 2 + creuses[d].length));
+                        }
+                        marque[d] = c;
+                        tampon[nb++] = d;
+                        for (int e : creuses[d]) {
+                            if (marque[e] != c) {
+                                marque[e] = c;
+                                tampon[nb++] = e;
+                            }
+                        }
+                    }
+                }
+            }
+            // la ligne commune des membres de la composante
+            long nbCibles = 0;
+            if (dense) {
+                if (cyclique) {
+                    bits[c >>> 6] |= 1L << c;
+                }
+                denses[c] = bits.clone();
+                Arrays.fill(bits, 0);
+                for (int w = 0; w < nbMots; w++) {
+                    long mot = denses[c][w];
+                    while (mot != 0) {
+                        int d = (w << 6) + Long.numberOfTrailingZeros(mot);
+                        mot &= mot - 1;
+                        nbCibles += debutMembres[d + 1] - debutMembres[d];
+                    }
+                }
+            } else {
+                if (cyclique) {
+                    tampon[nb++] = c;
+                }
+                int[] atteintes = nb == 0 ? VIDE : Arrays.copyOf(tampon, nb);
+                Arrays.sort(atteintes);
+                creuses[c] = atteintes;
+                for (int d : atteintes) {
+                    nbCibles += debutMembres[d + 1] - debutMembres[d];
+                }
+            }
+            int[] ligne = VIDE;
+            if (nbCibles > 0) {
+                ligne = new int[Math.toIntExact(nbCibles)];
+                int nbLigne = 0;
+                if (dense) {
+                    for (int w = 0; w < nbMots; w++) {
+                        long mot = denses[c][w];
+                        while (mot != 0) {
+                            int d = (w << 6) + Long.numberOfTrailingZeros(mot);
+                            mot &= mot - 1;
+                            for (int p = debutMembres[d]; p < debutMembres[d + 1]; p++) {
+                                ligne[nbLigne++] = membres[p];
+                            }
+                        }
+                    }
+                } else {
+                    for (int d : creuses[c]) {
+                        for (int p = debutMembres[d]; p < debutMembres[d + 1]; p++) {
+                            ligne[nbLigne++] = membres[p];
+                        }
+                    }
+                }
+                Arrays.sort(ligne);
+            }
+            for (int m = debutMembres[c]; m < debutMembres[c + 1]; m++) {
+                fermeture[membres[m]] = ligne;
+            }
+        }
+        return fermeture;
+    }
+
+    /**
+     * Calcule la fermeture transitive de la relation sous forme de couples, à partir de
+     * {@link #fermetureNumerotee()}.
+     *
+     * @return les couples de la fermeture transitive
+     */
+    Set<Couple<T, T>> fermetureTransitive() {
+        int[][] fermeture = fermetureNumerotee();
+        long total = 0;
+        for (int[] ligne : fermeture) {
+            total += ligne.length;
+        }
+        Set<Couple<T, T>> couples = new HashSet<>((int) Math.min(total / 0.75 + 1, Integer.MAX_VALUE));
+        for (int v = 0; v < fermeture.length; v++) {
+            T a = sommets.get(v);
+            for (int w : fermeture[v]) {
+                couples.add(new CoupleImpl<>(a, sommets.get(w)));
+            }
+        }
+        return couples;
+    }
+}
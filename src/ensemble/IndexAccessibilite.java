@@ -0,0 +1,255 @@
+package ensemble;
+
+import java.util.Arrays;
+
+/**
+ * Implémentation de l'interface Accessibilite par condensation et étiquetage par intervalles.
+ * Les composantes fortement connexes de la relation sont d'abord condensées : deux éléments
+ * d'une même composante s'atteignent mutuellement, et le graphe condensé est sans cycle.
+ * Tarjan numérote les composantes dans l'ordre topologique inverse, si bien qu'une composante
+ * n'atteint que des composantes de numéro inférieur.
+ * Deux parcours en profondeur du graphe condensé, qui visitent les successeurs dans des ordres
+ * différents, donnent ensuite à chaque composante c un intervalle [bas, post], où post est son
+ * rang de fin de visite et bas le plus petit rang de fin parmi les composantes qu'elle atteint :
+ * si d est atteignable depuis c, l'intervalle de d est inclus dans celui de c. Une inclusion
+ * manquante répond donc « non » en temps constant ; inversement, si d est un descendant de c dans
+ * l'arbre du premier parcours, la réponse est « oui » en temps constant. Les autres questions sont
+ * tranchées par un parcours en profondeur qui élague toute composante dont l'intervalle
+ * ne peut pas contenir celui de la cible.
+ * La mémoire occupée est linéaire en le nombre de couples de la relation.
+ *
+ * @param <T> Le type des éléments de la relation
+ */
+class IndexAccessibilite<T> implements Accessibilite<T> {
+
+    /** Le nombre de parcours qui étiquettent les composantes. */
+    private static final int NB_PARCOURS = 2;
+
+    /** Le graphe de la relation, qui numérote ses éléments. */
+    private final Graphe<T> graphe;
+
+    /** Le numéro de composante de chaque élément, dans l'ordre topologique inverse. */
+    private final int[] composanteDe;
+
+    /** Vrai pour les composantes qui contiennent un cycle (plusieurs éléments ou une boucle). */
+    private final boolean[] cyclique;
+
+    /** Pour chaque composante, les composantes distinctes qu'elle atteint par un arc. */
+    private final int[][] arcs;
+
+    /** Le rang d'entrée de chaque composante dans l'arbre du premier parcours. */
+    private final int[] pre;
+
+    /** Pour chaque parcours, le rang de fin de visite de chaque composante. */
+    private final int[][] post;
+
+    /** Pour chaque parcours, le plus petit rang de fin parmi les composantes atteintes. */
+    private final int[][] bas;
+
+    /**
+     * La pile et les marques du parcours de secours, propres à chaque fil, pour que l'index
+     * puisse être interrogé en parallèle sans allocation à chaque question.
+     */
+    private final ThreadLocal<Parcours> parcours;
+
+    /**
+     * Construit l'index d'accessibilité d'une relation.
+     *
+     * @param relation la relation
+     */
+    IndexAccessibilite(Relation<T> relation) {
+        this.graphe = new Graphe<>(relation.elements());
+        this.composanteDe = graphe.composantes();
+        int nbComposantes = 0;
+        for (int c : composanteDe) {
+            nbComposantes = Math.max(nbComposantes, c + 1);
+        }
+        this.cyclique = new boolean[nbComposantes];
+        int[] tailles = new int[nbComposantes];
+        for (int v = 0; v < composanteDe.length; v++) {
+            int c = composanteDe[v];
+            if (++tailles[c] > 1 || relation.contient(graphe.sommet(v), graphe.sommet(v))) {
+                cyclique[c] = true;
+            }
+        }
+        this.arcs = graphe.arcsCondenses(composanteDe, nbComposantes);
+        this.pre = new int[nbComposantes];
+        this.post = new int[NB_PARCOURS][];
+        this.bas = new int[NB_PARCOURS][];
+        for (int t = 0; t < NB_PARCOURS; t++) {
+            etiqueter(t);
+        }
+        int n = nbComposantes;
+        this.parcours = ThreadLocal.withInitial(() -> new Parcours(n));
+    }
+
+    /**
+     * Étiquette les composantes par un parcours en profondeur itératif du graphe condensé.
+     * Les racines sont prises par numéro décroissant, donc les sources d'abord ; le parcours
+     * d'indice impair visite les successeurs dans l'ordre inverse, pour que ses intervalles
+     * écartent d'autres paires que ceux du premier.
+     *
+     * @param t l'indice du parcours
+     */
+    private void etiqueter(int t) {
+        int n = arcs.length;
+        int[] p = new int[n];
+        int[] b = new int[n];
+        boolean[] vus = new boolean[n];
+        int[] pile = new int[n];
+        int[] prochain = new int[n];
+        boolean inverse = (t & 1) == 1;
+        int rangEntree = 0;
+        int rangSortie = 0;
+        for (int racine = n - 1; racine >= 0; racine--) {
+            if (vus[racine]) {
+                continue;
+            }
+            int haut = 0;
+            vus[racine] = true;
+            if (t == 0) {
+                pre[racine] = rangEntree++;
+            }
+            pile[haut++] = racine;
+            while (haut > 0) {
+                int c = pile[haut - 1];
+                int[] suivants = arcs[c];
+                if (prochain[c] < suivants.length) {
+                    int k = prochain[c]++;
+                    int d = suivants[inverse ? suivants.length - 1 - k : k];
+                    if (!vus[d]) {
+                        vus[d] = true;
+                        if (t == 0) {
+                            pre[d] = rangEntree++;
+                        }
+                        pile[haut++] = d;
+                    }
+                    continue;
+                }
+                haut--;
+                p[c] = rangSortie++;
+                int minimum = p[c];
+                for (int d : suivants) {
+                    minimum = Math.min(minimum, b[d]);
+                }
+                b[c] = minimum;
+            }
+        }
+        post[t] = p;
+        bas[t] = b;
+    }
+
+    /**
+     * Détermine si b est atteignable depuis a.
+     * Les deux éléments sont d'abord ramenés à leurs composantes ; les filtres en temps constant
+     * (ordre topologique, intervalles, arbre du premier parcours) répondent à la plupart des
+     * questions, les autres sont tranchées par un parcours élagué.
+     *
+     * @param a l'élément de départ
+     * @param b l'élément d'arrivée
+     * @return {@code true} si b est atteignable depuis a
+     */
+    @Override
+    public boolean atteignable(T a, T b) {
+        Integer va = graphe.numeroDe(a);
+        Integer vb = graphe.numeroDe(b);
+        if (va == null || vb == null) {
+            return false;
+        }
+        int ca = composanteDe[va];
+        int cb = composanteDe[vb];
+        if (ca == cb) {
+            return cyclique[ca];
+        }
+        if (!peutAtteindre(ca, cb)) {
+            return false;
+        }
+        return descendant(ca, cb) || parcours.get().chercher(ca, cb);
+    }
+
+    /**
+     * Applique les filtres négatifs : une composante n'atteint que des composantes de numéro
+     * inférieur, et dont les intervalles sont inclus dans les siens.
+     *
+     * @param c la composante de départ
+     * @param d la composante d'arrivée, distincte de c
+     * @return {@code false} si d n'est certainement pas atteignable depuis c
+     */
+    private boolean peutAtteindre(int c, int d) {
+        if (d > c) {
+            return false;
+        }
+        for (int t = 0; t < NB_PARCOURS; t++) {
+            if (post[t][d] > post[t][c] || bas[t][d] < bas[t][c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applique le filtre positif : d est un descendant de c dans l'arbre du premier parcours.
+     *
+     * @param c la composante de départ
+     * @param d la composante d'arrivée
+     * @return {@code true} si d est certainement atteignable depuis c
+     */
+    private boolean descendant(int c, int d) {
+        return pre[c] <= pre[d] && post[0][d] <= post[0][c];
+    }
+
+    /**
+     * Pile et marques d'un parcours en profondeur du graphe condensé. Les marques portent le
+     * numéro de la question qui les a posées, ce qui évite de les effacer entre deux questions.
+     */
+    private final class Parcours {
+
+        /** Pour chaque composante, le numéro de la dernière question qui l'a visitée. */
+        private final int[] marques;
+
+        /** La pile des composantes à visiter. */
+        private int[] pile = new int[16];
+
+        /** Le numéro de la question en cours. */
+        private int question = 0;
+
+        Parcours(int n) {
+            this.marques = new int[n];
+        }
+
+        /**
+         * Cherche la composante d depuis la composante c, en élaguant les composantes qui ne
+         * peuvent pas l'atteindre et en s'arrêtant dès qu'un filtre positif répond.
+         *
+         * @param c la composante de départ
+         * @param d la composante cherchée
+         * @return {@code true} si d est atteignable depuis c
+         */
+        boolean chercher(int c, int d) {
+            if (++question == 0) {
+                // le compteur a fait le tour : les anciennes marques sont effacées
+                Arrays.fill(marques, 0);
+                question = 1;
+            }
+            int haut = 0;
+            pile[haut++] = c;
+            marques[c] = question;
+            while (haut > 0) {
+                int x = pile[--haut];
+                for (int y : arcs[x]) {
+                    if (y == d || descendant(y, d)) {
+                        return true;
+                    }
+                    if (marques[y] != question && peutAtteindre(y, d)) {
+                        marques[y] = question;
+                        if (haut == pile.length) {
+                            pile = Arrays.copyOf(pile, 2 * haut);
+                        }
+                        pile[haut++] = y;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,674 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface Ensemble spécialisée pour les entiers.
+ * Les éléments sont stockés sans aucune boîte {@link Integer}, sous l'une de deux formes
+ * choisies selon la densité de l'ensemble :
+ * <ul>
+ *     <li>un tableau de bits, un bit par entier possible entre le plus petit et le plus grand
+ *     élément ; les opérations ensemblistes entre deux tels ensembles se font mot par mot
+ *     (64 éléments à la fois) avec les opérateurs binaires ;</li>
+ *     <li>un tableau trié d'entiers, quand les éléments sont moins nombreux que les mots du
+ *     tableau de bits : le tableau trié occupe alors moins de la moitié de la place, et un
+ *     ensemble comme {0, 2 000 000 000} n'occupe que deux entiers. Les opérations se font
+ *     par fusion, et l'appartenance par recherche dichotomique.</li>
+ * </ul>
+ * L'ensemble est immuable.
+ */
+class IntEnsemble implements EnsembleParcourable<Integer> {
+
+    /** Nombre de bits dans un mot. */
+    private static final int TAILLE_MOT = 64;
+
+    /** Tableau vide partagé par tous les ensembles vides. */
+    private static final long[] AUCUN_MOT = new long[0];
+
+    /**
+     * Indice (en mots) du premier mot du tableau : le mot {@code mots[i]} contient
+     * les entiers de {@code (premierMot + i) * 64} à {@code (premierMot + i) * 64 + 63}.
+     */
+    private final int premierMot;
+
+    /**
+     * Les bits de l'ensemble, le bit {@code v & 63} du mot correspondant vaut 1 si v est présent.
+     * Vide quand l'ensemble est stocké en tableau trié.
+     */
+    private final long[] mots;
+
+    /** Les éléments triés par ordre croissant, ou null quand l'ensemble est stocké en tableau de bits. */
+    private final int[] valeurs;
+
+    /** Le cardinal, calculé une seule fois à la construction. */
+    private final int cardinal;
+
+    /**
+     * Constructeur pour créer un ensemble d'entiers à partir d'un Set d'éléments.
+     * Le minimum, le maximum et le nombre d'éléments sont lus d'abord, pour choisir la forme
+     * avant toute allocation.
+     *
+     * @param elements Le Set des entiers à mettre dans l'ensemble
+     * @throws IllegalArgumentException si le Set est null ou contient null
+     */
+    public IntEnsemble(Set<Integer> elements) throws IllegalArgumentException {
+        if (elements == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (Integer e : elements) {
+            if (e == null) {
+                throw new IllegalArgumentException("Un ensemble d'entiers ne peut pas contenir null");
+            }
+            min = Math.min(min, e);
+            max = Math.max(max, e);
+        }
+        if (elements.isEmpty()) {
+            this.premierMot = 0;
+            this.mots = AUCUN_MOT;
+            this.valeurs = null;
+        } else if (estCreux(elements.size(), nombreMots(min, max))) {
+            int[] tri = new int[elements.size()];
+            int n = 0;
+            for (int e : elements) {
+                tri[n++] = e;
+            }
+            Arrays.sort(tri);
+            this.premierMot = 0;
+            this.mots = AUCUN_MOT;
+            this.valeurs = tri;
+        } else {
+            this.premierMot = min >> 6;
+            this.mots = new long[(max >> 6) - premierMot + 1];
+            for (int e : elements) {
+                mots[(e >> 6) - premierMot] |= 1L << e;
+            }
+            this.valeurs = null;
+        }
+        this.cardinal = elements.size();
+    }
+
+    /**
+     * Constructeur interne utilisé par les opérations ensemblistes, pour la forme en tableau de bits.
+     * Le tableau est repris tel quel (sans copie) puis réduit s'il commence
+     * ou se termine par des mots vides.
+     *
+     * @param premierMot l'indice du premier mot
+     * @param mots les bits de l'ensemble
+     */
+    private IntEnsemble(int premierMot, long[] mots) {
+        int debut = 0;
+        int fin = mots.length;
+        while (debut < fin && mots[debut] == 0L) {
+            debut++;
+        }
+        while (fin > debut && mots[fin - 1] == 0L) {
+            fin--;
+        }
+        if (debut == fin) {
+            this.premierMot = 0;
+            this.mots = AUCUN_MOT;
+        } else if (debut == 0 && fin == mots.length) {
+            this.premierMot = premierMot;
+            this.mots = mots;
+        } else {
+            this.premierMot = premierMot + debut;
+            this.mots = Arrays.copyOfRange(mots, debut, fin);
+        }
+        this.valeurs = null;
+        this.cardinal = compterBits(this.mots, 0, this.mots.length);
+    }
+
+    /**
+     * Constructeur interne pour la forme en tableau trié.
+     *
+     * @param valeurs les éléments triés et sans doublon, repris sans copie
+     */
+    private IntEnsemble(int[] valeurs) {
+        this.premierMot = 0;
+        this.mots = AUCUN_MOT;
+        this.valeurs = valeurs;
+        this.cardinal = valeurs.length;
+    }
+
+    /**
+     * Retourne le nombre de mots d'un tableau de bits couvrant les entiers de min à max.
+     *
+     * @param min le plus petit entier
+     * @param max le plus grand entier
+     * @return le nombre de mots
+     */
+    private static long nombreMots(int min, int max) {
+        return (long) (max >> 6) - (min >> 6) + 1;
+    }
+
+    /**
+     * Indique si un ensemble doit être stocké en tableau trié : quand il a moins d'éléments
+     * que de mots dans son tableau de bits, un entier par élément prend moins de la moitié
+     * de la place d'un mot par tranche de 64 entiers.
+     *
+     * @param cardinal le nombre d'éléments
+     * @param nombreMots le nombre de mots du tableau de bits
+     * @return {@code true} pour un tableau trié
+     */
+    private static boolean estCreux(long cardinal, long nombreMots) {
+        return cardinal < nombreMots;
+    }
+
+    /**
+     * Compte le nombre de bits à 1 dans une portion de tableau.
+     *
+     * @param mots le tableau de mots
+     * @param debut l'indice du premier mot (inclus)
+     * @param fin l'indice du dernier mot (exclus)
+     * @return le nombre de bits à 1
+     */
+    private static int compterBits(long[] mots, int debut, int fin) {
+        int total = 0;
+        for (int i = debut; i < fin; i++) {
+            total += Long.bitCount(mots[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Retourne le nombre d'éléments dans l'ensemble.
+     *
+     * @return le cardinal de l'ensemble
+     */
+    @Override
+    public int cardinal() {
+        return cardinal;
+    }
+
+    /**
+     * Vérifie si un entier donné appartient à l'ensemble.
+     * Aucune allocation n'est faite : il s'agit d'un test de bit ou d'une recherche dichotomique.
+     *
+     * @param element l'entier à rechercher
+     * @return {@code true} si l'entier est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Integer element) {
+        if (element == null) {
+            return false;
+        }
+        return contient(element.intValue());
+    }
+
+    /**
+     * Vérifie si un entier primitif appartient à l'ensemble.
+     *
+     * @param element l'entier à rechercher
+     * @return {@code true} si l'entier est présent, {@code false} sinon
+     */
+    public boolean contient(int element) {
+        if (valeurs != null) {
+            return Arrays.binarySearch(valeurs, element) >= 0;
+        }
+        int indice = (element >> 6) - premierMot;
+        return indice >= 0 && indice < mots.length && (mots[indice] & (1L << element)) != 0L;
+    }
+
+    /**
+     * Retourne l'union de cet ensemble avec un autre ensemble d'entiers.
+     * Deux tableaux de bits sont combinés mot par mot, sauf si le tableau résultant serait creux :
+     * les éléments sont alors fusionnés en tableau trié.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un nouvel ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> union(Ensemble<Integer> autre) throws IllegalArgumentException {
+        IntEnsemble b = versIntEnsemble(autre);
+        if (b.cardinal == 0) {
+            return this;
+        }
+        if (this.cardinal == 0) {
+            return b;
+        }
+        if (this.valeurs != null || b.valeurs != null) {
+            return fusionner(b, true, true, true);
+        }
+        int debut = Math.min(this.premierMot, b.premierMot);
+        int fin = Math.max(this.premierMot + this.mots.length, b.premierMot + b.mots.length);
+        if (estCreux((long) this.cardinal + b.cardinal, (long) fin - debut)) {
+            return fusionner(b, true, true, true);
+        }
+        long[] resultat = new long[fin - debut];
+        System.arraycopy(this.mots, 0, resultat, this.premierMot - debut, this.mots.length);
+        int decalage = b.premierMot - debut;
+        for (int i = 0; i < b.mots.length; i++) {
+            resultat[decalage + i] |= b.mots[i];
+        }
+        return new IntEnsemble(debut, resultat);
+    }
+
+    /**
+     * Retourne l'intersection de cet ensemble avec un autre ensemble d'entiers.
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un nouvel ensemble contenant les éléments communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> intersection(Ensemble<Integer> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (!(autre instanceof IntEnsemble)) {
+            // autre implémentation : parcourir le plus petit ensemble et interroger le plus grand
+            if (this.cardinal <= autre.cardinal()) {
+                return filtrer(autre, true);
+            }
+            return depuisIterateur(EnsembleVue.iterateur(autre), this);
+        }
+        IntEnsemble b = (IntEnsemble) autre;
+        // un tableau trié est filtré par l'autre ensemble : le résultat est inclus dans le tableau
+        if (this.valeurs != null) {
+            return filtrer(b, true);
+        }
+        if (b.valeurs != null) {
+            return b.filtrer(this, true);
+        }
+        // seule la zone commune aux deux tableaux peut contenir des éléments
+        int debut = Math.max(this.premierMot, b.premierMot);
+        int fin = Math.min(this.premierMot + this.mots.length, b.premierMot + b.mots.length);
+        if (debut >= fin) {
+            return new IntEnsemble(0, AUCUN_MOT);
+        }
+        long[] resultat = new long[fin - debut];
+        for (int i = 0; i < resultat.length; i++) {
+            resultat[i] = this.mots[debut - this.premierMot + i] & b.mots[debut - b.premierMot + i];
+        }
+        return new IntEnsemble(debut, resultat);
+    }
+
+    /**
+     * Retourne la différence entre cet ensemble et un autre ensemble d'entiers.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un nouvel ensemble contenant les éléments de cet ensemble qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> difference(Ensemble<Integer> autre) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(autre);
+        if (this.valeurs != null) {
+            return filtrer(autre, false);
+        }
+        if (!(autre instanceof IntEnsemble)) {
+            if (this.cardinal <= autre.cardinal()) {
+                return filtrer(autre, false);
+            }
+            // l'autre ensemble est plus petit : effacer ses éléments d'une copie des mots
+            return effacer(EnsembleVue.iterateur(autre));
+        }
+        IntEnsemble b = (IntEnsemble) autre;
+        if (b.valeurs != null) {
+            return effacer(b.iterateur());
+        }
+        long[] resultat = this.mots.clone();
+        int debut = Math.max(this.premierMot, b.premierMot);
+        int fin = Math.min(this.premierMot + this.mots.length, b.premierMot + b.mots.length);
+        for (int m = debut; m < fin; m++) {
+            resultat[m - this.premierMot] &= ~b.mots[m - b.premierMot];
+        }
+        return new IntEnsemble(this.premierMot, resultat);
+    }
+
+    /**
+     * Retourne la différence symétrique entre cet ensemble et un autre ensemble d'entiers.
+     * Elle contient les éléments présents dans un seul des deux ensembles (xOr mot à mot,
+     * ou fusion quand l'un des ensembles ou le résultat est creux).
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un nouvel ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> diffSymetrique(Ensemble<Integer> autre) throws IllegalArgumentException {
+        IntEnsemble b = versIntEnsemble(autre);
+        if (b.cardinal == 0) {
+            return this;
+        }
+        if (this.cardinal == 0) {
+            return b;
+        }
+        if (this.valeurs != null || b.valeurs != null) {
+            return fusionner(b, true, true, false);
+        }
+        int debut = Math.min(this.premierMot, b.premierMot);
+        int fin = Math.max(this.premierMot + this.mots.length, b.premierMot + b.mots.length);
+        if (estCreux((long) this.cardinal + b.cardinal, (long) fin - debut)) {
+            return fusionner(b, true, true, false);
+        }
+        long[] resultat = new long[fin - debut];
+        System.arraycopy(this.mots, 0, resultat, this.premierMot - debut, this.mots.length);
+        int decalage = b.premierMot - debut;
+        for (int i = 0; i < b.mots.length; i++) {
+            resultat[decalage + i] ^= b.mots[i];
+        }
+        return new IntEnsemble(debut, resultat);
+    }
+
+    /**
+     * Retourne le produit cartésien de cet ensemble avec un autre ensemble.
+     * Le produit est virtuel : aucun couple n'est créé tant qu'il n'est pas parcouru.
+     *
+     * @param autre l'autre ensemble à utiliser pour le produit cartésien
+     * @return un ensemble de couples représentant le produit cartésien
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<Integer, Integer>> produitCartesien(Ensemble<Integer> autre) throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<Integer> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur sur les éléments, dans l'ordre croissant.
+     *
+     * @return un itérateur sur les entiers de l'ensemble
+     */
+    @Override
+    public Iterator<Integer> iterateur() {
+        if (valeurs != null) {
+            return new Iterator<Integer>() {
+                private int indice = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return indice < valeurs.length;
+                }
+
+                @Override
+                public Integer next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return valeurs[indice++];
+                }
+            };
+        }
+        return new Iterator<Integer>() {
+            private int indice = 0;
+            private long mot = mots.length > 0 ? mots[0] : 0L;
+
+            @Override
+            public boolean hasNext() {
+                while (mot == 0L && indice + 1 < mots.length) {
+                    mot = mots[++indice];
+                }
+                return mot != 0L;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int bit = Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+                return (premierMot + indice) * TAILLE_MOT + bit;
+            }
+        };
+    }
+
+    /**
+     * Convertit un ensemble quelconque d'entiers en {@code IntEnsemble}.
+     * Si l'ensemble est déjà un {@code IntEnsemble}, il est retourné tel quel ;
+     * sinon il est parcouru une fois, sans copie intermédiaire.
+     *
+     * @param autre l'ensemble à convertir
+     * @return l'ensemble sous forme de tableau de bits ou de tableau trié
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    private static IntEnsemble versIntEnsemble(Ensemble<Integer> autre) throws IllegalArgumentException {
+        if (autre instanceof IntEnsemble) {
+            return (IntEnsemble) autre;
+        }
+        EnsembleVue.verifierCompatible(autre);
+        return depuisIterateur(EnsembleVue.iterateur(autre), null);
+    }
+
+    /**
+     * Retourne les éléments de l'ensemble dans un tableau trié : le tableau lui-même pour la
+     * forme triée, sinon les bits décodés.
+     *
+     * @return les éléments par ordre croissant, à ne pas modifier
+     */
+    private int[] versTableau() {
+        if (valeurs != null) {
+            return valeurs;
+        }
+        int[] tri = new int[cardinal];
+        int n = 0;
+        for (int i = 0; i < mots.length; i++) {
+            long mot = mots[i];
+            while (mot != 0L) {
+                tri[n++] = (premierMot + i) * TAILLE_MOT + Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+            }
+        }
+        return tri;
+    }
+
+    /**
+     * Fusionne les éléments triés de deux ensembles en gardant, selon les indicateurs, ceux qui
+     * ne sont que dans cet ensemble, que dans l'autre, ou dans les deux.
+     *
+     * @param autre l'autre ensemble
+     * @param seulsCeux les éléments de cet ensemble absents de l'autre sont gardés
+     * @param seulsAutres les éléments de l'autre ensemble absents de celui-ci sont gardés
+     * @param communs les éléments des deux ensembles sont gardés
+     * @return le nouvel ensemble, sous la forme qui convient à sa densité
+     */
+    private IntEnsemble fusionner(IntEnsemble autre, boolean seulsCeux, boolean seulsAutres, boolean communs) {
+        int[] a = this.versTableau();
+        int[] b = autre.versTableau();
+        int[] resultat = new int[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                if (seulsCeux) {
+                    resultat[n++] = a[i];
+                }
+                i++;
+            } else if (a[i] > b[j]) {
+                if (seulsAutres) {
+                    resultat[n++] = b[j];
+                }
+                j++;
+            } else {
+                if (communs) {
+                    resultat[n++] = a[i];
+                }
+                i++;
+                j++;
+            }
+        }
+        for (; seulsCeux && i < a.length; i++) {
+            resultat[n++] = a[i];
+        }
+        for (; seulsAutres && j < b.length; j++) {
+            resultat[n++] = b[j];
+        }
+        return depuisTableau(resultat, n);
+    }
+
+    /**
+     * Garde les éléments de cet ensemble qui sont (ou ne sont pas) dans un autre ensemble.
+     * Le résultat est inclus dans cet ensemble : il est construit sur une copie de ses mots
+     * dont on efface les bits rejetés, ou sur un tableau trié des éléments gardés.
+     *
+     * @param sonde l'ensemble interrogé
+     * @param presents {@code true} pour garder les éléments présents dans {@code sonde}
+     * @return le nouvel ensemble
+     */
+    private IntEnsemble filtrer(Ensemble<Integer> sonde, boolean presents) {
+        if (valeurs != null) {
+            int[] gardees = new int[valeurs.length];
+            int n = 0;
+            for (int v : valeurs) {
+                if (sonde.contient(v) == presents) {
+                    gardees[n++] = v;
+                }
+            }
+            return depuisTableau(gardees, n);
+        }
+        long[] resultat = this.mots.clone();
+        for (int i = 0; i < resultat.length; i++) {
+            long mot = resultat[i];
+            while (mot != 0L) {
+                int bit = Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+                if (sonde.contient((premierMot + i) * TAILLE_MOT + bit) != presents) {
+                    resultat[i] &= ~(1L << bit);
+                }
+            }
+        }
+        return new IntEnsemble(premierMot, resultat);
+    }
+
+    /**
+     * Efface d'une copie des mots de cet ensemble, stocké en tableau de bits, les entiers
+     * produits par un itérateur.
+     *
+     * @param source les entiers à retirer
+     * @return le nouvel ensemble
+     */
+    private IntEnsemble effacer(Iterator<Integer> source) {
+        long[] resultat = this.mots.clone();
+        while (source.hasNext()) {
+            int v = source.next();
+            int indice = (v >> 6) - premierMot;
+            if (indice >= 0 && indice < resultat.length) {
+                resultat[indice] &= ~(1L << v);
+            }
+        }
+        return new IntEnsemble(premierMot, resultat);
+    }
+
+    /**
+     * Construit un ensemble à partir d'un tableau de bits qui ne commence pas forcément
+     * sur un multiple de 64 : le bit j du tableau représente l'entier {@code origine + j}.
+     * Les mots sont recopiés en les décalant pour les aligner sur les multiples de 64.
+     *
+     * @param origine l'entier représenté par le bit 0 du tableau
+     * @param bits les bits, qui ne sont pas modifiés
+     * @return le nouvel ensemble
+     */
+    static IntEnsemble depuisBits(int origine, long[] bits) {
+        int decalage = origine & (TAILLE_MOT - 1);
+        long[] resultat = new long[bits.length + 1];
+        for (int w = 0; w < bits.length; w++) {
+            resultat[w] |= bits[w] << decalage;
+            if (decalage != 0) {
+                resultat[w + 1] = bits[w] >>> (TAILLE_MOT - decalage);
+            }
+        }
+        return new IntEnsemble(origine >> 6, resultat);
+    }
+
+    /**
+     * Construit un ensemble à partir des n premières cases d'un tableau trié sans doublon,
+     * sous la forme qui convient à sa densité.
+     *
+     * @param tri le tableau, repris sans copie s'il est plein
+     * @param n le nombre de cases utilisées
+     * @return le nouvel ensemble
+     */
+    private static IntEnsemble depuisTableau(int[] tri, int n) {
+        if (n == 0) {
+            return new IntEnsemble(0, AUCUN_MOT);
+        }
+        if (estCreux(n, nombreMots(tri[0], tri[n - 1]))) {
+            return new IntEnsemble(n == tri.length ? tri : Arrays.copyOf(tri, n));
+        }
+        int premier = tri[0] >> 6;
+        long[] mots = new long[(tri[n - 1] >> 6) - premier + 1];
+        for (int i = 0; i < n; i++) {
+            mots[(tri[i] >> 6) - premier] |= 1L << tri[i];
+        }
+        return new IntEnsemble(premier, mots);
+    }
+
+    /**
+     * Construit un ensemble à partir des entiers, distincts, produits par un itérateur.
+     *
+     * @param source l'itérateur sur les entiers (sans null ni doublon)
+     * @param filtre si non null, seuls les entiers appartenant à cet ensemble sont gardés
+     * @return le nouvel ensemble
+     */
+    private static IntEnsemble depuisIterateur(Iterator<Integer> source, IntEnsemble filtre) {
+        int[] valeurs = new int[16];
+        int n = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        while (source.hasNext()) {
+            Integer e = source.next();
+            if (e == null) {
+                throw new IllegalArgumentException("Un ensemble d'entiers ne peut pas contenir null");
+            }
+            int v = e;
+            if (filtre == null || filtre.contient(v)) {
+                if (n == valeurs.length) {
+                    valeurs = Arrays.copyOf(valeurs, 2 * n);
+                }
+                valeurs[n++] = v;
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+            }
+        }
+        if (n == 0) {
+            return new IntEnsemble(0, AUCUN_MOT);
+        }
+        if (estCreux(n, nombreMots(min, max))) {
+            Arrays.sort(valeurs, 0, n);
+            return new IntEnsemble(Arrays.copyOf(valeurs, n));
+        }
+        long[] mots = new long[(max >> 6) - (min >> 6) + 1];
+        for (int i = 0; i < n; i++) {
+            mots[(valeurs[i] >> 6) - (min >> 6)] |= 1L << valeurs[i];
+        }
+        return new IntEnsemble(min >> 6, mots);
+    }
+
+    /**
+     * Retourne une représentation textuelle de l'ensemble.
+     * Les éléments sont affichés entre accolades, dans l'ordre croissant, séparés par des virgules.
+     *
+     * @return une chaîne de caractères représentant l'ensemble
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<Integer> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+}
@@ -0,0 +1,47 @@
+package ensemble;
+
+import java.util.Iterator;
+
+/**
+ * Interface représentant l'analyse d'une relation d'ordre : son diagramme de Hasse, ses éléments
+ * minimaux et maximaux, et un ordre total compatible (extension linéaire).
+ * La relation analysée est antisymétrique et transitive ; elle peut être un ordre large (réflexif)
+ * ou strict. Les couples (x, x) n'interviennent dans aucun des résultats.
+ * L'analyse est immuable.
+ *
+ * @param <T> Le type des éléments ordonnés
+ */
+public interface OrdrePartiel<T> {
+
+    /**
+     * Retourne le diagramme de Hasse de l'ordre, c'est-à-dire sa réduction transitive :
+     * le couple (a, b) lui appartient si a &lt; b et qu'aucun c ne vérifie a &lt; c &lt; b.
+     * La fermeture transitive du diagramme redonne l'ordre strict.
+     *
+     * @return La relation de couverture, immuable
+     */
+    Relation<T> diagrammeHasse();
+
+    /**
+     * Retourne les éléments minimaux : ceux qui n'ont aucun élément strictement inférieur.
+     *
+     * @return L'ensemble immuable des éléments minimaux
+     */
+    Ensemble<T> minimaux();
+
+    /**
+     * Retourne les éléments maximaux : ceux qui n'ont aucun élément strictement supérieur.
+     *
+     * @return L'ensemble immuable des éléments maximaux
+     */
+    Ensemble<T> maximaux();
+
+    /**
+     * Retourne un itérateur sur les éléments dans un ordre total compatible avec l'ordre :
+     * si a &lt; b, a est produit avant b. Les éléments sont produits au fil du parcours,
+     * sans que la liste complète soit construite.
+     *
+     * @return Un nouvel itérateur sur une extension linéaire de l'ordre
+     */
+    Iterator<T> ordreTopologique();
+}
@@ -0,0 +1,224 @@
+package ensemble;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface OrdrePartiel sur le graphe numéroté de la relation.
+ * Les éléments reçoivent des numéros denses et leurs successeurs sont lus dans les lignes
+ * compressées de {@link Graphe} ; les degrés stricts (boucles exclues) sont comptés une fois
+ * à la construction, ce qui donne les éléments minimaux et maximaux en temps linéaire.
+ * Le diagramme de Hasse est calculé au premier appel : pour chaque élément a, ses successeurs
+ * stricts sont parcourus par rang topologique croissant ; un successeur b non encore marqué est
+ * une couverture de a, et tous les successeurs de b sont alors marqués, puisque l'ordre est
+ * transitif. Le coût dépend ainsi de la taille du diagramme plutôt que du cube du nombre d'éléments.
+ * L'analyse est immuable.
+ *
+ * @param <T> Le type des éléments ordonnés
+ */
+class OrdrePartielImpl<T> implements OrdrePartiel<T> {
+
+    /** Le graphe de la relation, qui numérote ses éléments. */
+    private final Graphe<T> graphe;
+
+    /** Le nombre de prédécesseurs stricts de chaque élément. */
+    private final int[] degreEntrant;
+
+    /** Le nombre de successeurs stricts de chaque élément. */
+    private final int[] degreSortant;
+
+    /**
+     * Le diagramme de Hasse, construit au premier appel.
+     * Deux fils peuvent le construire en même temps sans inconvénient : il est immuable.
+     */
+    private Relation<T> hasse;
+
+    /**
+     * Analyse une relation d'ordre.
+     *
+     * @param relation une relation antisymétrique et transitive
+     */
+    OrdrePartielImpl(Relation<T> relation) {
+        this.graphe = new Graphe<>(relation.elements());
+        int n = graphe.nbSommets();
+        this.degreEntrant = new int[n];
+        this.degreSortant = new int[n];
+        for (int v = 0; v < n; v++) {
+            for (int k = graphe.debutArcs(v); k < graphe.debutArcs(v + 1); k++) {
+                int w = graphe.cible(k);
+                if (w != v) {
+                    degreSortant[v]++;
+                    degreEntrant[w]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retourne le diagramme de Hasse, en le calculant si nécessaire.
+     *
+     * @return la relation de couverture
+     */
+    @Override
+    public Relation<T> diagrammeHasse() {
+        Relation<T> h = hasse;
+        if (h == null) {
+            h = RelationImpl.sansCopie(couvertures());
+            hasse = h;
+        }
+        return h;
+    }
+
+    /**
+     * Calcule les couples de couverture.
+     * Les successeurs stricts de chaque élément sont triés par rang dans une extension linéaire :
+     * un successeur qui n'est atteint par aucune couverture déjà trouvée n'a aucun élément
+     * intermédiaire, et c'est donc une couverture. Les marques portent le numéro de l'élément
+     * en cours, ce qui évite de les effacer.
+     *
+     * @return les couples (a, b) où b couvre a
+     */
+    private Set<Couple<T, T>> couvertures() {
+        int n = graphe.nbSommets();
+        int[] rang = new int[n];
+        int r = 0;
+        for (Iterator<Integer> it = new Parcours(); it.hasNext(); ) {
+            rang[it.next()] = r++;
+        }
+        int[] marque = new int[n];
+        Arrays.fill(marque, -1);
+        long[] candidats = new long[16];
+        Set<Couple<T, T>> couples = new HashSet<>();
+        for (int a = 0; a < n; a++) {
+            int nb = 0;
+            for (int k = graphe.debutArcs(a); k < graphe.debutArcs(a + 1); k++) {
+                int b = graphe.cible(k);
+                if (b != a) {
+                    if (nb == candidats.length) {
+                        candidats = Arrays.copyOf(candidats, 2 * nb);
+                    }
+                    // le rang dans les bits de poids fort, pour trier par rang
+                    candidats[nb++] = ((long) rang[b] << 32) | b;
+                }
+            }
+            Arrays.sort(candidats, 0, nb);
+            for (int i = 0; i < nb; i++) {
+                int b = (int) candidats[i];
+                if (marque[b] == a) {
+                    continue;
+                }
+                couples.add(new CoupleImpl<>(graphe.sommet(a), graphe.sommet(b)));
+                for (int k = graphe.debutArcs(b); k < graphe.debutArcs(b + 1); k++) {
+                    marque[graphe.cible(k)] = a;
+                }
+            }
+        }
+        return couples;
+    }
+
+    /**
+     * Retourne les éléments minimaux : ceux dont le degré entrant strict est nul.
+     *
+     * @return l'ensemble des éléments minimaux
+     */
+    @Override
+    public Ensemble<T> minimaux() {
+        return sansDegre(degreEntrant);
+    }
+
+    /**
+     * Retourne les éléments maximaux : ceux dont le degré sortant strict est nul.
+     *
+     * @return l'ensemble des éléments maximaux
+     */
+    @Override
+    public Ensemble<T> maximaux() {
+        return sansDegre(degreSortant);
+    }
+
+    /**
+     * Retourne les éléments dont le degré est nul.
+     *
+     * @param degres le degré de chaque élément
+     * @return l'ensemble de ces éléments
+     */
+    private Ensemble<T> sansDegre(int[] degres) {
+        Set<T> resultat = new HashSet<>();
+        for (int v = 0; v < degres.length; v++) {
+            if (degres[v] == 0) {
+                resultat.add(graphe.sommet(v));
+            }
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Retourne un itérateur sur une extension linéaire, produite au fil de l'algorithme de Kahn.
+     *
+     * @return un nouvel itérateur sur les éléments
+     */
+    @Override
+    public Iterator<T> ordreTopologique() {
+        Parcours parcours = new Parcours();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return parcours.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return graphe.sommet(parcours.next());
+            }
+        };
+    }
+
+    /**
+     * Parcours des numéros d'éléments selon l'algorithme de Kahn : un élément est produit quand
+     * tous ses prédécesseurs stricts l'ont été. Seuls les degrés restants et la file des éléments
+     * prêts sont conservés.
+     */
+    private final class Parcours implements Iterator<Integer> {
+
+        /** Le nombre de prédécesseurs stricts de chaque élément qui n'ont pas encore été produits. */
+        private final int[] restants = degreEntrant.clone();
+
+        /** Les éléments prêts ; ceux d'indice {@code tete} à {@code queue − 1} ne sont pas encore produits. */
+        private final int[] file = new int[restants.length];
+
+        private int tete = 0;
+
+        private int queue = 0;
+
+        Parcours() {
+            for (int v = 0; v < restants.length; v++) {
+                if (restants[v] == 0) {
+                    file[queue++] = v;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return tete < queue;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int v = file[tete++];
+            for (int k = graphe.debutArcs(v); k < graphe.debutArcs(v + 1); k++) {
+                int w = graphe.cible(k);
+                if (w != v && --restants[w] == 0) {
+                    file[queue++] = w;
+                }
+            }
+            return v;
+        }
+    }
+}
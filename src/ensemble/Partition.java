@@ -0,0 +1,45 @@
+package ensemble;
+
+/**
+ * Interface représentant une partition d'éléments en classes disjointes, par exemple les classes
+ * d'une relation d'équivalence.
+ * Elle permet de savoir si deux éléments sont dans la même classe, d'obtenir la classe d'un
+ * élément et l'ensemble de toutes les classes.
+ * La partition est immuable.
+ *
+ * @param <T> Le type des éléments partitionnés
+ */
+public interface Partition<T> {
+
+    /**
+     * Détermine si deux éléments appartiennent à la même classe.
+     * Un élément absent de la partition n'appartient à aucune classe.
+     *
+     * @param a Le premier élément
+     * @param b Le deuxième élément
+     * @return true si les deux éléments sont dans la partition et dans la même classe, false sinon
+     */
+    boolean memeClasse(T a, T b);
+
+    /**
+     * Retourne la classe d'un élément.
+     *
+     * @param element L'élément
+     * @return L'ensemble des éléments de sa classe, ou un ensemble vide si l'élément n'est pas dans la partition
+     */
+    Ensemble<T> classe(T element);
+
+    /**
+     * Retourne le nombre de classes.
+     *
+     * @return Le nombre de classes de la partition
+     */
+    int nombreClasses();
+
+    /**
+     * Retourne l'ensemble des classes de la partition.
+     *
+     * @return Un ensemble d'ensembles disjoints dont l'union contient tous les éléments partitionnés
+     */
+    Ensemble<Ensemble<T>> classes();
+}
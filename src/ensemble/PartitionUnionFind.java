@@ -0,0 +1,234 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implémentation de l'interface Partition par une structure union-find.
+ * Les éléments reçoivent des numéros denses ; chaque couple fusionne les classes de ses deux
+ * éléments, en rattachant l'arbre le moins haut sous l'autre (union par rang) et en raccourcissant
+ * les chemins parcourus (compression), ce qui donne un coût quasi linéaire en le nombre de couples.
+ * Une fois les couples traités, chaque élément est relié directement au numéro de sa classe :
+ * les requêtes se font alors en temps constant, sans modifier la structure.
+ * La partition est immuable.
+ *
+ * @param <T> Le type des éléments partitionnés
+ */
+class PartitionUnionFind<T> implements Partition<T> {
+
+    /** Le numéro de chaque élément. */
+    private final Map<T, Integer> numeros;
+
+    /** L'élément de chaque numéro. */
+    private final List<T> elements;
+
+    /** Le numéro de classe de chaque élément, de 0 à {@code nombreClasses − 1}. */
+    private final int[] classeDe;
+
+    /** Le nombre de classes. */
+    private final int nombreClasses;
+
+    /**
+     * Les classes, construites au premier appel d'une méthode qui en a besoin.
+     * Deux fils peuvent les construire en même temps sans inconvénient.
+     */
+    private List<Ensemble<T>> classes;
+
+    /**
+     * Construit la partition dont les classes sont les composantes connexes des couples :
+     * deux éléments sont dans la même classe s'ils sont reliés par une suite de couples,
+     * dans un sens ou dans l'autre.
+     *
+     * @param couples les couples à fusionner
+     */
+    PartitionUnionFind(Iterable<? extends Couple<T, T>> couples) {
+        this.numeros = new HashMap<>();
+        this.elements = new ArrayList<>();
+        int[] parent = new int[16];
+        byte[] rang = new byte[16];
+        int initialises = 0;
+        for (Couple<T, T> couple : couples) {
+            int a = numero(couple.getPremier());
+            int b = numero(couple.getDeuxieme());
+            // les nouveaux éléments sont seuls dans leur classe
+            for (; initialises < elements.size(); initialises++) {
+                if (initialises == parent.length) {
+                    parent = Arrays.copyOf(parent, 2 * initialises);
+                    rang = Arrays.copyOf(rang, 2 * initialises);
+                }
+                parent[initialises] = initialises;
+            }
+            unir(parent, rang, a, b);
+        }
+        int n = elements.size();
+        this.classeDe = new int[n];
+        int[] numeroClasse = new int[n];
+        Arrays.fill(numeroClasse, -1);
+        int nb = 0;
+        for (int v = 0; v < n; v++) {
+            int r = racine(parent, v);
+            if (numeroClasse[r] == -1) {
+                numeroClasse[r] = nb++;
+            }
+            classeDe[v] = numeroClasse[r];
+        }
+        this.nombreClasses = nb;
+    }
+
+    /**
+     * Retourne le numéro d'un élément, en lui attribuant le suivant s'il n'en a pas encore.
+     *
+     * @param element l'élément
+     * @return son numéro
+     */
+    private int numero(T element) {
+        Integer v = numeros.get(element);
+        if (v == null) {
+            v = elements.size();
+            numeros.put(element, v);
+            elements.add(element);
+        }
+        return v;
+    }
+
+    /**
+     * Trouve la racine de l'arbre d'un élément, en faisant pointer chaque nœud rencontré
+     * vers son grand-parent (compression par moitié).
+     *
+     * @param parent le parent de chaque élément
+     * @param v l'élément
+     * @return la racine de son arbre
+     */
+    private static int racine(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    /**
+     * Fusionne les classes de deux éléments, en plaçant la racine de rang le plus faible
+     * sous l'autre.
+     *
+     * @param parent le parent de chaque élément
+     * @param rang le rang (majorant de la hauteur) de chaque racine
+     * @param a le premier élément
+     * @param b le deuxième élément
+     */
+    private static void unir(int[] parent, byte[] rang, int a, int b) {
+        int ra = racine(parent, a);
+        int rb = racine(parent, b);
+        if (ra == rb) {
+            return;
+        }
+        if (rang[ra] < rang[rb]) {
+            parent[ra] = rb;
+        } else if (rang[ra] > rang[rb]) {
+            parent[rb] = ra;
+        } else {
+            parent[rb] = ra;
+            rang[ra]++;
+        }
+    }
+
+    /**
+     * Détermine si deux éléments appartiennent à la même classe, en comparant leurs numéros de classe.
+     *
+     * @param a le premier élément
+     * @param b le deuxième élément
+     * @return {@code true} si les deux éléments sont dans la même classe, {@code false} sinon
+     */
+    @Override
+    public boolean memeClasse(T a, T b) {
+        Integer va = numeros.get(a);
+        Integer vb = numeros.get(b);
+        return va != null && vb != null && classeDe[va] == classeDe[vb];
+    }
+
+    /**
+     * Retourne la classe d'un élément.
+     *
+     * @param element l'élément
+     * @return sa classe, ou un ensemble vide si l'élément n'est pas dans la partition
+     */
+    @Override
+    public Ensemble<T> classe(T element) {
+        Integer v = numeros.get(element);
+        if (v == null) {
+            return EnsembleImpl.sansCopie(new HashSet<>());
+        }
+        return listeClasses().get(classeDe[v]);
+    }
+
+    /**
+     * Retourne le nombre de classes.
+     *
+     * @return le nombre de classes
+     */
+    @Override
+    public int nombreClasses() {
+        return nombreClasses;
+    }
+
+    /**
+     * Retourne l'ensemble des classes.
+     *
+     * @return un ensemble immuable contenant chaque classe
+     */
+    @Override
+    public Ensemble<Ensemble<T>> classes() {
+        return EnsembleImpl.sansCopie(new HashSet<>(listeClasses()));
+    }
+
+    /**
+     * Retourne les classes, indexées par leur numéro, en les construisant si nécessaire.
+     *
+     * @return la liste des classes
+     */
+    private List<Ensemble<T>> listeClasses() {
+        List<Ensemble<T>> c = classes;
+        if (c == null) {
+            List<Set<T>> membres = new ArrayList<>(nombreClasses);
+            for (int k = 0; k < nombreClasses; k++) {
+                membres.add(new HashSet<>());
+            }
+            for (int v = 0; v < elements.size(); v++) {
+                membres.get(classeDe[v]).add(elements.get(v));
+            }
+            c = new ArrayList<>(nombreClasses);
+            for (Set<T> m : membres) {
+                c.add(EnsembleImpl.sansCopie(m));
+            }
+            classes = c;
+        }
+        return c;
+    }
+
+    /**
+     * Retourne les couples de la relation d'équivalence associée à la partition :
+     * tous les couples (a, b) où a et b sont dans la même classe.
+     *
+     * @return les couples de la relation d'équivalence
+     */
+    Set<Couple<T, T>> couples() {
+        long total = 0;
+        for (Ensemble<T> c : listeClasses()) {
+            total += (long) c.cardinal() * c.cardinal();
+        }
+        Set<Couple<T, T>> couples = new HashSet<>((int) Math.min(total / 0.75 + 1, Integer.MAX_VALUE));
+        for (Ensemble<T> c : listeClasses()) {
+            for (T a : c.elements()) {
+                for (T b : c.elements()) {
+                    couples.add(new CoupleImpl<>(a, b));
+                }
+            }
+        }
+        return couples;
+    }
+}
@@ -0,0 +1,198 @@
+package ensemble;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Ensemble virtuel représentant le produit cartésien A × B de deux ensembles.
+ * Aucun couple n'est stocké : le produit garde une référence vers ses deux facteurs,
+ * {@code cardinal} vaut |A|·|B| et {@code contient} teste l'appartenance de chaque
+ * composante à son facteur. Les couples ne sont créés qu'au parcours, un par un.
+ * Comme pour {@link java.util.Collection#size()}, le cardinal est plafonné à
+ * {@link Integer#MAX_VALUE} si le produit contient davantage de couples.
+ * L'ensemble est immuable.
+ *
+ * @param <A> Le type des éléments du premier facteur
+ * @param <B> Le type des éléments du deuxième facteur
+ */
+class ProduitCartesien<A, B> implements EnsembleParcourable<Couple<A, B>> {
+
+    /** Le premier facteur. */
+    private final Ensemble<A> premier;
+
+    /** Le deuxième facteur. */
+    private final Ensemble<B> deuxieme;
+
+    /**
+     * Construit le produit cartésien de deux ensembles.
+     *
+     * @param premier le premier facteur
+     * @param deuxieme le deuxième facteur
+     * @throws IllegalArgumentException si l'un des facteurs est null
+     */
+    public ProduitCartesien(Ensemble<A> premier, Ensemble<B> deuxieme) throws IllegalArgumentException {
+        if (premier == null || deuxieme == null) {
+            throw new IllegalArgumentException("Les facteurs du produit cartésien ne peuvent pas être null");
+        }
+        this.premier = premier;
+        this.deuxieme = deuxieme;
+    }
+
+    /**
+     * Retourne le nombre de couples du produit, |A|·|B|, sans les énumérer.
+     *
+     * @return le cardinal du produit, plafonné à {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public int cardinal() {
+        long total = (long) premier.cardinal() * deuxieme.cardinal();
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Vérifie si un couple appartient au produit, c'est-à-dire si sa première composante
+     * appartient au premier facteur et sa deuxième au deuxième facteur.
+     *
+     * @param couple le couple à rechercher
+     * @return {@code true} si le couple est présent, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Couple<A, B> couple) {
+        return couple != null && premier.contient(couple.getPremier()) && deuxieme.contient(couple.getDeuxieme());
+    }
+
+    /**
+     * Retourne l'union de ce produit avec un autre ensemble de couples.
+     *
+     * @param autre l'autre ensemble à unir
+     * @return un ensemble représentant l'union des deux
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<A, B>> union(Ensemble<Couple<A, B>> autre) throws IllegalArgumentException {
+        return EnsembleVue.creer(EnsembleVue.Operation.UNION, this, autre);
+    }
+
+    /**
+     * Retourne l'intersection de ce produit avec un autre ensemble de couples.
+     * L'intersection de deux produits est encore un produit : (A × B) ∩ (C × D) = (A ∩ C) × (B ∩ D).
+     *
+     * @param autre l'autre ensemble avec lequel faire l'intersection
+     * @return un ensemble contenant les couples communs
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<A, B>> intersection(Ensemble<Couple<A, B>> autre) throws IllegalArgumentException {
+        if (autre instanceof ProduitCartesien) {
+            ProduitCartesien<A, B> p = (ProduitCartesien<A, B>) autre;
+            return new ProduitCartesien<>(premier.intersection(p.premier), deuxieme.intersection(p.deuxieme));
+        }
+        return EnsembleVue.creer(EnsembleVue.Operation.INTERSECTION, this, autre);
+    }
+
+    /**
+     * Retourne la différence entre ce produit et un autre ensemble de couples.
+     *
+     * @param autre l'autre ensemble à soustraire
+     * @return un ensemble contenant les couples de ce produit qui ne sont pas dans l'autre
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<A, B>> difference(Ensemble<Couple<A, B>> autre) throws IllegalArgumentException {
+        return EnsembleVue.creer(EnsembleVue.Operation.DIFFERENCE, this, autre);
+    }
+
+    /**
+     * Retourne la différence symétrique entre ce produit et un autre ensemble de couples.
+     *
+     * @param autre l'autre ensemble à comparer
+     * @return un ensemble représentant la différence symétrique
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<A, B>> diffSymetrique(Ensemble<Couple<A, B>> autre) throws IllegalArgumentException {
+        return EnsembleVue.creer(EnsembleVue.Operation.DIFF_SYMETRIQUE, this, autre);
+    }
+
+    /**
+     * Retourne le produit cartésien de ce produit avec un autre ensemble de couples,
+     * lui aussi virtuel.
+     *
+     * @param autre l'autre facteur
+     * @return le produit cartésien virtuel
+     * @throws IllegalArgumentException si l'autre ensemble est null
+     */
+    @Override
+    public Ensemble<Couple<Couple<A, B>, Couple<A, B>>> produitCartesien(Ensemble<Couple<A, B>> autre)
+            throws IllegalArgumentException {
+        return new ProduitCartesien<>(this, autre);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les éléments de l'ensemble.
+     * Aucune copie n'est faite : la vue interroge directement l'ensemble.
+     *
+     * @return un {@link Set} non modifiable contenant tous les éléments
+     */
+    @Override
+    public Set<Couple<A, B>> elements() {
+        return new VueElements<>(this);
+    }
+
+    /**
+     * Retourne un itérateur qui crée les couples au fur et à mesure :
+     * pour chaque élément du premier facteur, le deuxième facteur est parcouru.
+     *
+     * @return un itérateur sur les couples du produit
+     */
+    @Override
+    public Iterator<Couple<A, B>> iterateur() {
+        return new Iterator<Couple<A, B>>() {
+            private final Iterator<A> itPremier = EnsembleVue.iterateur(premier);
+            private Iterator<B> itDeuxieme = null;
+            private A courant;
+
+            @Override
+            public boolean hasNext() {
+                while (itDeuxieme == null || !itDeuxieme.hasNext()) {
+                    if (!itPremier.hasNext()) {
+                        return false;
+                    }
+                    courant = itPremier.next();
+                    itDeuxieme = EnsembleVue.iterateur(deuxieme);
+                }
+                return true;
+            }
+
+            @Override
+            public Couple<A, B> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new CoupleImpl<>(courant, itDeuxieme.next());
+            }
+        };
+    }
+
+    /**
+     * Retourne une représentation textuelle du produit, en énumérant ses couples.
+     *
+     * @return une chaîne de caractères représentant le produit
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("{");
+        boolean first = true;
+        for (Iterator<Couple<A, B>> it = iterateur(); it.hasNext(); ) {
+            if (first) {
+                first = false;
+            } else {
+                str.append(", ");
+            }
+            str.append(it.next());
+        }
+        str.append("}");
+        return str.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package ensemble;
+
+/**
+ * Résultat de l'analyse des propriétés d'une relation binaire : réflexivité, symétrie,
+ * antisymétrie et transitivité, calculées ensemble en un seul parcours de la relation.
+ * Pour chaque propriété non vérifiée, un contre-exemple est fourni :
+ * <ul>
+ *     <li>réflexivité : un couple (e, e) absent, pour un élément e de la relation ;</li>
+ *     <li>symétrie : un couple (a, b) de la relation dont l'inverse (b, a) est absent ;</li>
+ *     <li>antisymétrie : un couple (a, b) de la relation, avec a ≠ b, dont l'inverse (b, a) est présent ;</li>
+ *     <li>transitivité : un couple (a, c) absent alors que (a, b) et (b, c) sont présents pour un certain b.</li>
+ * </ul>
+ * Le résultat est immuable.
+ *
+ * @param <T> Le type des éléments sur lesquels porte la relation
+ */
+public final class ProprietesRelation<T> {
+
+    /** Le contre-exemple à la réflexivité, ou null si la relation est réflexive. */
+    private final Couple<T, T> contreExempleReflexivite;
+
+    /** Le contre-exemple à la symétrie, ou null si la relation est symétrique. */
+    private final Couple<T, T> contreExempleSymetrie;
+
+    /** Le contre-exemple à l'antisymétrie, ou null si la relation est antisymétrique. */
+    private final Couple<T, T> contreExempleAntisymetrie;
+
+    /** Le contre-exemple à la transitivité, ou null si la relation est transitive. */
+    private final Couple<T, T> contreExempleTransitivite;
+
+    /**
+     * Construit le résultat à partir des contre-exemples trouvés.
+     *
+     * @param reflexivite le contre-exemple à la réflexivité, ou null
+     * @param symetrie le contre-exemple à la symétrie, ou null
+     * @param antisymetrie le contre-exemple à l'antisymétrie, ou null
+     * @param transitivite le contre-exemple à la transitivité, ou null
+     */
+    ProprietesRelation(Couple<T, T> reflexivite, Couple<T, T> symetrie, Couple<T, T> antisymetrie,
+            Couple<T, T> transitivite) {
+        this.contreExempleReflexivite = reflexivite;
+        this.contreExempleSymetrie = symetrie;
+        this.contreExempleAntisymetrie = antisymetrie;
+        this.contreExempleTransitivite = transitivite;
+    }
+
+    /**
+     * Indique si la relation est réflexive.
+     *
+     * @return true si la relation est réflexive, false sinon
+     */
+    public boolean estReflexive() {
+        return contreExempleReflexivite == null;
+    }
+
+    /**
+     * Indique si la relation est symétrique.
+     *
+     * @return true si la relation est symétrique, false sinon
+     */
+    public boolean estSymetrique() {
+        return contreExempleSymetrie == null;
+    }
+
+    /**
+     * Indique si la relation est antisymétrique.
+     *
+     * @return true si la relation est antisymétrique, false sinon
+     */
+    public boolean estAntisymetrique() {
+        return contreExempleAntisymetrie == null;
+    }
+
+    /**
+     * Indique si la relation est transitive.
+     *
+     * @return true si la relation est transitive, false sinon
+     */
+    public boolean estTransitive() {
+        return contreExempleTransitivite == null;
+    }
+
+    /**
+     * Indique si la relation est une relation d'équivalence.
+     *
+     * @return true si la relation est réflexive, symétrique et transitive, false sinon
+     */
+    public boolean estEquivalence() {
+        return estReflexive() && estSymetrique() && estTransitive();
+    }
+
+    /**
+     * Indique si la relation est une relation d'ordre.
+     *
+     * @return true si la relation est réflexive, antisymétrique et transitive, false sinon
+     */
+    public boolean estOrdre() {
+        return estReflexive() && estAntisymetrique() && estTransitive();
+    }
+
+    /**
+     * Retourne le contre-exemple à la réflexivité.
+     *
+     * @return un couple (e, e) absent de la relation pour un élément e de la relation,
+     *         ou null si la relation est réflexive
+     */
+    public Couple<T, T> contreExempleReflexivite() {
+        return contreExempleReflexivite;
+    }
+
+    /**
+     * Retourne le contre-exemple à la symétrie.
+     *
+     * @return un couple (a, b) de la relation dont l'inverse est absent, ou null si la relation est symétrique
+     */
+    public Couple<T, T> contreExempleSymetrie() {
+        return contreExempleSymetrie;
+    }
+
+    /**
+     * Retourne le contre-exemple à l'antisymétrie.
+     *
+     * @return un couple (a, b) de la relation, avec a ≠ b, dont l'inverse est présent,
+     *         ou null si la relation est antisymétrique
+     */
+    public Couple<T, T> contreExempleAntisymetrie() {
+        return contreExempleAntisymetrie;
+    }
+
+    /**
+     * Retourne le contre-exemple à la transitivité.
+     *
+     * @return un couple (a, c) absent de la relation alors que (a, b) et (b, c) sont présents,
+     *         ou null si la relation est transitive
+     */
+    public Couple<T, T> contreExempleTransitivite() {
+        return contreExempleTransitivite;
+    }
+
+    /**
+     * Retourne une représentation textuelle des propriétés, avec les contre-exemples éventuels.
+     *
+     * @return une chaîne de caractères décrivant les propriétés
+     */
+    @Override
+    public String toString() {
+        return "Proprietes{reflexive=" + decrire(contreExempleReflexivite)
+                + ", symetrique=" + decrire(contreExempleSymetrie)
+                + ", antisymetrique=" + decrire(contreExempleAntisymetrie)
+                + ", transitive=" + decrire(contreExempleTransitivite) + '}';
+    }
+
+    /**
+     * Décrit une propriété par son contre-exemple éventuel.
+     *
+     * @param contreExemple le contre-exemple, ou null
+     * @return "oui" si la propriété est vérifiée, "non" suivi du contre-exemple sinon
+     */
+    private static String decrire(Couple<?, ?> contreExemple) {
+        return contreExemple == null ? "oui" : "non " + contreExemple;
+    }
+}
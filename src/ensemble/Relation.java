@@ -8,8 +8,15 @@ import java.util.Set;
  * 
  * Cette interface offre des méthodes pour tester les propriétés classiques des relations binaires :
  * réflexivité, symétrie, anti-symétrie et transitivité.
- * Elle permet également de vérifier l'appartenance d'un couple à la relation
- * et d'accéder à l'ensemble des couples qui constituent la relation.
+ * Elle permet également de vérifier l'appartenance d'un couple à la relation,
+ * d'accéder à l'ensemble des couples qui constituent la relation et d'en calculer
+ * la fermeture transitive, ainsi que de la composer, l'inverser et la combiner avec d'autres relations
+ * et de calculer l'image d'un élément ou d'un ensemble.
+ * Seules les propriétés, la fermeture, l'appartenance d'un couple et les éléments sont à
+ * implémenter : les opérations de l'algèbre ont une implémentation par défaut générique, que les
+ * implémentations redéfinissent lorsqu'elles ont un meilleur algorithme.
+ * Deux relations sont égales si elles contiennent les mêmes couples, quelles que soient leurs
+ * implémentations, et ont alors le même hash code.
  *
  * @param <T> Le type des éléments sur lesquels porte la relation
  */
@@ -49,6 +56,104 @@ public interface Relation<T> {
      */
     boolean estTransitive();
 
+    /**
+     * Retourne les propriétés de la relation (réflexivité, symétrie, antisymétrie, transitivité),
+     * calculées ensemble, avec un contre-exemple pour chaque propriété non vérifiée.
+     * La relation étant immuable, le résultat peut être conservé par l'implémentation.
+     * 
+     * @return Les propriétés de la relation
+     */
+    ProprietesRelation<T> proprietes();
+
+    /**
+     * Calcule la fermeture transitive de la relation : la plus petite relation transitive qui la contient.
+     * Le couple (a, b) appartient à la fermeture s'il existe un chemin de a à b formé d'au moins
+     * un couple de la relation.
+     * 
+     * @return Une nouvelle relation immuable, transitive, contenant cette relation
+     */
+    Relation<T> fermetureTransitive();
+
+    /**
+     * Calcule la composée de cette relation suivie d'une autre relation.
+     * Le couple (a, c) appartient à la composée s'il existe b tel que (a, b) appartient à cette
+     * relation et (b, c) à l'autre ; avec la notation usuelle, le résultat est autre ∘ this.
+     *
+     * @param autre La relation appliquée après celle-ci
+     * @return Une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    default Relation<T> composition(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        return AlgebreRelation.composer(this, autre);
+    }
+
+    /**
+     * Calcule la relation réciproque : le couple (b, a) lui appartient si (a, b) appartient à cette relation.
+     *
+     * @return Une nouvelle relation immuable
+     */
+    default Relation<T> inverse() {
+        return AlgebreRelation.inverser(this);
+    }
+
+    /**
+     * Calcule la réunion de cette relation et d'une autre relation.
+     *
+     * @param autre L'autre relation
+     * @return Une nouvelle relation immuable contenant les couples de l'une ou l'autre relation
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    default Relation<T> union(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        return AlgebreRelation.reunir(this, autre);
+    }
+
+    /**
+     * Calcule l'intersection de cette relation et d'une autre relation.
+     *
+     * @param autre L'autre relation
+     * @return Une nouvelle relation immuable contenant les couples communs aux deux relations
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    default Relation<T> intersection(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        return AlgebreRelation.intersecter(this, autre);
+    }
+
+    /**
+     * Retourne l'image d'un élément : l'ensemble des b tels que (x, b) appartient à la relation.
+     * Les implémentations du paquetage lisent l'image dans un index, en un temps proportionnel au
+     * nombre de successeurs de l'élément ; par défaut, tous les couples sont parcourus.
+     *
+     * @param x L'élément
+     * @return L'ensemble immuable de ses successeurs, vide si l'élément n'en a pas
+     */
+    default Ensemble<T> image(T x) {
+        return AlgebreRelation.imageElement(this, x);
+    }
+
+    /**
+     * Retourne l'image réciproque d'un élément : l'ensemble des a tels que (a, x) appartient à la relation.
+     *
+     * @param x L'élément
+     * @return L'ensemble immuable de ses prédécesseurs, vide si l'élément n'en a pas
+     */
+    default Ensemble<T> preImage(T x) {
+        return AlgebreRelation.preImageElement(this, x);
+    }
+
+    /**
+     * Retourne l'image d'un ensemble : la réunion des images de ses éléments.
+     *
+     * @param ensemble L'ensemble de départ
+     * @return L'ensemble immuable des b tels qu'il existe a dans l'ensemble avec (a, b) dans la relation
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    default Ensemble<T> image(Ensemble<T> ensemble) throws IllegalArgumentException {
+        return AlgebreRelation.image(this, ensemble);
+    }
+
     /**
      * Vérifie si un couple appartient à la relation.
      * 
@@ -57,6 +162,18 @@ public interface Relation<T> {
      */
     boolean contient(Couple<T, T> couple);
 
+    /**
+     * Vérifie si le couple (premier, deuxieme) appartient à la relation. Les implémentations du
+     * paquetage le font sans créer de couple ; par défaut, le couple est créé puis cherché.
+     * 
+     * @param premier Le premier élément du couple
+     * @param deuxieme Le deuxième élément du couple
+     * @return true si le couple appartient à la relation, false sinon
+     */
+    default boolean contient(T premier, T deuxieme) {
+        return contient(new CoupleImpl<>(premier, deuxieme));
+    }
+
     /**
      * Retourne l'ensemble immuable des couples qui composent la relation.
      * 
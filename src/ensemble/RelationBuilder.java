@@ -0,0 +1,65 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Constructeur mutable de relations binaires.
+ * Les couples sont ajoutés un à un dans un Set interne, qui est ensuite transmis
+ * tel quel (sans copie) à la relation immuable créée par {@link #construire()}.
+ * Après {@code construire()}, le constructeur repart d'un Set vide et peut être réutilisé.
+ *
+ * @param <T> Le type des éléments sur lesquels porte la relation
+ */
+public class RelationBuilder<T> {
+
+    /** Les couples ajoutés depuis la dernière construction. */
+    private Set<Couple<T, T>> couples;
+
+    /**
+     * Crée un constructeur de relation vide.
+     */
+    public RelationBuilder() {
+        this.couples = new HashSet<>();
+    }
+
+    /**
+     * Ajoute le couple (premier, deuxieme) à la relation en construction.
+     *
+     * @param premier le premier élément du couple
+     * @param deuxieme le deuxième élément du couple
+     * @return ce constructeur, pour enchaîner les appels
+     */
+    public RelationBuilder<T> ajouter(T premier, T deuxieme) {
+        couples.add(new CoupleImpl<>(premier, deuxieme));
+        return this;
+    }
+
+    /**
+     * Ajoute un couple à la relation en construction.
+     *
+     * @param couple le couple à ajouter
+     * @return ce constructeur, pour enchaîner les appels
+     * @throws IllegalArgumentException si le couple est null
+     */
+    public RelationBuilder<T> ajouter(Couple<T, T> couple) throws IllegalArgumentException {
+        if (couple == null) {
+            throw new IllegalArgumentException("Le couple ne peut pas être null");
+        }
+        couples.add(couple);
+        return this;
+    }
+
+    /**
+     * Crée la relation immuable contenant les couples ajoutés.
+     * Le Set interne est transmis à la relation sans être copié ; le constructeur
+     * en utilise ensuite un nouveau.
+     *
+     * @return la relation immuable construite
+     */
+    public Relation<T> construire() {
+        Relation<T> resultat = RelationImpl.sansCopie(couples);
+        couples = new HashSet<>();
+        return resultat;
+    }
+}
@@ -0,0 +1,657 @@
+package ensemble;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation compacte d'une relation binaire sur des entiers, adaptée aux domaines creux.
+ * Chaque couple (a, b) est codé dans un seul {@code long} : a dans les 32 bits de poids fort,
+ * b dans les 32 bits de poids faible, son bit de signe inversé pour que l'ordre des codes soit
+ * l'ordre lexicographique des couples. Les codes sont rangés dans un tableau trié, soit 8 octets
+ * par couple : les couples de même premier élément sont contigus, et l'image d'un entier est
+ * une plage du tableau trouvée par recherche dichotomique.
+ * Les prédécesseurs sont lus dans un second tableau trié, celui des couples inversés, construit
+ * au premier besoin. Les objets {@link Couple} ne sont créés qu'au parcours des éléments.
+ * La relation est immuable.
+ */
+class RelationCompacte implements Relation<Integer> {
+
+    /** Masque des 32 bits de poids faible. */
+    private static final long BAS = 0xFFFFFFFFL;
+
+    /** Les codes des couples (a, b), triés et distincts. */
+    private final long[] lignes;
+
+    /**
+     * Les codes des couples inversés (b, a), triés, construits au premier appel qui en a besoin.
+     * Deux fils peuvent les construire en même temps sans inconvénient : le tableau n'est plus
+     * modifié une fois affecté.
+     */
+    private long[] colonnes;
+
+    /** Les propriétés de la relation, calculées au premier appel de la même manière. */
+    private ProprietesRelation<Integer> proprietes;
+
+    /**
+     * Construit une relation compacte sur des entiers à partir d'un ensemble de couples.
+     *
+     * @param couples les couples représentant les éléments de la relation
+     * @throws IllegalArgumentException si l'ensemble est null, contient un couple null
+     *                                  ou une composante null
+     */
+    public RelationCompacte(Set<Couple<Integer, Integer>> couples) throws IllegalArgumentException {
+        if (couples == null) {
+            throw new IllegalArgumentException("L'ensemble de couples ne peut pas être null.");
+        }
+        long[] codes = new long[couples.size()];
+        int n = 0;
+        for (Couple<Integer, Integer> couple : couples) {
+            if (couple == null || couple.getPremier() == null || couple.getDeuxieme() == null) {
+                throw new IllegalArgumentException("Une relation sur des entiers ne peut pas contenir null.");
+            }
+            codes[n++] = code(couple.getPremier(), couple.getDeuxieme());
+        }
+        this.lignes = trier(codes, n);
+    }
+
+    /**
+     * Constructeur interne qui reprend un tableau de codes triés et distincts, sans le copier.
+     *
+     * @param lignes les codes des couples
+     */
+    private RelationCompacte(long[] lignes) {
+        this.lignes = lignes;
+    }
+
+    /**
+     * Code le couple (a, b) dans un {@code long}.
+     *
+     * @param a le premier entier
+     * @param b le deuxième entier
+     * @return le code, dont l'ordre est l'ordre lexicographique des couples
+     */
+    static long code(int a, int b) {
+        return ((long) a << 32) | ((b ^ Integer.MIN_VALUE) & BAS);
+    }
+
+    /**
+     * Retourne le premier entier d'un couple codé.
+     *
+     * @param code le code du couple
+     * @return son premier entier
+     */
+    static int premier(long code) {
+        return (int) (code >> 32);
+    }
+
+    /**
+     * Retourne le deuxième entier d'un couple codé.
+     *
+     * @param code le code du couple
+     * @return son deuxième entier
+     */
+    static int deuxieme(long code) {
+        return (int) code ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Trie les {@code n} premiers codes d'un tableau et en retire les doublons.
+     *
+     * @param codes le tableau, trié sur place
+     * @param n le nombre de codes utilisés
+     * @return un tableau de la bonne longueur contenant les codes distincts, triés
+     */
+    private static long[] trier(long[] codes, int n) {
+        Arrays.sort(codes, 0, n);
+        int distincts = 0;
+        for (int i = 0; i < n; i++) {
+            if (distincts == 0 || codes[i] != codes[distincts - 1]) {
+                codes[distincts++] = codes[i];
+            }
+        }
+        return distincts == codes.length ? codes : Arrays.copyOf(codes, distincts);
+    }
+
+    /**
+     * Retourne le premier indice d'un tableau trié dont le code est supérieur (ou égal) à une borne.
+     *
+     * @param codes le tableau trié
+     * @param borne la borne
+     * @param strict {@code true} pour chercher un code strictement supérieur
+     * @return l'indice trouvé, ou la longueur du tableau
+     */
+    private static int rang(long[] codes, long borne, boolean strict) {
+        int bas = 0;
+        int haut = codes.length;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (codes[milieu] < borne || strict && codes[milieu] == borne) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Retourne le début de la plage des codes dont le premier entier vaut {@code a}.
+     *
+     * @param codes le tableau trié
+     * @param a le premier entier
+     * @return l'indice du premier code de la plage
+     */
+    private static int debutLigne(long[] codes, int a) {
+        return rang(codes, code(a, Integer.MIN_VALUE), false);
+    }
+
+    /**
+     * Retourne la fin (exclue) de la plage des codes dont le premier entier vaut {@code a}.
+     *
+     * @param codes le tableau trié
+     * @param a le premier entier
+     * @return l'indice qui suit le dernier code de la plage
+     */
+    private static int finLigne(long[] codes, int a) {
+        return rang(codes, code(a, Integer.MAX_VALUE), true);
+    }
+
+    /**
+     * Retourne les codes des couples inversés, en les construisant si nécessaire.
+     *
+     * @return le tableau trié des codes (b, a)
+     */
+    private long[] colonnes() {
+        long[] c = colonnes;
+        if (c == null) {
+            c = new long[lignes.length];
+            for (int i = 0; i < lignes.length; i++) {
+                c[i] = code(deuxieme(lignes[i]), premier(lignes[i]));
+            }
+            Arrays.sort(c);
+            colonnes = c;
+        }
+        return c;
+    }
+
+    /**
+     * Retourne les propriétés de la relation, avec un contre-exemple pour chaque propriété
+     * non vérifiée. Elles sont calculées ensemble au premier appel, en un parcours du tableau :
+     * pour chaque couple (a, b), les couples (a, a), (b, b) et (b, a) sont cherchés par dichotomie,
+     * et la ligne de b est comparée à celle de a par fusion des deux plages triées.
+     *
+     * @return les propriétés de la relation
+     */
+    @Override
+    public ProprietesRelation<Integer> proprietes() {
+        ProprietesRelation<Integer> p = proprietes;
+        if (p == null) {
+            p = calculerProprietes();
+            proprietes = p;
+        }
+        return p;
+    }
+
+    /**
+     * Calcule les propriétés de la relation.
+     *
+     * @return les propriétés, avec leurs contre-exemples
+     */
+    private ProprietesRelation<Integer> calculerProprietes() {
+        Couple<Integer, Integer> reflexivite = null;
+        Couple<Integer, Integer> symetrie = null;
+        Couple<Integer, Integer> antisymetrie = null;
+        Couple<Integer, Integer> transitivite = null;
+        int debutA = 0;
+        int finA = 0;
+        for (int i = 0; i < lignes.length; i++) {
+            int a = premier(lignes[i]);
+            int b = deuxieme(lignes[i]);
+            if (i == finA) {
+                // début de la ligne de a
+                debutA = i;
+                finA = finLigne(lignes, a);
+                if (reflexivite == null && !contient(a, a)) {
+                    reflexivite = new CoupleImpl<>(a, a);
+                }
+            }
+            if (reflexivite == null && !contient(b, b)) {
+                reflexivite = new CoupleImpl<>(b, b);
+            }
+            if (a != b && (symetrie == null || antisymetrie == null)) {
+                boolean inverse = contient(b, a);
+                if (!inverse && symetrie == null) {
+                    symetrie = new CoupleImpl<>(a, b);
+                } else if (inverse && antisymetrie == null) {
+                    antisymetrie = new CoupleImpl<>(a, b);
+                }
+            }
+            if (transitivite == null && a != b) {
+                transitivite = temoinInclusion(a, debutA, finA, b);
+            }
+            if (reflexivite != null && symetrie != null && antisymetrie != null && transitivite != null) {
+                break;
+            }
+        }
+        return new ProprietesRelation<>(reflexivite, symetrie, antisymetrie, transitivite);
+    }
+
+    /**
+     * Vérifie que les successeurs de b sont tous des successeurs de a, en fusionnant les deux
+     * lignes triées.
+     *
+     * @param a le premier entier
+     * @param debutA le début de la ligne de a
+     * @param finA la fin de la ligne de a
+     * @param b un successeur de a
+     * @return un couple (a, c) absent alors que (b, c) est présent, ou null
+     */
+    private Couple<Integer, Integer> temoinInclusion(int a, int debutA, int finA, int b) {
+        int j = debutA;
+        for (int k = debutLigne(lignes, b), finB = finLigne(lignes, b); k < finB; k++) {
+            int c = deuxieme(lignes[k]);
+            while (j < finA && deuxieme(lignes[j]) < c) {
+                j++;
+            }
+            if (j == finA || deuxieme(lignes[j]) != c) {
+                return new CoupleImpl<>(a, c);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Vérifie si la relation est réflexive.
+     *
+     * @return {@code true} si la relation est réflexive, {@code false} sinon
+     */
+    @Override
+    public boolean estReflexive() {
+        return proprietes().estReflexive();
+    }
+
+    /**
+     * Vérifie si la relation est symétrique.
+     *
+     * @return {@code true} si la relation est symétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estSymetrique() {
+        return proprietes().estSymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est antisymétrique.
+     *
+     * @return {@code true} si la relation est antisymétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estAntisymetrique() {
+        return proprietes().estAntisymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est transitive.
+     *
+     * @return {@code true} si la relation est transitive, {@code false} sinon
+     */
+    @Override
+    public boolean estTransitive() {
+        return proprietes().estTransitive();
+    }
+
+    /**
+     * Calcule la fermeture transitive de la relation, par condensation des composantes fortement
+     * connexes puis propagation de l'accessibilité sur le graphe condensé.
+     * Les entiers distincts sont numérotés dans l'ordre croissant ; le graphe est lu directement
+     * dans les codes, dont les lignes sont déjà rangées par premier entier, et les lignes de la
+     * fermeture sont codées en retour sans passer par des couples. Les numéros suivant l'ordre des
+     * entiers, les codes produits sont déjà triés.
+     *
+     * @return une nouvelle relation compacte, transitive, contenant cette relation
+     */
+    @Override
+    public Relation<Integer> fermetureTransitive() {
+        // les entiers distincts, triés : le numéro d'un entier est son rang
+        int[] valeurs = new int[2 * lignes.length];
+        for (int k = 0; k < lignes.length; k++) {
+            valeurs[2 * k] = premier(lignes[k]);
+            valeurs[2 * k + 1] = deuxieme(lignes[k]);
+        }
+        Arrays.sort(valeurs);
+        int n = 0;
+        for (int k = 0; k < valeurs.length; k++) {
+            if (n == 0 || valeurs[k] != valeurs[n - 1]) {
+                valeurs[n++] = valeurs[k];
+            }
+        }
+        int[] debut = new int[n + 1];
+        int[] cibles = new int[lignes.length];
+        for (int k = 0; k < lignes.length; k++) {
+            debut[Arrays.binarySearch(valeurs, 0, n, premier(lignes[k])) + 1]++;
+            cibles[k] = Arrays.binarySearch(valeurs, 0, n, deuxieme(lignes[k]));
+        }
+        for (int v = 0; v < n; v++) {
+            debut[v + 1] += debut[v];
+        }
+        int[][] fermeture = new Graphe<Integer>(debut, cibles).fermetureNumerotee();
+        long total = 0;
+        for (int[] ligne : fermeture) {
+            total += ligne.length;
+        }
+        long[] codes = new long[Math.toIntExact(total)];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            for (int w : fermeture[v]) {
+                codes[k++] = code(valeurs[v], valeurs[w]);
+            }
+        }
+        return new RelationCompacte(codes);
+    }
+
+    /**
+     * Calcule la composée de cette relation suivie d'une autre. Lorsque l'autre relation est
+     * aussi compacte, chaque couple (a, b) est joint à la ligne de b dans l'autre tableau,
+     * trouvée par dichotomie ; les codes obtenus sont triés une seule fois à la fin.
+     *
+     * @param autre la relation appliquée après celle-ci
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> composition(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!(autre instanceof RelationCompacte r)) {
+            return AlgebreRelation.composer(this, autre);
+        }
+        long[] resultat = new long[Math.max(16, lignes.length)];
+        int n = 0;
+        for (long couple : lignes) {
+            int a = premier(couple);
+            int b = deuxieme(couple);
+            for (int k = debutLigne(r.lignes, b), fin = finLigne(r.lignes, b); k < fin; k++) {
+                if (n == resultat.length) {
+                    resultat = Arrays.copyOf(resultat, 2 * n);
+                }
+                resultat[n++] = code(a, deuxieme(r.lignes[k]));
+            }
+        }
+        return new RelationCompacte(trier(resultat, n));
+    }
+
+    /**
+     * Calcule la relation réciproque : son tableau est celui des couples inversés de cette
+     * relation, et réciproquement.
+     *
+     * @return une nouvelle relation compacte
+     */
+    @Override
+    public Relation<Integer> inverse() {
+        RelationCompacte resultat = new RelationCompacte(colonnes());
+        resultat.colonnes = lignes;
+        return resultat;
+    }
+
+    /**
+     * Calcule la réunion de cette relation et d'une autre, par fusion des tableaux triés
+     * lorsque l'autre relation est aussi compacte.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> union(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!(autre instanceof RelationCompacte r)) {
+            return AlgebreRelation.reunir(this, autre);
+        }
+        return new RelationCompacte(fusionner(lignes, r.lignes, false));
+    }
+
+    /**
+     * Calcule l'intersection de cette relation et d'une autre, par fusion des tableaux triés
+     * lorsque l'autre relation est aussi compacte.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> intersection(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!(autre instanceof RelationCompacte r)) {
+            return AlgebreRelation.intersecter(this, autre);
+        }
+        return new RelationCompacte(fusionner(lignes, r.lignes, true));
+    }
+
+    /**
+     * Fusionne deux tableaux triés de codes distincts.
+     *
+     * @param x le premier tableau
+     * @param y le second tableau
+     * @param communs {@code true} pour ne garder que les codes communs, {@code false} pour tous les garder
+     * @return le tableau trié résultant
+     */
+    private static long[] fusionner(long[] x, long[] y, boolean communs) {
+        long[] resultat = new long[communs ? Math.min(x.length, y.length) : x.length + y.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < x.length && j < y.length) {
+            if (x[i] == y[j]) {
+                resultat[n++] = x[i++];
+                j++;
+            } else if (x[i] < y[j]) {
+                long c = x[i++];
+                if (!communs) {
+                    resultat[n++] = c;
+                }
+            } else {
+                long c = y[j++];
+                if (!communs) {
+                    resultat[n++] = c;
+                }
+            }
+        }
+        if (!communs) {
+            while (i < x.length) {
+                resultat[n++] = x[i++];
+            }
+            while (j < y.length) {
+                resultat[n++] = y[j++];
+            }
+        }
+        return n == resultat.length ? resultat : Arrays.copyOf(resultat, n);
+    }
+
+    /**
+     * Retourne l'image d'un entier : les deuxièmes entiers de sa ligne.
+     *
+     * @param x l'entier
+     * @return l'ensemble compressé de ses successeurs, vide si x est null ou n'en a pas
+     */
+    @Override
+    public Ensemble<Integer> image(Integer x) {
+        return x == null ? EnsembleCompresse.depuisEntiers(new int[0], 0) : ligne(lignes, x);
+    }
+
+    /**
+     * Retourne l'image réciproque d'un entier : sa ligne dans le tableau des couples inversés.
+     *
+     * @param x l'entier
+     * @return l'ensemble compressé de ses prédécesseurs, vide si x est null ou n'en a pas
+     */
+    @Override
+    public Ensemble<Integer> preImage(Integer x) {
+        return x == null ? EnsembleCompresse.depuisEntiers(new int[0], 0) : ligne(colonnes(), x);
+    }
+
+    /**
+     * Extrait une ligne d'un tableau de codes.
+     *
+     * @param codes le tableau trié
+     * @param a le premier entier de la ligne
+     * @return l'ensemble des deuxièmes entiers de la ligne
+     */
+    private static EnsembleCompresse ligne(long[] codes, int a) {
+        int debut = debutLigne(codes, a);
+        int fin = finLigne(codes, a);
+        int[] valeurs = new int[fin - debut];
+        for (int k = debut; k < fin; k++) {
+            valeurs[k - debut] = deuxieme(codes[k]);
+        }
+        return EnsembleCompresse.depuisEntiers(valeurs, valeurs.length);
+    }
+
+    /**
+     * Retourne l'image d'un ensemble d'entiers : la réunion des lignes de ses éléments.
+     *
+     * @param ensemble l'ensemble de départ
+     * @return l'ensemble compressé des successeurs de ses éléments
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> image(Ensemble<Integer> ensemble) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(ensemble);
+        int[] valeurs = new int[16];
+        int n = 0;
+        for (Iterator<Integer> it = EnsembleVue.iterateur(ensemble); it.hasNext(); ) {
+            Integer a = it.next();
+            if (a == null) {
+                continue;
+            }
+            for (int k = debutLigne(lignes, a), fin = finLigne(lignes, a); k < fin; k++) {
+                if (n == valeurs.length) {
+                    valeurs = Arrays.copyOf(valeurs, 2 * n);
+                }
+                valeurs[n++] = deuxieme(lignes[k]);
+            }
+        }
+        Arrays.sort(valeurs, 0, n);
+        int distincts = 0;
+        for (int i = 0; i < n; i++) {
+            if (distincts == 0 || valeurs[i] != valeurs[distincts - 1]) {
+                valeurs[distincts++] = valeurs[i];
+            }
+        }
+        return EnsembleCompresse.depuisEntiers(valeurs, distincts);
+    }
+
+    /**
+     * Vérifie si un couple donné appartient à la relation.
+     *
+     * @param couple le couple à rechercher
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Couple<Integer, Integer> couple) {
+        return couple != null && contient(couple.getPremier(), couple.getDeuxieme());
+    }
+
+    /**
+     * Vérifie si le couple (premier, deuxieme) appartient à la relation, sans créer de couple.
+     *
+     * @param premier le premier entier
+     * @param deuxieme le deuxième entier
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Integer premier, Integer deuxieme) {
+        return premier != null && deuxieme != null && contient(premier.intValue(), deuxieme.intValue());
+    }
+
+    /**
+     * Vérifie si le couple (a, b) appartient à la relation : une recherche dichotomique
+     * d'un {@code long}, sans allocation.
+     *
+     * @param a le premier entier
+     * @param b le deuxième entier
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    public boolean contient(int a, int b) {
+        return Arrays.binarySearch(lignes, code(a, b)) >= 0;
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les couples de la relation.
+     * Aucune copie n'est faite : les couples sont créés au fil du parcours du tableau.
+     *
+     * @return un {@link Set} non modifiable contenant tous les couples
+     */
+    @Override
+    public Set<Couple<Integer, Integer>> elements() {
+        return new AbstractSet<Couple<Integer, Integer>>() {
+            @Override
+            public int size() {
+                return lignes.length;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Couple<?, ?> c && c.getPremier() instanceof Integer a
+                        && c.getDeuxieme() instanceof Integer b && contient(a.intValue(), b.intValue());
+            }
+
+            @Override
+            public Iterator<Couple<Integer, Integer>> iterator() {
+                return new Iterator<Couple<Integer, Integer>>() {
+                    private int indice = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return indice < lignes.length;
+                    }
+
+                    @Override
+                    public Couple<Integer, Integer> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        long code = lignes[indice++];
+                        return new CoupleImpl<>(premier(code), deuxieme(code));
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Vérifie si deux relations sont égales, c'est-à-dire si elles contiennent exactement les
+     * mêmes couples, quelle que soit l'implémentation de l'autre. Entre deux relations compactes,
+     * les tableaux de codes triés sont comparés directement.
+     *
+     * @param o l'objet à comparer
+     * @return {@code true} si les relations sont égales, {@code false} sinon
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof RelationCompacte r) return Arrays.equals(lignes, r.lignes);
+        return AlgebreRelation.egales(this, o);
+    }
+
+    /**
+     * Calcule le hash code de la relation à partir de ses couples, comme {@link RelationImpl}.
+     *
+     * @return le hash code de la relation
+     */
+    @Override
+    public int hashCode() {
+        return AlgebreRelation.hachage(this);
+    }
+
+    /**
+     * Retourne une représentation textuelle de la relation,
+     * contenant l'ensemble des couples.
+     *
+     * @return une chaîne de caractères représentant la relation
+     */
+    @Override
+    public String toString() {
+        return "Relation{" + elements() + '}';
+    }
+}
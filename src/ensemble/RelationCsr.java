@@ -0,0 +1,818 @@
+package ensemble;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation en lecture seule d'une relation binaire, pour les grandes relations construites
+ * une fois puis seulement interrogées.
+ * Chaque élément reçoit un numéro dense de 0 à n − 1, et les couples sont rangés en lignes
+ * compressées (format CSR) : les numéros des successeurs du sommet v occupent les cases
+ * {@code debut[v]} à {@code debut[v + 1] − 1} d'un seul tableau d'entiers, triées par ordre croissant.
+ * Un couple occupe ainsi 4 octets, au lieu d'un objet {@link Couple} et d'une entrée de HashSet.
+ * L'appartenance d'un couple est une recherche dichotomique dans une ligne, et la transitivité
+ * se vérifie par fusion de lignes triées. Les lignes des prédécesseurs sont construites au
+ * premier besoin.
+ * La relation peut être construite sur un support explicite : les éléments du support sont alors
+ * numérotés d'abord, dans l'ordre de leur parcours, y compris ceux qui ne figurent dans aucun couple.
+ * La réflexivité porte ainsi sur tout le support ; sans support, elle ne porte que sur les éléments
+ * qui figurent dans un couple, même si le dictionnaire en numérote d'autres. Les relations
+ * déduites (réciproque, fermeture, et réunion, intersection ou composée de deux relations sur des
+ * supports égaux) partagent son dictionnaire et se calculent sur les numéros, par fusion de lignes.
+ * Avec toute autre relation, y compris une relation en lignes compressées sans support, le
+ * résultat suit le support de la relation sur laquelle l'opération est appelée : il est replacé
+ * sur ce support s'il y en a un. Deux supports explicites différents ne se combinent pas.
+ * La relation est immuable.
+ *
+ * @param <T> le type des éléments de la relation
+ */
+class RelationCsr<T> implements Relation<T> {
+
+    /** L'élément de chaque numéro. */
+    private final List<T> sommets;
+
+    /** Le numéro de chaque élément. */
+    private final Map<T, Integer> numeros;
+
+    /** Le support explicite de la relation, ou null si ses éléments sont ceux de ses couples. */
+    private final Ensemble<T> support;
+
+    /** Les lignes des successeurs. */
+    private final Lignes successeurs;
+
+    /**
+     * Les lignes des prédécesseurs, construites au premier appel qui en a besoin.
+     * Deux fils peuvent les construire en même temps sans inconvénient : elles sont immuables.
+     */
+    private Lignes predecesseurs;
+
+    /** Les propriétés de la relation, calculées au premier appel de la même manière. */
+    private ProprietesRelation<T> proprietes;
+
+    /**
+     * Construit une relation à partir de ses couples, qui sont parcourus une seule fois :
+     * la source peut produire ses couples à la volée sans les garder en mémoire.
+     *
+     * @param couples les couples de la relation ; les doublons sont ignorés
+     * @throws IllegalArgumentException si la source est null ou produit un couple null
+     */
+    public RelationCsr(Iterable<? extends Couple<T, T>> couples) throws IllegalArgumentException {
+        this(null, couples);
+    }
+
+    /**
+     * Construit une relation sur un support explicite à partir de ses couples, qui sont parcourus
+     * une seule fois. Les éléments du support reçoivent leurs numéros avant la lecture des couples.
+     *
+     * @param support l'ensemble des éléments sur lequel porte la relation, ou null pour le déduire des couples
+     * @param couples les couples de la relation ; les doublons sont ignorés
+     * @throws IllegalArgumentException si la source est null, produit un couple null ou un couple
+     * dont un élément n'appartient pas au support
+     */
+    public RelationCsr(Ensemble<T> support, Iterable<? extends Couple<T, T>> couples) throws IllegalArgumentException {
+        if (couples == null) {
+            throw new IllegalArgumentException("L'ensemble de couples ne peut pas être null.");
+        }
+        this.sommets = new ArrayList<>();
+        this.numeros = new HashMap<>();
+        this.support = support;
+        if (support != null) {
+            for (Iterator<T> it = EnsembleVue.iterateur(support); it.hasNext(); ) {
+                T element = it.next();
+                numeros.put(element, sommets.size());
+                sommets.add(element);
+            }
+        }
+        int[] origines = new int[16];
+        int[] cibles = new int[16];
+        int nbArcs = 0;
+        for (Couple<T, T> couple : couples) {
+            if (couple == null) {
+                throw new IllegalArgumentException("La relation ne peut pas contenir de couple null.");
+            }
+            if (nbArcs == origines.length) {
+                origines = Arrays.copyOf(origines, 2 * nbArcs);
+                cibles = Arrays.copyOf(cibles, 2 * nbArcs);
+            }
+            origines[nbArcs] = numero(couple.getPremier());
+            cibles[nbArcs] = numero(couple.getDeuxieme());
+            nbArcs++;
+        }
+        this.successeurs = new Lignes(sommets.size(), origines, cibles, nbArcs);
+    }
+
+    /**
+     * Constructeur interne qui partage le dictionnaire et les lignes d'une autre relation.
+     *
+     * @param sommets l'élément de chaque numéro
+     * @param numeros le numéro de chaque élément
+     * @param support le support explicite, ou null
+     * @param successeurs les lignes des successeurs
+     * @param predecesseurs les lignes des prédécesseurs, ou null
+     */
+    private RelationCsr(List<T> sommets, Map<T, Integer> numeros, Ensemble<T> support, Lignes successeurs,
+            Lignes predecesseurs) {
+        this.sommets = sommets;
+        this.numeros = numeros;
+        this.support = support;
+        this.successeurs = successeurs;
+        this.predecesseurs = predecesseurs;
+    }
+
+    /**
+     * Retourne le numéro d'un élément, en lui attribuant le suivant s'il n'en a pas encore.
+     *
+     * @param element l'élément
+     * @return son numéro
+     * @throws IllegalArgumentException si la relation a un support explicite qui ne contient pas l'élément
+     */
+    private int numero(T element) throws IllegalArgumentException {
+        Integer v = numeros.get(element);
+        if (v == null) {
+            if (support != null) {
+                throw new IllegalArgumentException("L'élément " + element + " n'appartient pas au support.");
+            }
+            v = sommets.size();
+            numeros.put(element, v);
+            sommets.add(element);
+        }
+        return v;
+    }
+
+    /**
+     * Retourne les lignes des prédécesseurs, en les construisant si nécessaire.
+     *
+     * @return les lignes de la relation réciproque
+     */
+    private Lignes predecesseurs() {
+        Lignes p = predecesseurs;
+        if (p == null) {
+            p = successeurs.transposer();
+            predecesseurs = p;
+        }
+        return p;
+    }
+
+    /**
+     * Retourne les propriétés de la relation, avec un contre-exemple pour chaque propriété
+     * non vérifiée. Elles sont calculées ensemble au premier appel, en un parcours des lignes :
+     * pour chaque sommet v, v est cherché dans sa propre ligne, v est cherché dans la ligne de
+     * chacun de ses successeurs w, et la ligne de w est comparée à celle de v par fusion.
+     *
+     * @return les propriétés de la relation
+     */
+    @Override
+    public ProprietesRelation<T> proprietes() {
+        ProprietesRelation<T> p = proprietes;
+        if (p == null) {
+            p = calculerProprietes();
+            proprietes = p;
+        }
+        return p;
+    }
+
+    /**
+     * Calcule les propriétés de la relation.
+     *
+     * @return les propriétés, avec leurs contre-exemples
+     */
+    private ProprietesRelation<T> calculerProprietes() {
+        Couple<T, T> reflexivite = null;
+        Couple<T, T> symetrie = null;
+        Couple<T, T> antisymetrie = null;
+        Couple<T, T> transitivite = null;
+        int[] debut = successeurs.debut;
+        int[] cibles = successeurs.cibles;
+        // sans support, la réflexivité ne porte que sur les éléments des couples : une relation
+        // déduite partage le dictionnaire de sa source, qui peut numéroter d'autres éléments
+        boolean[] atteints = null;
+        if (support == null) {
+            atteints = new boolean[sommets.size()];
+            for (int w : cibles) {
+                atteints[w] = true;
+            }
+        }
+        for (int v = 0; v < sommets.size(); v++) {
+            boolean present = atteints == null || atteints[v] || debut[v] < debut[v + 1];
+            if (reflexivite == null && present && !successeurs.contient(v, v)) {
+                reflexivite = couple(v, v);
+            }
+            for (int k = debut[v]; k < debut[v + 1]; k++) {
+                int w = cibles[k];
+                if (w == v) {
+                    continue;
+                }
+                if (symetrie == null || antisymetrie == null) {
+                    boolean inverse = successeurs.contient(w, v);
+                    if (!inverse && symetrie == null) {
+                        symetrie = couple(v, w);
+                    } else if (inverse && antisymetrie == null) {
+                        antisymetrie = couple(v, w);
+                    }
+                }
+                if (transitivite == null) {
+                    int manquant = successeurs.premierManquant(w, v);
+                    if (manquant >= 0) {
+                        transitivite = couple(v, manquant);
+                    }
+                }
+            }
+            if (reflexivite != null && symetrie != null && antisymetrie != null && transitivite != null) {
+                break;
+            }
+        }
+        return new ProprietesRelation<>(reflexivite, symetrie, antisymetrie, transitivite);
+    }
+
+    /**
+     * Crée le couple d'éléments correspondant à deux numéros.
+     *
+     * @param v le numéro du premier élément
+     * @param w le numéro du deuxième élément
+     * @return le couple
+     */
+    private Couple<T, T> couple(int v, int w) {
+        return new CoupleImpl<>(sommets.get(v), sommets.get(w));
+    }
+
+    /**
+     * Vérifie si la relation est réflexive.
+     *
+     * @return {@code true} si la relation est réflexive, {@code false} sinon
+     */
+    @Override
+    public boolean estReflexive() {
+        return proprietes().estReflexive();
+    }
+
+    /**
+     * Vérifie si la relation est symétrique.
+     *
+     * @return {@code true} si la relation est symétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estSymetrique() {
+        return proprietes().estSymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est antisymétrique.
+     *
+     * @return {@code true} si la relation est antisymétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estAntisymetrique() {
+        return proprietes().estAntisymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est transitive.
+     *
+     * @return {@code true} si la relation est transitive, {@code false} sinon
+     */
+    @Override
+    public boolean estTransitive() {
+        return proprietes().estTransitive();
+    }
+
+    /**
+     * Calcule la fermeture transitive de la relation, par condensation des composantes fortement
+     * connexes puis propagation de l'accessibilité sur le graphe condensé. Le calcul se fait
+     * directement sur les numéros des lignes, sans passer par des couples.
+     * Le résultat partage le dictionnaire et le support de cette relation.
+     *
+     * @return une nouvelle relation en lignes compressées, transitive, contenant cette relation
+     */
+    @Override
+    public Relation<T> fermetureTransitive() {
+        int[][] fermeture = new Graphe<T>(successeurs.debut, successeurs.cibles).fermetureNumerotee();
+        return deriver(Lignes.concatener(fermeture));
+    }
+
+    /**
+     * Crée une relation qui partage le dictionnaire et le support de celle-ci.
+     *
+     * @param lignes les lignes des successeurs de la nouvelle relation
+     * @return la nouvelle relation
+     */
+    private RelationCsr<T> deriver(Lignes lignes) {
+        return new RelationCsr<>(sommets, numeros, support, lignes, null);
+    }
+
+    /**
+     * Retourne l'autre relation numérotée comme celle-ci, si c'est possible sans changer de
+     * dictionnaire : elle partage son dictionnaire, ou elle a été construite sur un support égal.
+     * Deux supports égaux construits séparément peuvent numéroter leurs éléments dans un ordre
+     * différent ; les lignes de l'autre relation sont alors renumérotées dans ce dictionnaire.
+     *
+     * @param autre l'autre relation
+     * @return l'autre relation en lignes compressées sur les numéros de celle-ci, ou null si
+     * les numéros ne peuvent pas être partagés
+     */
+    private RelationCsr<T> memeDictionnaire(Relation<T> autre) {
+        if (!(autre instanceof RelationCsr<T> csr)) {
+            return null;
+        }
+        if (csr.numeros == numeros || support != null && csr.support != null && csr.sommets.equals(sommets)) {
+            return csr;
+        }
+        if (support == null || csr.support == null || csr.sommets.size() != sommets.size()
+                || !numeros.keySet().containsAll(csr.sommets)) {
+            return null;
+        }
+        int[] nouveau = new int[sommets.size()];
+        for (int v = 0; v < nouveau.length; v++) {
+            nouveau[v] = numeros.get(csr.sommets.get(v));
+        }
+        int nbArcs = csr.successeurs.cibles.length;
+        int[] origines = new int[nbArcs];
+        int[] cibles = new int[nbArcs];
+        for (int v = 0; v < nouveau.length; v++) {
+            for (int k = csr.successeurs.debut[v]; k < csr.successeurs.debut[v + 1]; k++) {
+                origines[k] = nouveau[v];
+                cibles[k] = nouveau[csr.successeurs.cibles[k]];
+            }
+        }
+        return deriver(new Lignes(nouveau.length, origines, cibles, nbArcs));
+    }
+
+    /**
+     * Vérifie qu'une opération qui ne peut pas se faire sur les numéros ne mélange pas deux
+     * supports explicites. Une relation sans support, en lignes compressées ou non, est traitée
+     * comme toute autre implémentation : le résultat suit le support de cette relation.
+     *
+     * @param autre l'autre relation
+     * @throws IllegalArgumentException si les deux relations ont des supports explicites différents
+     */
+    private void verifierSupport(Relation<T> autre) throws IllegalArgumentException {
+        if (autre instanceof RelationCsr<T> csr && support != null && csr.support != null) {
+            throw new IllegalArgumentException("Les deux relations ne portent pas sur le même support.");
+        }
+    }
+
+    /**
+     * Replace sur le support de cette relation le résultat d'une opération générique, pour que
+     * la réflexivité continue de porter sur tout le support.
+     *
+     * @param resultat le résultat de l'opération
+     * @return le résultat, en lignes compressées sur le support s'il y en a un
+     * @throws IllegalArgumentException si le résultat contient un élément hors du support
+     */
+    private Relation<T> surSupport(Relation<T> resultat) throws IllegalArgumentException {
+        return support == null ? resultat : new RelationCsr<>(support, resultat.elements());
+    }
+
+    /**
+     * Calcule la composée de cette relation suivie d'une autre, par jointure sur l'élément intermédiaire.
+     * Sur un même dictionnaire, la jointure se fait ligne par ligne sur les numéros.
+     *
+     * @param autre la relation appliquée après celle-ci
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null, si les deux relations ont des
+     * supports explicites différents, ou si la composée contient un élément hors du support de cette relation
+     */
+    @Override
+    public Relation<T> composition(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        RelationCsr<T> csr = memeDictionnaire(autre);
+        if (csr != null) {
+            return deriver(successeurs.composer(csr.successeurs));
+        }
+        verifierSupport(autre);
+        return surSupport(AlgebreRelation.composer(this, autre));
+    }
+
+    /**
+     * Calcule la relation réciproque : elle partage le dictionnaire de cette relation, et ses
+     * lignes sont les lignes des prédécesseurs de celle-ci, et réciproquement.
+     *
+     * @return une nouvelle relation en lignes compressées
+     */
+    @Override
+    public Relation<T> inverse() {
+        return new RelationCsr<>(sommets, numeros, support, predecesseurs(), successeurs);
+    }
+
+    /**
+     * Calcule la réunion de cette relation et d'une autre relation.
+     * Sur un même dictionnaire, les lignes triées sont fusionnées.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null, si les deux relations ont des
+     * supports explicites différents, ou si la réunion contient un élément hors du support de cette relation
+     */
+    @Override
+    public Relation<T> union(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        RelationCsr<T> csr = memeDictionnaire(autre);
+        if (csr != null) {
+            return deriver(successeurs.fusionner(csr.successeurs, true));
+        }
+        verifierSupport(autre);
+        return surSupport(AlgebreRelation.reunir(this, autre));
+    }
+
+    /**
+     * Calcule l'intersection de cette relation et d'une autre relation.
+     * Sur un même dictionnaire, les lignes triées sont fusionnées.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null, ou si les deux relations ont
+     * des supports explicites différents
+     */
+    @Override
+    public Relation<T> intersection(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        RelationCsr<T> csr = memeDictionnaire(autre);
+        if (csr != null) {
+            return deriver(successeurs.fusionner(csr.successeurs, false));
+        }
+        verifierSupport(autre);
+        return surSupport(AlgebreRelation.intersecter(this, autre));
+    }
+
+    /**
+     * Retourne l'image d'un élément : les éléments de sa ligne.
+     *
+     * @param x l'élément
+     * @return l'ensemble de ses successeurs
+     */
+    @Override
+    public Ensemble<T> image(T x) {
+        return ligne(successeurs, x);
+    }
+
+    /**
+     * Retourne l'image réciproque d'un élément : les éléments de sa ligne de prédécesseurs.
+     *
+     * @param x l'élément
+     * @return l'ensemble de ses prédécesseurs
+     */
+    @Override
+    public Ensemble<T> preImage(T x) {
+        return ligne(predecesseurs(), x);
+    }
+
+    /**
+     * Convertit une ligne en ensemble d'éléments.
+     *
+     * @param lignes les lignes à lire
+     * @param x l'élément dont on veut la ligne
+     * @return l'ensemble des éléments de la ligne, vide si x n'appartient pas à la relation
+     */
+    private Ensemble<T> ligne(Lignes lignes, T x) {
+        Integer v = numeros.get(x);
+        if (v == null) {
+            return EnsembleImpl.sansCopie(new HashSet<>());
+        }
+        Set<T> resultat = new HashSet<>((lignes.debut[v + 1] - lignes.debut[v]) * 4 / 3 + 1);
+        for (int k = lignes.debut[v]; k < lignes.debut[v + 1]; k++) {
+            resultat.add(sommets.get(lignes.cibles[k]));
+        }
+        return EnsembleImpl.sansCopie(resultat);
+    }
+
+    /**
+     * Vérifie si un couple donné appartient à la relation.
+     *
+     * @param couple le couple à rechercher
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Couple<T, T> couple) {
+        return couple != null && contient(couple.getPremier(), couple.getDeuxieme());
+    }
+
+    /**
+     * Vérifie si le couple (premier, deuxieme) appartient à la relation : deux recherches
+     * dans le dictionnaire puis une recherche dichotomique dans la ligne du premier élément.
+     *
+     * @param premier le premier élément
+     * @param deuxieme le deuxième élément
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T premier, T deuxieme) {
+        Integer v = numeros.get(premier);
+        Integer w = numeros.get(deuxieme);
+        return v != null && w != null && successeurs.contient(v, w);
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les couples de la relation.
+     * Aucune copie n'est faite : les couples sont créés au fil du parcours des lignes.
+     *
+     * @return un {@link Set} non modifiable contenant tous les couples
+     */
+    @Override
+    public Set<Couple<T, T>> elements() {
+        return new AbstractSet<Couple<T, T>>() {
+            @Override
+            public int size() {
+                return successeurs.cibles.length;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Couple<?, ?> c)) {
+                    return false;
+                }
+                Integer v = numeros.get(c.getPremier());
+                Integer w = numeros.get(c.getDeuxieme());
+                return v != null && w != null && successeurs.contient(v, w);
+            }
+
+            @Override
+            public Iterator<Couple<T, T>> iterator() {
+                return new Iterator<Couple<T, T>>() {
+                    private int sommet = 0;
+                    private int indice = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return indice < successeurs.cibles.length;
+                    }
+
+                    @Override
+                    public Couple<T, T> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        while (successeurs.debut[sommet + 1] <= indice) {
+                            sommet++;
+                        }
+                        return couple(sommet, successeurs.cibles[indice++]);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Vérifie si deux relations sont égales, c'est-à-dire si elles contiennent exactement les
+     * mêmes couples, quelle que soit l'implémentation de l'autre. Comme pour les autres
+     * implémentations, le support n'entre pas dans la comparaison.
+     *
+     * @param o l'objet à comparer
+     * @return {@code true} si les relations sont égales, {@code false} sinon
+     */
+    @Override
+    public boolean equals(Object o) {
+        return AlgebreRelation.egales(this, o);
+    }
+
+    /**
+     * Calcule le hash code de la relation à partir de ses couples, comme {@link RelationImpl}.
+     *
+     * @return le hash code de la relation
+     */
+    @Override
+    public int hashCode() {
+        return AlgebreRelation.hachage(this);
+    }
+
+    /**
+     * Retourne une représentation textuelle de la relation,
+     * contenant l'ensemble des couples.
+     *
+     * @return une chaîne de caractères représentant la relation
+     */
+    @Override
+    public String toString() {
+        return "Relation{" + elements() + '}';
+    }
+
+    /**
+     * Lignes compressées d'un graphe sur des sommets numérotés : les voisins du sommet v sont
+     * rangés, triés et sans doublon, dans les cases {@code debut[v]} à {@code debut[v + 1] − 1}.
+     */
+    private static final class Lignes {
+
+        /** Pour chaque sommet v, l'indice de son premier voisin ; {@code debut[n]} vaut le nombre d'arcs. */
+        final int[] debut;
+
+        /** Les voisins de tous les sommets, bout à bout. */
+        final int[] cibles;
+
+        /**
+         * Range des arcs par tri par dénombrement selon leur origine, puis trie chaque ligne
+         * et en retire les doublons.
+         *
+         * @param n le nombre de sommets
+         * @param origines l'origine de chaque arc
+         * @param extremites l'extrémité de chaque arc
+         * @param nbArcs le nombre d'arcs utilisés dans les tableaux
+         */
+        Lignes(int n, int[] origines, int[] extremites, int nbArcs) {
+            int[] d = new int[n + 1];
+            for (int k = 0; k < nbArcs; k++) {
+                d[origines[k] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                d[v + 1] += d[v];
+            }
+            int[] c = new int[nbArcs];
+            int[] position = Arrays.copyOf(d, n);
+            for (int k = 0; k < nbArcs; k++) {
+                c[position[origines[k]]++] = extremites[k];
+            }
+            // tri de chaque ligne et compactage des doublons
+            int ecrits = 0;
+            for (int v = 0; v < n; v++) {
+                int lu = d[v];
+                int fin = d[v + 1];
+                Arrays.sort(c, lu, fin);
+                d[v] = ecrits;
+                for (; lu < fin; lu++) {
+                    if (ecrits == d[v] || c[lu] != c[ecrits - 1]) {
+                        c[ecrits++] = c[lu];
+                    }
+                }
+            }
+            d[n] = ecrits;
+            this.debut = d;
+            this.cibles = ecrits == c.length ? c : Arrays.copyOf(c, ecrits);
+        }
+
+        /**
+         * Construit des lignes déjà rangées.
+         *
+         * @param debut les débuts de lignes
+         * @param cibles les voisins
+         */
+        private Lignes(int[] debut, int[] cibles) {
+            this.debut = debut;
+            this.cibles = cibles;
+        }
+
+        /**
+         * Range bout à bout des lignes déjà triées et sans doublon.
+         *
+         * @param lignes les voisins de chaque sommet
+         * @return les lignes compressées
+         */
+        static Lignes concatener(int[][] lignes) {
+            int[] d = new int[lignes.length + 1];
+            long total = 0;
+            for (int v = 0; v < lignes.length; v++) {
+                total += lignes[v].length;
+                d[v + 1] = (int) Math.min(total, Integer.MAX_VALUE);
+            }
+            int[] c = new int[Math.toIntExact(total)];
+            for (int v = 0; v < lignes.length; v++) {
+                System.arraycopy(lignes[v], 0, c, d[v], lignes[v].length);
+            }
+            return new Lignes(d, c);
+        }
+
+        /**
+         * Construit les lignes du graphe transposé. Les arcs étant parcourus par origine
+         * croissante, chaque ligne transposée est produite déjà triée.
+         *
+         * @return les lignes des prédécesseurs
+         */
+        Lignes transposer() {
+            int n = debut.length - 1;
+            int[] d = new int[n + 1];
+            for (int w : cibles) {
+                d[w + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                d[v + 1] += d[v];
+            }
+            int[] c = new int[cibles.length];
+            int[] position = Arrays.copyOf(d, n);
+            for (int v = 0; v < n; v++) {
+                for (int k = debut[v]; k < debut[v + 1]; k++) {
+                    c[position[cibles[k]]++] = v;
+                }
+            }
+            return new Lignes(d, c);
+        }
+
+        /**
+         * Fusionne ligne à ligne ces lignes avec d'autres lignes sur les mêmes sommets.
+         *
+         * @param autres les autres lignes
+         * @param reunion {@code true} pour garder les voisins de l'une ou l'autre ligne,
+         * {@code false} pour garder ceux des deux lignes
+         * @return les lignes fusionnées
+         */
+        Lignes fusionner(Lignes autres, boolean reunion) {
+            int n = debut.length - 1;
+            int[] d = new int[n + 1];
+            int taille = reunion ? cibles.length + autres.cibles.length : Math.min(cibles.length, autres.cibles.length);
+            int[] c = new int[taille];
+            int ecrits = 0;
+            for (int v = 0; v < n; v++) {
+                d[v] = ecrits;
+                int i = debut[v];
+                int j = autres.debut[v];
+                int finI = debut[v + 1];
+                int finJ = autres.debut[v + 1];
+                while (i < finI && j < finJ) {
+                    int a = cibles[i];
+                    int b = autres.cibles[j];
+                    if (a == b || reunion) {
+                        c[ecrits++] = Math.min(a, b);
+                    }
+                    if (a <= b) {
+                        i++;
+                    }
+                    if (b <= a) {
+                        j++;
+                    }
+                }
+                if (reunion) {
+                    for (; i < finI; i++) {
+                        c[ecrits++] = cibles[i];
+                    }
+                    for (; j < finJ; j++) {
+                        c[ecrits++] = autres.cibles[j];
+                    }
+                }
+            }
+            d[n] = ecrits;
+            return new Lignes(d, ecrits == c.length ? c : Arrays.copyOf(c, ecrits));
+        }
+
+        /**
+         * Compose ces lignes avec d'autres lignes sur les mêmes sommets : la ligne de v reçoit les
+         * voisins, dans les autres lignes, des voisins de v. Les marques portent le numéro de la
+         * ligne en cours, ce qui évite de les effacer.
+         *
+         * @param autres les lignes appliquées après celles-ci
+         * @return les lignes de la composée
+         */
+        Lignes composer(Lignes autres) {
+            int n = debut.length - 1;
+            int[] d = new int[n + 1];
+            int[] c = new int[16];
+            int[] marque = new int[n];
+            Arrays.fill(marque, -1);
+            int ecrits = 0;
+            for (int v = 0; v < n; v++) {
+                d[v] = ecrits;
+                for (int k = debut[v]; k < debut[v + 1]; k++) {
+                    int w = cibles[k];
+                    for (int l = autres.debut[w]; l < autres.debut[w + 1]; l++) {
+                        int x = autres.cibles[l];
+                        if (marque[x] != v) {
+                            marque[x] = v;
+                            if (ecrits == c.length) {
+                                c = Arrays.copyOf(c, 2 * ecrits);
+                            }
+                            c[ecrits++] = x;
+                        }
+                    }
+                }
+                Arrays.sort(c, d[v], ecrits);
+            }
+            d[n] = ecrits;
+            return new Lignes(d, Arrays.copyOf(c, ecrits));
+        }
+
+        /**
+         * Cherche w dans la ligne de v par dichotomie.
+         *
+         * @param v le sommet dont on parcourt la ligne
+         * @param w le voisin cherché
+         * @return {@code true} si l'arc (v, w) existe
+         */
+        boolean contient(int v, int w) {
+            return Arrays.binarySearch(cibles, debut[v], debut[v + 1], w) >= 0;
+        }
+
+        /**
+         * Cherche un voisin de w qui n'est pas voisin de v, par fusion des deux lignes triées.
+         *
+         * @param w le sommet dont la ligne doit être incluse
+         * @param v le sommet dont la ligne doit la contenir
+         * @return le premier voisin de w absent de la ligne de v, ou −1
+         */
+        int premierManquant(int w, int v) {
+            int j = debut[v];
+            int finV = debut[v + 1];
+            for (int k = debut[w]; k < debut[w + 1]; k++) {
+                int c = cibles[k];
+                while (j < finV && cibles[j] < c) {
+                    j++;
+                }
+                if (j == finV || cibles[j] != c) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+    }
+}
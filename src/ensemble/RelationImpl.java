@@ -1,6 +1,9 @@
 package ensemble;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import ensemble.Couple;
@@ -11,6 +14,9 @@ import ensemble.Relation;
  * Implémentation d'une relation binaire sur un ensemble de type T.
  * Une relation binaire est un sous-ensemble du produit cartésien E × E,
  * où E est un ensemble de type T.
+ * Les propriétés (réflexivité, symétrie, antisymétrie, transitivité) sont calculées ensemble,
+ * au premier besoin, à partir d'un index des successeurs et des prédécesseurs de chaque élément,
+ * puis conservées.
  * La relation est immuable.
  *
  * @param <T> le type des éléments de l'ensemble
@@ -22,6 +28,16 @@ class RelationImpl<T> implements Relation<T> {
      */
     private final Set<Couple<T, T>> couples;
 
+    /**
+     * L'index d'adjacence, construit au premier appel d'une méthode qui en a besoin.
+     * Deux fils peuvent le construire en même temps sans inconvénient : l'index est
+     * immuable et ses champs sont finaux, le dernier construit est conservé.
+     */
+    private Index<T> index;
+
+    /** Les propriétés de la relation, calculées au premier appel de la même manière que l'index. */
+    private ProprietesRelation<T> proprietes;
+
     /**
      * Construit une relation binaire à partir d'un ensemble de couples.
      * 
@@ -35,6 +51,60 @@ class RelationImpl<T> implements Relation<T> {
         this.couples = new HashSet<>(couples);
     }
 
+    /**
+     * Constructeur interne qui reprend le Set de couples fourni sans le copier.
+     *
+     * @param couples les couples de la relation, qui ne doivent plus être modifiés par l'appelant
+     * @param proprietaire marqueur distinguant ce constructeur du constructeur public
+     */
+    private RelationImpl(Set<Couple<T, T>> couples, boolean proprietaire) {
+        this.couples = couples;
+    }
+
+    /**
+     * Crée une relation qui devient propriétaire du Set de couples fourni, sans copie défensive.
+     * Réservé au code du paquetage qui garantit que le Set n'est plus référencé ailleurs.
+     *
+     * @param <T> le type des éléments
+     * @param couples les couples, dont la propriété est transférée
+     * @return la relation immuable construite sur ce Set
+     */
+    static <T> RelationImpl<T> sansCopie(Set<Couple<T, T>> couples) {
+        return new RelationImpl<>(couples, true);
+    }
+
+    /**
+     * Retourne l'index d'adjacence de la relation, en le construisant si nécessaire.
+     *
+     * @return l'index des successeurs et des prédécesseurs
+     */
+    private Index<T> index() {
+        Index<T> i = index;
+        if (i == null) {
+            i = new Index<>(couples);
+            index = i;
+        }
+        return i;
+    }
+
+    /**
+     * Retourne les propriétés de la relation, avec un contre-exemple pour chaque propriété
+     * non vérifiée. Les quatre propriétés sont calculées ensemble, en un seul parcours de l'index
+     * d'adjacence, au premier appel ; les appels suivants, comme ceux de {@code estReflexive},
+     * {@code estSymetrique}, {@code estAntisymetrique} et {@code estTransitive}, ne coûtent plus rien.
+     *
+     * @return les propriétés de la relation
+     */
+    @Override
+    public ProprietesRelation<T> proprietes() {
+        ProprietesRelation<T> p = proprietes;
+        if (p == null) {
+            p = index().proprietes();
+            proprietes = p;
+        }
+        return p;
+    }
+
     /**
      * Vérifie si la relation est réflexive.
      * Une relation est réflexive si pour tout élément {@code e},
@@ -44,17 +114,7 @@ class RelationImpl<T> implements Relation<T> {
      */
     @Override
     public boolean estReflexive() {
-        Set<T> elements = new HashSet<>();
-        for (Couple<T, T> couple : couples) {
-            elements.add(couple.getPremier());
-            elements.add(couple.getDeuxieme());
-        }
-        for (T e : elements) {
-            if (!couples.contains(new CoupleImpl<>(e, e))) {
-                return false;
-            }
-        }
-        return true;
+        return proprietes().estReflexive();
     }
 
     /**
@@ -66,13 +126,7 @@ class RelationImpl<T> implements Relation<T> {
      */
     @Override
     public boolean estSymetrique() {
-        for (Couple<T, T> couple : couples) {
-            Couple<T, T> inverse = new CoupleImpl<>(couple.getDeuxieme(), couple.getPremier());
-            if (!couples.contains(inverse)) {
-                return false;
-            }
-        }
-        return true;
+        return proprietes().estSymetrique();
     }
 
     /**
@@ -84,17 +138,7 @@ class RelationImpl<T> implements Relation<T> {
      */
     @Override
     public boolean estAntisymetrique() {
-        for (Couple<T, T> couple : couples) {
-            T x = couple.getPremier();
-            T y = couple.getDeuxieme();
-            if (!x.equals(y)) {
-                Couple<T, T> inverse = new CoupleImpl<>(y, x);
-                if (couples.contains(inverse)) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return proprietes().estAntisymetrique();
     }
 
     /**
@@ -106,17 +150,97 @@ class RelationImpl<T> implements Relation<T> {
      */
     @Override
     public boolean estTransitive() {
-        for (Couple<T, T> c1 : couples) {
-            for (Couple<T, T> c2 : couples) {
-                if (c1.getDeuxieme().equals(c2.getPremier())) {
-                    Couple<T, T> attendu = new CoupleImpl<>(c1.getPremier(), c2.getDeuxieme());
-                    if (!couples.contains(attendu)) {
-                        return false;
-                    }
+        return proprietes().estTransitive();
+    }
+
+    /**
+     * Calcule la fermeture transitive de la relation.
+     * Les composantes fortement connexes sont condensées, puis l'accessibilité est propagée
+     * sur le graphe condensé dans l'ordre topologique inverse, à l'aide de tableaux de bits.
+     *
+     * @return une nouvelle relation immuable, transitive, contenant cette relation
+     */
+    @Override
+    public Relation<T> fermetureTransitive() {
+        return sansCopie(new Graphe<>(couples).fermetureTransitive());
+    }
+
+    /**
+     * Calcule la composée de cette relation suivie d'une autre, par jointure par hachage sur
+     * l'élément intermédiaire b : lorsque l'autre relation est aussi une RelationImpl, les
+     * prédécesseurs de b dans cette relation sont croisés avec ses successeurs dans l'autre,
+     * en parcourant la plus petite des deux tables d'index.
+     *
+     * @param autre la relation appliquée après celle-ci
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<T> composition(Relation<T> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!(autre instanceof RelationImpl<T> r)) {
+            return AlgebreRelation.composer(this, autre);
+        }
+        Map<T, Set<T>> gauche = index().predecesseurs;
+        Map<T, Set<T>> droite = r.index().successeurs;
+        boolean parGauche = gauche.size() <= droite.size();
+        Set<Couple<T, T>> resultat = new HashSet<>();
+        for (Map.Entry<T, Set<T>> entree : (parGauche ? gauche : droite).entrySet()) {
+            Set<T> autres = (parGauche ? droite : gauche).get(entree.getKey());
+            if (autres == null) {
+                continue;
+            }
+            Set<T> premiers = parGauche ? entree.getValue() : autres;
+            Set<T> derniers = parGauche ? autres : entree.getValue();
+            for (T a : premiers) {
+                for (T c : derniers) {
+                    resultat.add(new CoupleImpl<>(a, c));
                 }
             }
         }
-        return true;
+        return sansCopie(resultat);
+    }
+
+    /**
+     * Calcule la relation réciproque. Son index est celui de cette relation, successeurs et
+     * prédécesseurs échangés : il n'est pas reconstruit.
+     *
+     * @return une nouvelle relation immuable
+     */
+    @Override
+    public Relation<T> inverse() {
+        Set<Couple<T, T>> inverses = new HashSet<>(couples.size() * 4 / 3 + 1);
+        for (Couple<T, T> couple : couples) {
+            inverses.add(new CoupleImpl<>(couple.getDeuxieme(), couple.getPremier()));
+        }
+        RelationImpl<T> resultat = sansCopie(inverses);
+        Index<T> i = index();
+        resultat.index = new Index<>(i.predecesseurs, i.successeurs);
+        return resultat;
+    }
+
+    /**
+     * Retourne l'image d'un élément, lue dans l'index des successeurs.
+     * L'ensemble retourné s'appuie directement sur l'index, sans copie.
+     *
+     * @param x l'élément
+     * @return l'ensemble de ses successeurs
+     */
+    @Override
+    public Ensemble<T> image(T x) {
+        return EnsembleImpl.sansCopie(index().successeurs.getOrDefault(x, Collections.emptySet()));
+    }
+
+    /**
+     * Retourne l'image réciproque d'un élément, lue dans l'index des prédécesseurs.
+     * L'ensemble retourné s'appuie directement sur l'index, sans copie.
+     *
+     * @param x l'élément
+     * @return l'ensemble de ses prédécesseurs
+     */
+    @Override
+    public Ensemble<T> preImage(T x) {
+        return EnsembleImpl.sansCopie(index().predecesseurs.getOrDefault(x, Collections.emptySet()));
     }
 
     /**
@@ -130,19 +254,33 @@ class RelationImpl<T> implements Relation<T> {
         return couples.contains(couple);
     }
 
+    /**
+     * Vérifie si le couple (premier, deuxieme) appartient à la relation.
+     * La recherche passe par l'index des successeurs : aucun couple temporaire n'est créé.
+     *
+     * @param premier le premier élément
+     * @param deuxieme le deuxième élément
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(T premier, T deuxieme) {
+        return index().contient(premier, deuxieme);
+    }
+
     /**
      * Retourne tous les couples de la relation.
+     * Aucune copie n'est faite : l'immuabilité est garantie par la vue non modifiable.
      *
-     * @return un nouvel ensemble contenant les couples de la relation
+     * @return une vue non modifiable sur les couples de la relation
      */
     @Override
     public Set<Couple<T, T>> elements() {
-        return new HashSet<>(couples);
+        return Collections.unmodifiableSet(couples);
     }
 
     /**
      * Vérifie si deux relations sont égales, c’est-à-dire si elles
-     * contiennent exactement les mêmes couples.
+     * contiennent exactement les mêmes couples, quelle que soit l'implémentation de l'autre.
      *
      * @param o l'objet à comparer
      * @return {@code true} si les relations sont égales, {@code false} sinon
@@ -150,8 +288,8 @@ class RelationImpl<T> implements Relation<T> {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof RelationImpl<?> r)) return false;
-        return Objects.equals(couples, r.couples);
+        if (o instanceof RelationImpl<?> r) return Objects.equals(couples, r.couples);
+        return AlgebreRelation.egales(this, o);
     }
 
     /**
@@ -174,4 +312,110 @@ class RelationImpl<T> implements Relation<T> {
     public String toString() {
         return "Relation{" + couples + '}';
     }
+
+    /**
+     * Index d'adjacence d'une relation : les successeurs et les prédécesseurs de chaque élément.
+     * Il permet de tester la présence d'un couple (a, b) sans créer de couple.
+     *
+     * @param <T> le type des éléments
+     */
+    private static final class Index<T> {
+
+        /** Pour chaque élément a, l'ensemble des b tels que (a, b) appartient à la relation. */
+        final Map<T, Set<T>> successeurs;
+
+        /** Pour chaque élément b, l'ensemble des a tels que (a, b) appartient à la relation. */
+        final Map<T, Set<T>> predecesseurs;
+
+        Index(Set<Couple<T, T>> couples) {
+            this.successeurs = new HashMap<>();
+            this.predecesseurs = new HashMap<>();
+            for (Couple<T, T> couple : couples) {
+                successeurs.computeIfAbsent(couple.getPremier(), k -> new HashSet<>()).add(couple.getDeuxieme());
+                predecesseurs.computeIfAbsent(couple.getDeuxieme(), k -> new HashSet<>()).add(couple.getPremier());
+            }
+        }
+
+        /**
+         * Construit un index à partir de tables déjà remplies, qui ne doivent plus être modifiées.
+         *
+         * @param successeurs les successeurs de chaque élément
+         * @param predecesseurs les prédécesseurs de chaque élément
+         */
+        Index(Map<T, Set<T>> successeurs, Map<T, Set<T>> predecesseurs) {
+            this.successeurs = successeurs;
+            this.predecesseurs = predecesseurs;
+        }
+
+        /**
+         * Calcule les quatre propriétés en un seul parcours des éléments.
+         * Pour chaque élément x : le couple (x, x) est cherché ; chaque successeur y de x est
+         * cherché parmi les prédécesseurs de x (symétrie et antisymétrie) ; chaque prédécesseur a
+         * de x doit avoir tous les successeurs de x (transitivité). Une propriété n'est plus
+         * testée dès qu'un contre-exemple est trouvé. Les recherches se font dans les tables
+         * de l'index : aucun couple n'est créé, en dehors des contre-exemples.
+         *
+         * @return les propriétés, avec leurs contre-exemples
+         */
+        ProprietesRelation<T> proprietes() {
+            Couple<T, T> reflexivite = null;
+            Couple<T, T> symetrie = null;
+            Couple<T, T> antisymetrie = null;
+            Couple<T, T> transitivite = null;
+            // les éléments sans successeur ne peuvent contredire que la réflexivité
+            for (T x : predecesseurs.keySet()) {
+                if (!successeurs.containsKey(x)) {
+                    reflexivite = new CoupleImpl<>(x, x);
+                    break;
+                }
+            }
+            for (T x : successeurs.keySet()) {
+                if (reflexivite == null && !contient(x, x)) {
+                    reflexivite = new CoupleImpl<>(x, x);
+                }
+                Set<T> successeursX = successeurs.get(x);
+                if (symetrie == null || antisymetrie == null) {
+                    for (T y : successeursX) {
+                        boolean inverse = contient(y, x);
+                        if (!inverse && symetrie == null) {
+                            symetrie = new CoupleImpl<>(x, y);
+                        } else if (inverse && antisymetrie == null && !Objects.equals(x, y)) {
+                            antisymetrie = new CoupleImpl<>(x, y);
+                        }
+                    }
+                }
+                if (transitivite == null) {
+                    for (T a : predecesseurs.getOrDefault(x, Collections.emptySet())) {
+                        Set<T> successeursA = successeurs.get(a);
+                        if (successeursA == successeursX || successeursA.containsAll(successeursX)) {
+                            continue;
+                        }
+                        for (T c : successeursX) {
+                            if (!successeursA.contains(c)) {
+                                transitivite = new CoupleImpl<>(a, c);
+                                break;
+                            }
+                        }
+                        break;
+                    }
+                }
+                if (reflexivite != null && symetrie != null && antisymetrie != null && transitivite != null) {
+                    break;
+                }
+            }
+            return new ProprietesRelation<>(reflexivite, symetrie, antisymetrie, transitivite);
+        }
+
+        /**
+         * Vérifie si le couple (a, b) appartient à la relation.
+         *
+         * @param a le premier élément
+         * @param b le deuxième élément
+         * @return {@code true} si le couple est présent
+         */
+        boolean contient(T a, T b) {
+            Set<T> s = successeurs.get(a);
+            return s != null && s.contains(b);
+        }
+    }
 }
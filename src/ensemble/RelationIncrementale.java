@@ -0,0 +1,330 @@
+package ensemble;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Relation binaire mutable dont les propriétés sont tenues à jour à chaque modification.
+ * Plutôt que de reconstruire une relation immuable et de relancer l'analyse complète après
+ * chaque ajout ou retrait d'un couple, cette classe entretient des compteurs :
+ * <ul>
+ *     <li>réflexivité : le nombre d'éléments e de la relation sans le couple (e, e) ;</li>
+ *     <li>symétrie : le nombre de couples (a, b), avec a ≠ b, dont l'inverse est absent ;</li>
+ *     <li>antisymétrie : le nombre de couples (a, b), avec a ≠ b, dont l'inverse est présent ;</li>
+ *     <li>transitivité : le nombre de couples (a, c) absents alors qu'il existe un b avec
+ *     (a, b) et (b, c) dans la relation.</li>
+ * </ul>
+ * Pour la transitivité, le nombre de témoins b de chaque couple (a, c) atteint par deux couples
+ * consécutifs est conservé ; une modification du couple (x, y) ne touche que les témoins
+ * passant par ce couple, c'est-à-dire les successeurs de y et les prédécesseurs de x.
+ * Une modification coûte donc un temps proportionnel à ces deux degrés, et chaque question
+ * sur les propriétés un temps constant.
+ * Un numéro de version, incrémenté à chaque modification effective, permet de savoir si une
+ * copie immuable obtenue par {@link #instantane()} est encore à jour.
+ * Cette classe n'est pas faite pour être modifiée par plusieurs fils en même temps.
+ *
+ * @param <T> Le type des éléments de la relation
+ */
+public class RelationIncrementale<T> {
+
+    /** Les successeurs de chaque élément. */
+    private final Map<T, Set<T>> successeurs = new HashMap<>();
+
+    /** Les prédécesseurs de chaque élément. */
+    private final Map<T, Set<T>> predecesseurs = new HashMap<>();
+
+    /** Le nombre de couples où figure chaque élément, une boucle (e, e) comptant une fois. */
+    private final Map<T, Integer> occurrences = new HashMap<>();
+
+    /** Pour chaque couple (a, c) atteint par deux couples consécutifs, le nombre de b intermédiaires. */
+    private final Map<Couple<T, T>, Integer> temoins = new HashMap<>();
+
+    /** Le nombre de couples de la relation. */
+    private int cardinal = 0;
+
+    /** Le nombre d'éléments e de la relation sans le couple (e, e). */
+    private int bouclesManquantes = 0;
+
+    /** Le nombre de couples (a, b), avec a ≠ b, dont l'inverse est absent. */
+    private int sansInverse = 0;
+
+    /** Le nombre de couples (a, b), avec a ≠ b, dont l'inverse est présent. */
+    private int avecInverse = 0;
+
+    /** Le nombre de couples absents exigés par la transitivité. */
+    private int raccourcisManquants = 0;
+
+    /** Le nombre de modifications effectives depuis la création. */
+    private long version = 0;
+
+    /**
+     * Crée une relation vide.
+     */
+    public RelationIncrementale() {
+    }
+
+    /**
+     * Crée une relation contenant initialement les couples d'une relation.
+     *
+     * @param relation la relation de départ
+     * @throws IllegalArgumentException si la relation est null ou contient un élément null
+     */
+    public RelationIncrementale(Relation<T> relation) throws IllegalArgumentException {
+        if (relation == null) {
+            throw new IllegalArgumentException("La relation ne peut pas être null");
+        }
+        for (Couple<T, T> couple : relation.elements()) {
+            ajouter(couple.getPremier(), couple.getDeuxieme());
+        }
+        version = 0;
+    }
+
+    /**
+     * Ajoute le couple (x, y) à la relation.
+     *
+     * @param x le premier élément
+     * @param y le deuxième élément
+     * @return {@code true} si le couple était absent
+     * @throws IllegalArgumentException si l'un des éléments est null
+     */
+    public boolean ajouter(T x, T y) throws IllegalArgumentException {
+        verifierElements(x, y);
+        if (contient(x, y)) {
+            return false;
+        }
+        if (temoins.containsKey(new CoupleImpl<>(x, y))) {
+            raccourcisManquants--;
+        }
+        successeurs.computeIfAbsent(x, e -> new HashSet<>()).add(y);
+        predecesseurs.computeIfAbsent(y, e -> new HashSet<>()).add(x);
+        cardinal++;
+        version++;
+        entrer(x);
+        if (x.equals(y)) {
+            bouclesManquantes--;
+        } else {
+            entrer(y);
+            if (contient(y, x)) {
+                sansInverse--;
+                avecInverse += 2;
+            } else {
+                sansInverse++;
+            }
+        }
+        compterTemoins(x, y, 1);
+        return true;
+    }
+
+    /**
+     * Retire le couple (x, y) de la relation.
+     *
+     * @param x le premier élément
+     * @param y le deuxième élément
+     * @return {@code true} si le couple était présent
+     */
+    public boolean retirer(T x, T y) {
+        if (!contient(x, y)) {
+            return false;
+        }
+        // les témoins sont retirés tant que le couple est présent, pour le parcourir avec les autres
+        compterTemoins(x, y, -1);
+        retirerDe(successeurs, x, y);
+        retirerDe(predecesseurs, y, x);
+        cardinal--;
+        version++;
+        if (x.equals(y)) {
+            bouclesManquantes++;
+        } else {
+            if (contient(y, x)) {
+                avecInverse -= 2;
+                sansInverse++;
+            } else {
+                sansInverse--;
+            }
+            sortir(y);
+        }
+        sortir(x);
+        if (temoins.containsKey(new CoupleImpl<>(x, y))) {
+            raccourcisManquants++;
+        }
+        return true;
+    }
+
+    /**
+     * Met à jour les témoins des chemins de longueur deux qui passent par le couple (x, y),
+     * présent dans la relation : (x, y) suivi de (y, c), et (a, x) suivi de (x, y).
+     * Quand x = y, le chemin qui emprunte deux fois la boucle n'est compté qu'une fois.
+     *
+     * @param x le premier élément du couple
+     * @param y le deuxième élément du couple
+     * @param delta 1 pour un ajout, -1 pour un retrait
+     */
+    private void compterTemoins(T x, T y, int delta) {
+        for (T c : successeurs.getOrDefault(y, Set.of())) {
+            compterTemoin(x, c, delta);
+        }
+        boolean boucle = x.equals(y);
+        for (T a : predecesseurs.getOrDefault(x, Set.of())) {
+            if (!boucle || !a.equals(x)) {
+                compterTemoin(a, y, delta);
+            }
+        }
+    }
+
+    /**
+     * Ajoute ou retire un témoin du couple (a, c) ; un couple absent de la relation devient ou
+     * cesse d'être un raccourci manquant quand son nombre de témoins quitte ou retrouve zéro.
+     *
+     * @param a le premier élément
+     * @param c le deuxième élément
+     * @param delta 1 pour un témoin de plus, -1 pour un témoin de moins
+     */
+    private void compterTemoin(T a, T c, int delta) {
+        Couple<T, T> couple = new CoupleImpl<>(a, c);
+        int avant = temoins.getOrDefault(couple, 0);
+        int apres = avant + delta;
+        if (apres == 0) {
+            temoins.remove(couple);
+        } else {
+            temoins.put(couple, apres);
+        }
+        if ((avant == 0 || apres == 0) && !contient(a, c)) {
+            raccourcisManquants += delta;
+        }
+    }
+
+    /**
+     * Compte une occurrence de plus d'un élément ; un nouvel élément n'a pas encore sa boucle.
+     *
+     * @param e l'élément
+     */
+    private void entrer(T e) {
+        if (occurrences.merge(e, 1, Integer::sum) == 1) {
+            bouclesManquantes++;
+        }
+    }
+
+    /**
+     * Compte une occurrence de moins d'un élément ; un élément qui quitte la relation n'avait pas
+     * de boucle, et ne compte plus parmi les boucles manquantes.
+     *
+     * @param e l'élément
+     */
+    private void sortir(T e) {
+        if (occurrences.merge(e, -1, Integer::sum) == 0) {
+            occurrences.remove(e);
+            bouclesManquantes--;
+        }
+    }
+
+    /**
+     * Retire un voisin de la liste d'adjacence d'un élément, et l'entrée de l'élément si elle devient vide.
+     *
+     * @param adjacence les listes d'adjacence
+     * @param e l'élément
+     * @param voisin le voisin à retirer
+     */
+    private void retirerDe(Map<T, Set<T>> adjacence, T e, T voisin) {
+        Set<T> voisins = adjacence.get(e);
+        voisins.remove(voisin);
+        if (voisins.isEmpty()) {
+            adjacence.remove(e);
+        }
+    }
+
+    /**
+     * Vérifie qu'aucun des deux éléments n'est null.
+     *
+     * @param x le premier élément
+     * @param y le deuxième élément
+     * @throws IllegalArgumentException si l'un des éléments est null
+     */
+    private static void verifierElements(Object x, Object y) throws IllegalArgumentException {
+        if (x == null || y == null) {
+            throw new IllegalArgumentException("Les éléments d'un couple ne peuvent pas être null");
+        }
+    }
+
+    /**
+     * Vérifie si le couple (x, y) appartient à la relation.
+     *
+     * @param x le premier élément
+     * @param y le deuxième élément
+     * @return {@code true} si le couple est présent
+     */
+    public boolean contient(T x, T y) {
+        Set<T> voisins = successeurs.get(x);
+        return voisins != null && voisins.contains(y);
+    }
+
+    /**
+     * Retourne le nombre de couples de la relation.
+     *
+     * @return le nombre de couples
+     */
+    public int cardinal() {
+        return cardinal;
+    }
+
+    /**
+     * Retourne le numéro de version, incrémenté à chaque ajout ou retrait effectif.
+     *
+     * @return le numéro de version
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Vérifie si la relation est réflexive, en temps constant.
+     *
+     * @return {@code true} si chaque élément de la relation est en relation avec lui-même
+     */
+    public boolean estReflexive() {
+        return bouclesManquantes == 0;
+    }
+
+    /**
+     * Vérifie si la relation est symétrique, en temps constant.
+     *
+     * @return {@code true} si l'inverse de chaque couple est présent
+     */
+    public boolean estSymetrique() {
+        return sansInverse == 0;
+    }
+
+    /**
+     * Vérifie si la relation est antisymétrique, en temps constant.
+     *
+     * @return {@code true} si aucun couple (a, b), avec a ≠ b, n'a son inverse
+     */
+    public boolean estAntisymetrique() {
+        return avecInverse == 0;
+    }
+
+    /**
+     * Vérifie si la relation est transitive, en temps constant.
+     *
+     * @return {@code true} si (a, c) est présent dès que (a, b) et (b, c) le sont
+     */
+    public boolean estTransitive() {
+        return raccourcisManquants == 0;
+    }
+
+    /**
+     * Retourne une copie immuable de l'état courant de la relation.
+     *
+     * @return la relation immuable
+     */
+    public Relation<T> instantane() {
+        Set<Couple<T, T>> couples = new HashSet<>();
+        for (Map.Entry<T, Set<T>> entree : successeurs.entrySet()) {
+            for (T y : entree.getValue()) {
+                couples.add(new CoupleImpl<>(entree.getKey(), y));
+            }
+        }
+        return RelationImpl.sansCopie(couples);
+    }
+}
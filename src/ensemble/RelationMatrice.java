@@ -0,0 +1,773 @@
+package ensemble;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Implémentation d'une relation binaire sur des entiers, stockée sous forme de matrice
+ * d'adjacence de bits.
+ * Le domaine est l'intervalle [min, max] des entiers apparaissant dans les couples ; la ligne
+ * de l'entier a est un tableau de {@code long} dont le bit b est à 1 si (a, b) appartient à la
+ * relation. Les lignes sans successeur ne sont pas allouées.
+ * Les propriétés sont vérifiées 64 cases à la fois : la symétrie et l'antisymétrie comparent
+ * la matrice à sa transposée par blocs de 64 × 64 bits, la transitivité vérifie que la ligne
+ * de chaque élément contient les lignes de tous ses successeurs.
+ * L'image d'un entier est sa ligne ; la composition, la réunion et l'intersection de deux
+ * matrices de même domaine se calculent ligne à ligne par OU et ET de mots.
+ * La relation est immuable.
+ */
+class RelationMatrice implements Relation<Integer> {
+
+    /** Nombre de bits dans un mot. */
+    private static final int TAILLE_MOT = 64;
+
+    /** Le plus petit entier du domaine, qui correspond à la ligne et à la colonne 0. */
+    private final int origine;
+
+    /** Le nombre d'entiers du domaine. */
+    private final int taille;
+
+    /** Les lignes de la matrice, de {@code nbMots} mots chacune, ou null si la ligne est vide. */
+    private final long[][] lignes;
+
+    /** Le nombre de mots par ligne. */
+    private final int nbMots;
+
+    /** Le nombre de couples de la relation. */
+    private final int nbCouples;
+
+    /**
+     * Les propriétés de la relation, calculées au premier appel.
+     * Deux fils peuvent les calculer en même temps sans inconvénient : le résultat est immuable.
+     */
+    private ProprietesRelation<Integer> proprietes;
+
+    /**
+     * Construit une relation sur des entiers à partir d'un ensemble de couples.
+     *
+     * @param couples les couples représentant les éléments de la relation
+     * @throws IllegalArgumentException si l'ensemble est null, contient un couple null ou une
+     *                                  composante null, ou si le domaine dépasse {@link Integer#MAX_VALUE} entiers
+     */
+    public RelationMatrice(Set<Couple<Integer, Integer>> couples) throws IllegalArgumentException {
+        if (couples == null) {
+            throw new IllegalArgumentException("L'ensemble de couples ne peut pas être null.");
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Couple<Integer, Integer> couple : couples) {
+            if (couple == null || couple.getPremier() == null || couple.getDeuxieme() == null) {
+                throw new IllegalArgumentException("Une relation sur des entiers ne peut pas contenir null.");
+            }
+            min = Math.min(min, Math.min(couple.getPremier(), couple.getDeuxieme()));
+            max = Math.max(max, Math.max(couple.getPremier(), couple.getDeuxieme()));
+        }
+        if (couples.isEmpty()) {
+            min = 0;
+            max = -1;
+        }
+        if (max - min + 1 > Integer.MAX_VALUE - TAILLE_MOT) {
+            throw new IllegalArgumentException("Le domaine de la relation est trop étendu.");
+        }
+        this.origine = (int) min;
+        this.taille = (int) (max - min + 1);
+        this.nbMots = (taille + TAILLE_MOT - 1) / TAILLE_MOT;
+        this.lignes = new long[taille][];
+        int n = 0;
+        for (Couple<Integer, Integer> couple : couples) {
+            int a = couple.getPremier() - origine;
+            int b = couple.getDeuxieme() - origine;
+            if (lignes[a] == null) {
+                lignes[a] = new long[nbMots];
+            }
+            long bit = 1L << b;
+            if ((lignes[a][b >>> 6] & bit) == 0) {
+                lignes[a][b >>> 6] |= bit;
+                n++;
+            }
+        }
+        this.nbCouples = n;
+    }
+
+    /**
+     * Indique si une matrice de bits convient à un ensemble de couples, sans rien allouer.
+     * La matrice occupe un pointeur par entier de [min, max], plus une ligne de (max − min + 1) bits
+     * par premier élément distinct ; elle n'est retenue que si cette place, majorée en supposant
+     * une ligne par couple, ne dépasse pas quatre fois celle de la forme compacte
+     * ({@link RelationCompacte}), qui occupe un {@code long} par couple. Quelques couples sur des
+     * entiers éloignés ne conduisent ainsi jamais à une allocation proportionnelle à l'écart.
+     *
+     * @param couples les couples de la relation
+     * @return {@code true} si la matrice de bits est adaptée ; {@code false} aussi si l'ensemble
+     * est null ou contient null, l'autre forme signalant alors l'erreur
+     */
+    static boolean estAdaptee(Set<Couple<Integer, Integer>> couples) {
+        if (couples == null) {
+            return false;
+        }
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Couple<Integer, Integer> couple : couples) {
+            if (couple == null || couple.getPremier() == null || couple.getDeuxieme() == null) {
+                return false;
+            }
+            min = Math.min(min, Math.min(couple.getPremier(), couple.getDeuxieme()));
+            max = Math.max(max, Math.max(couple.getPremier(), couple.getDeuxieme()));
+        }
+        if (couples.isEmpty()) {
+            return true;
+        }
+        long taille = max - min + 1;
+        long mots = (taille + TAILLE_MOT - 1) / TAILLE_MOT;
+        return taille + Math.min(taille, couples.size()) * mots <= 4L * couples.size();
+    }
+
+    /**
+     * Constructeur interne qui reprend des lignes déjà calculées, sans les copier.
+     *
+     * @param origine le plus petit entier du domaine
+     * @param taille le nombre d'entiers du domaine
+     * @param lignes les lignes de la matrice, null pour une ligne vide
+     */
+    private RelationMatrice(int origine, int taille, long[][] lignes) {
+        this.origine = origine;
+        this.taille = taille;
+        this.nbMots = (taille + TAILLE_MOT - 1) / TAILLE_MOT;
+        this.lignes = lignes;
+        int n = 0;
+        for (long[] ligne : lignes) {
+            if (ligne != null) {
+                for (long mot : ligne) {
+                    n += Long.bitCount(mot);
+                }
+            }
+        }
+        this.nbCouples = n;
+    }
+
+    /**
+     * Retourne les propriétés de la relation, avec un contre-exemple pour chaque propriété
+     * non vérifiée. Elles sont calculées au premier appel puis conservées : la réflexivité par
+     * un parcours de la diagonale, la symétrie et l'antisymétrie ensemble par un seul parcours
+     * des blocs de 64 × 64 bits, et la transitivité mot à mot.
+     *
+     * @return les propriétés de la relation
+     */
+    @Override
+    public ProprietesRelation<Integer> proprietes() {
+        ProprietesRelation<Integer> p = proprietes;
+        if (p == null) {
+            p = comparerTransposee(temoinReflexivite(), temoinTransitivite());
+            proprietes = p;
+        }
+        return p;
+    }
+
+    /**
+     * Vérifie si la relation est réflexive : la diagonale doit être remplie pour chaque
+     * entier qui apparaît dans un couple.
+     *
+     * @return {@code true} si la relation est réflexive, {@code false} sinon
+     */
+    @Override
+    public boolean estReflexive() {
+        return proprietes().estReflexive();
+    }
+
+    /**
+     * Vérifie si la relation est symétrique : chaque bloc de 64 × 64 bits doit être égal
+     * au transposé du bloc symétrique par rapport à la diagonale.
+     *
+     * @return {@code true} si la relation est symétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estSymetrique() {
+        return proprietes().estSymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est antisymétrique : en dehors de la diagonale, chaque bloc
+     * de 64 × 64 bits ne doit avoir aucun bit commun avec le transposé du bloc symétrique.
+     *
+     * @return {@code true} si la relation est antisymétrique, {@code false} sinon
+     */
+    @Override
+    public boolean estAntisymetrique() {
+        return proprietes().estAntisymetrique();
+    }
+
+    /**
+     * Vérifie si la relation est transitive, c'est-à-dire si R∘R est inclus dans R :
+     * la ligne de chaque élément doit contenir le OU des lignes de ses successeurs.
+     *
+     * @return {@code true} si la relation est transitive, {@code false} sinon
+     */
+    @Override
+    public boolean estTransitive() {
+        return proprietes().estTransitive();
+    }
+
+    /**
+     * Cherche un entier de la relation dont la case diagonale est vide.
+     *
+     * @return le couple (e, e) manquant, ou null si la relation est réflexive
+     */
+    private Couple<Integer, Integer> temoinReflexivite() {
+        // les entiers qui ont un prédécesseur : OU de toutes les lignes
+        long[] colonnes = new long[nbMots];
+        for (long[] ligne : lignes) {
+            if (ligne != null) {
+                for (int w = 0; w < nbMots; w++) {
+                    colonnes[w] |= ligne[w];
+                }
+            }
+        }
+        for (int i = 0; i < taille; i++) {
+            boolean present = lignes[i] != null || (colonnes[i >>> 6] & (1L << i)) != 0;
+            if (present && !contientIndices(i, i)) {
+                return couple(i, i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compare la matrice à sa transposée, bloc par bloc, pour la symétrie et l'antisymétrie à la fois.
+     * Seuls les blocs sur et au-dessus de la diagonale sont parcourus ; chacun est comparé
+     * au transposé du bloc symétrique. Le parcours s'arrête dès que les deux contre-exemples sont trouvés.
+     *
+     * @param reflexivite le contre-exemple à la réflexivité, déjà cherché, ou null
+     * @param transitivite le contre-exemple à la transitivité, déjà cherché, ou null
+     * @return les propriétés de la relation, avec les contre-exemples à la symétrie et à
+     * l'antisymétrie trouvés ici
+     */
+    private ProprietesRelation<Integer> comparerTransposee(Couple<Integer, Integer> reflexivite,
+            Couple<Integer, Integer> transitivite) {
+        Couple<Integer, Integer> symetrie = null;
+        Couple<Integer, Integer> antisymetrie = null;
+        long[] bloc = new long[TAILLE_MOT];
+        long[] symetrique = new long[TAILLE_MOT];
+        for (int bi = 0; bi < nbMots; bi++) {
+            for (int bj = bi; bj < nbMots; bj++) {
+                boolean plein = charger(bloc, bi, bj) | charger(symetrique, bj, bi);
+                if (!plein) {
+                    continue;
+                }
+                transposer(symetrique);
+                for (int r = 0; r < TAILLE_MOT; r++) {
+                    int i = bi * TAILLE_MOT + r;
+                    long differents = bloc[r] ^ symetrique[r];
+                    if (symetrie == null && differents != 0) {
+                        int j = bj * TAILLE_MOT + Long.numberOfTrailingZeros(differents);
+                        // soit (i, j) est présent sans son inverse, soit c'est (j, i)
+                        symetrie = contientIndices(i, j) ? couple(i, j) : couple(j, i);
+                    }
+                    long communs = bloc[r] & symetrique[r];
+                    if (bi == bj) {
+                        communs &= ~(1L << r);
+                    }
+                    if (antisymetrie == null && communs != 0) {
+                        antisymetrie = couple(i, bj * TAILLE_MOT + Long.numberOfTrailingZeros(communs));
+                    }
+                }
+                if (symetrie != null && antisymetrie != null) {
+                    return new ProprietesRelation<>(reflexivite, symetrie, antisymetrie, transitivite);
+                }
+            }
+        }
+        return new ProprietesRelation<>(reflexivite, symetrie, antisymetrie, transitivite);
+    }
+
+    /**
+     * Copie un bloc de 64 × 64 bits de la matrice : les mots d'indice {@code colonne} des
+     * lignes 64·{@code ligne} à 64·{@code ligne} + 63.
+     *
+     * @param bloc le tableau de 64 mots à remplir
+     * @param ligne l'indice du bloc de lignes
+     * @param colonne l'indice du mot dans chaque ligne
+     * @return {@code true} si le bloc contient au moins un bit à 1
+     */
+    private boolean charger(long[] bloc, int ligne, int colonne) {
+        long tous = 0;
+        for (int r = 0; r < TAILLE_MOT; r++) {
+            int i = ligne * TAILLE_MOT + r;
+            long mot = i < taille && lignes[i] != null ? lignes[i][colonne] : 0L;
+            bloc[r] = mot;
+            tous |= mot;
+        }
+        return tous != 0;
+    }
+
+    /**
+     * Transpose sur place une matrice de 64 × 64 bits, où le bit c du mot r est la case (r, c).
+     * Les quarts hors diagonale sont échangés, puis les quarts de chaque quart, et ainsi de
+     * suite jusqu'aux cases isolées : six passes de 32 échanges de mots masqués.
+     *
+     * @param x les 64 lignes de la matrice
+     */
+    static void transposer(long[] x) {
+        long m = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>= 1, m ^= m << j) {
+            for (int k = 0; k < TAILLE_MOT; k = ((k | j) + 1) & ~j) {
+                long t = ((x[k] >>> j) ^ x[k | j]) & m;
+                x[k] ^= t << j;
+                x[k | j] ^= t;
+            }
+        }
+    }
+
+    /**
+     * Cherche un contre-exemple à la transitivité, c'est-à-dire à l'inclusion de R∘R dans R :
+     * la ligne de chaque élément doit contenir le OU des lignes de ses successeurs,
+     * ce qui est vérifié mot à mot, successeur par successeur.
+     *
+     * @return un couple (a, c) manquant alors que (a, b) et (b, c) sont présents, ou null
+     */
+    private Couple<Integer, Integer> temoinTransitivite() {
+        for (int i = 0; i < taille; i++) {
+            long[] ligne = lignes[i];
+            if (ligne == null) {
+                continue;
+            }
+            for (int w = 0; w < nbMots; w++) {
+                long mot = ligne[w];
+                while (mot != 0) {
+                    int j = w * TAILLE_MOT + Long.numberOfTrailingZeros(mot);
+                    mot &= mot - 1;
+                    long[] successeurs = lignes[j];
+                    if (j == i || successeurs == null) {
+                        continue;
+                    }
+                    for (int v = 0; v < nbMots; v++) {
+                        long manquants = successeurs[v] & ~ligne[v];
+                        if (manquants != 0) {
+                            return couple(i, v * TAILLE_MOT + Long.numberOfTrailingZeros(manquants));
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Crée le couple d'entiers correspondant à une case de la matrice.
+     *
+     * @param i la ligne
+     * @param j la colonne
+     * @return le couple (origine + i, origine + j)
+     */
+    private Couple<Integer, Integer> couple(int i, int j) {
+        return new CoupleImpl<>(origine + i, origine + j);
+    }
+
+    /**
+     * Calcule la fermeture transitive de la relation, par condensation des composantes fortement
+     * connexes puis propagation de l'accessibilité sur le graphe condensé. Le graphe est lu
+     * directement dans les lignes de bits, sans passer par des couples.
+     *
+     * @return une nouvelle relation immuable sur des entiers, transitive, contenant cette relation
+     */
+    @Override
+    public Relation<Integer> fermetureTransitive() {
+        // les lignes de bits, rangées en successeurs numérotés depuis l'origine
+        int[] debut = new int[taille + 1];
+        int[] cibles = new int[nbCouples];
+        int k = 0;
+        for (int i = 0; i < taille; i++) {
+            long[] ligne = lignes[i];
+            for (int w = 0; ligne != null && w < nbMots; w++) {
+                long mot = ligne[w];
+                while (mot != 0) {
+                    cibles[k++] = (w << 6) + Long.numberOfTrailingZeros(mot);
+                    mot &= mot - 1;
+                }
+            }
+            debut[i + 1] = k;
+        }
+        int[][] fermeture = new Graphe<Integer>(debut, cibles).fermetureNumerotee();
+        long[][] resultat = new long[taille][];
+        for (int i = 0; i < taille; i++) {
+            if (fermeture[i].length > 0) {
+                long[] ligne = new long[nbMots];
+                for (int j : fermeture[i]) {
+                    ligne[j >>> 6] |= 1L << j;
+                }
+                resultat[i] = ligne;
+            }
+        }
+        return new RelationMatrice(origine, taille, resultat);
+    }
+
+    /**
+     * Calcule la composée de cette relation suivie d'une autre. Lorsque l'autre relation est
+     * une matrice sur le même domaine, la ligne de a dans la composée est le OU des lignes,
+     * dans l'autre matrice, des successeurs de a ; sinon la jointure générique est utilisée.
+     *
+     * @param autre la relation appliquée après celle-ci
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> composition(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!memeDomaine(autre)) {
+            return AlgebreRelation.composer(this, autre);
+        }
+        long[][] suivantes = ((RelationMatrice) autre).lignes;
+        long[][] resultat = new long[taille][];
+        for (int i = 0; i < taille; i++) {
+            long[] ligne = lignes[i];
+            if (ligne == null) {
+                continue;
+            }
+            long[] composee = null;
+            for (int w = 0; w < nbMots; w++) {
+                long mot = ligne[w];
+                while (mot != 0) {
+                    long[] suivante = suivantes[w * TAILLE_MOT + Long.numberOfTrailingZeros(mot)];
+                    mot &= mot - 1;
+                    if (suivante == null) {
+                        continue;
+                    }
+                    if (composee == null) {
+                        composee = suivante.clone();
+                    } else {
+                        for (int v = 0; v < nbMots; v++) {
+                            composee[v] |= suivante[v];
+                        }
+                    }
+                }
+            }
+            resultat[i] = composee;
+        }
+        return new RelationMatrice(origine, taille, resultat);
+    }
+
+    /**
+     * Calcule la relation réciproque en transposant la matrice par blocs de 64 × 64 bits.
+     *
+     * @return une nouvelle relation immuable sur le même domaine
+     */
+    @Override
+    public Relation<Integer> inverse() {
+        long[][] resultat = new long[taille][];
+        long[] bloc = new long[TAILLE_MOT];
+        for (int bi = 0; bi < nbMots; bi++) {
+            for (int bj = 0; bj < nbMots; bj++) {
+                if (!charger(bloc, bi, bj)) {
+                    continue;
+                }
+                transposer(bloc);
+                // la ligne r du bloc transposé est le mot bi de la ligne 64·bj + r
+                for (int r = 0; r < TAILLE_MOT; r++) {
+                    if (bloc[r] != 0) {
+                        int i = bj * TAILLE_MOT + r;
+                        if (resultat[i] == null) {
+                            resultat[i] = new long[nbMots];
+                        }
+                        resultat[i][bi] = bloc[r];
+                    }
+                }
+            }
+        }
+        return new RelationMatrice(origine, taille, resultat);
+    }
+
+    /**
+     * Calcule la réunion de cette relation et d'une autre, par OU des lignes lorsque l'autre
+     * relation est une matrice sur le même domaine.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> union(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!memeDomaine(autre)) {
+            return AlgebreRelation.reunir(this, autre);
+        }
+        return combiner((RelationMatrice) autre, false);
+    }
+
+    /**
+     * Calcule l'intersection de cette relation et d'une autre, par ET des lignes lorsque l'autre
+     * relation est une matrice sur le même domaine.
+     *
+     * @param autre l'autre relation
+     * @return une nouvelle relation immuable
+     * @throws IllegalArgumentException si l'autre relation est null
+     */
+    @Override
+    public Relation<Integer> intersection(Relation<Integer> autre) throws IllegalArgumentException {
+        AlgebreRelation.verifierOperande(autre);
+        if (!memeDomaine(autre)) {
+            return AlgebreRelation.intersecter(this, autre);
+        }
+        return combiner((RelationMatrice) autre, true);
+    }
+
+    /**
+     * Indique si une relation est une matrice de même domaine que celle-ci.
+     *
+     * @param autre la relation
+     * @return {@code true} si les lignes des deux matrices peuvent être combinées mot à mot
+     */
+    private boolean memeDomaine(Relation<Integer> autre) {
+        return autre instanceof RelationMatrice m && m.origine == origine && m.taille == taille;
+    }
+
+    /**
+     * Combine mot à mot les lignes de deux matrices de même domaine.
+     *
+     * @param autre l'autre matrice
+     * @param et {@code true} pour un ET (intersection), {@code false} pour un OU (réunion)
+     * @return la nouvelle relation
+     */
+    private RelationMatrice combiner(RelationMatrice autre, boolean et) {
+        long[][] resultat = new long[taille][];
+        for (int i = 0; i < taille; i++) {
+            long[] x = lignes[i];
+            long[] y = autre.lignes[i];
+            if (x == null || y == null) {
+                // les lignes ne sont jamais modifiées : elles peuvent être partagées
+                resultat[i] = et ? null : (x == null ? y : x);
+                continue;
+            }
+            long[] ligne = new long[nbMots];
+            long tous = 0;
+            for (int w = 0; w < nbMots; w++) {
+                ligne[w] = et ? x[w] & y[w] : x[w] | y[w];
+                tous |= ligne[w];
+            }
+            resultat[i] = tous != 0 ? ligne : null;
+        }
+        return new RelationMatrice(origine, taille, resultat);
+    }
+
+    /**
+     * Retourne l'image d'un entier : sa ligne, convertie en ensemble de bits.
+     *
+     * @param x l'entier
+     * @return l'ensemble de ses successeurs, vide si x est null ou hors du domaine
+     */
+    @Override
+    public Ensemble<Integer> image(Integer x) {
+        long i = x == null ? -1 : (long) x - origine;
+        if (i < 0 || i >= taille || lignes[(int) i] == null) {
+            return IntEnsemble.depuisBits(origine, new long[0]);
+        }
+        return IntEnsemble.depuisBits(origine, lignes[(int) i]);
+    }
+
+    /**
+     * Retourne l'image réciproque d'un entier : sa colonne, lue ligne par ligne.
+     *
+     * @param x l'entier
+     * @return l'ensemble de ses prédécesseurs, vide si x est null ou hors du domaine
+     */
+    @Override
+    public Ensemble<Integer> preImage(Integer x) {
+        long j = x == null ? -1 : (long) x - origine;
+        long[] colonne = new long[j < 0 || j >= taille ? 0 : nbMots];
+        if (colonne.length > 0) {
+            for (int i = 0; i < taille; i++) {
+                if (contientIndices(i, (int) j)) {
+                    colonne[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return IntEnsemble.depuisBits(origine, colonne);
+    }
+
+    /**
+     * Retourne l'image d'un ensemble d'entiers : le OU des lignes de ses éléments.
+     *
+     * @param ensemble l'ensemble de départ
+     * @return l'ensemble des successeurs de ses éléments
+     * @throws IllegalArgumentException si l'ensemble est null
+     */
+    @Override
+    public Ensemble<Integer> image(Ensemble<Integer> ensemble) throws IllegalArgumentException {
+        EnsembleVue.verifierCompatible(ensemble);
+        long[] resultat = new long[nbMots];
+        for (Iterator<Integer> it = EnsembleVue.iterateur(ensemble); it.hasNext(); ) {
+            Integer x = it.next();
+            long i = x == null ? -1 : (long) x - origine;
+            if (i >= 0 && i < taille && lignes[(int) i] != null) {
+                long[] ligne = lignes[(int) i];
+                for (int w = 0; w < nbMots; w++) {
+                    resultat[w] |= ligne[w];
+                }
+            }
+        }
+        return IntEnsemble.depuisBits(origine, resultat);
+    }
+
+    /**
+     * Vérifie si un couple donné appartient à la relation.
+     *
+     * @param couple le couple à rechercher
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Couple<Integer, Integer> couple) {
+        if (couple == null || couple.getPremier() == null || couple.getDeuxieme() == null) {
+            return false;
+        }
+        return contient(couple.getPremier().intValue(), couple.getDeuxieme().intValue());
+    }
+
+    /**
+     * Vérifie si le couple (premier, deuxieme) appartient à la relation, sans créer de couple.
+     *
+     * @param premier le premier entier
+     * @param deuxieme le deuxième entier
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    @Override
+    public boolean contient(Integer premier, Integer deuxieme) {
+        return premier != null && deuxieme != null && contient(premier.intValue(), deuxieme.intValue());
+    }
+
+    /**
+     * Vérifie si le couple (a, b) appartient à la relation, sans allocation.
+     *
+     * @param a le premier entier
+     * @param b le deuxième entier
+     * @return {@code true} si le couple est présent dans la relation, {@code false} sinon
+     */
+    public boolean contient(int a, int b) {
+        long i = (long) a - origine;
+        long j = (long) b - origine;
+        return i >= 0 && i < taille && j >= 0 && j < taille && contientIndices((int) i, (int) j);
+    }
+
+    /**
+     * Teste une case de la matrice.
+     *
+     * @param i la ligne
+     * @param j la colonne
+     * @return {@code true} si le bit est à 1
+     */
+    private boolean contientIndices(int i, int j) {
+        return lignes[i] != null && (lignes[i][j >>> 6] & (1L << j)) != 0;
+    }
+
+    /**
+     * Retourne une vue en lecture seule sur les couples de la relation.
+     * Aucune copie n'est faite : les couples sont créés au fil du parcours de la matrice.
+     *
+     * @return un {@link Set} non modifiable contenant tous les couples
+     */
+    @Override
+    public Set<Couple<Integer, Integer>> elements() {
+        return new AbstractSet<Couple<Integer, Integer>>() {
+            @Override
+            public int size() {
+                return nbCouples;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Couple && contientObjet((Couple<?, ?>) o);
+            }
+
+            @Override
+            public Iterator<Couple<Integer, Integer>> iterator() {
+                return iterateur();
+            }
+        };
+    }
+
+    /**
+     * Teste l'appartenance d'un couple de type quelconque.
+     *
+     * @param couple le couple
+     * @return {@code true} si ses deux composantes sont des entiers et le couple est présent
+     */
+    private boolean contientObjet(Couple<?, ?> couple) {
+        return couple.getPremier() instanceof Integer a && couple.getDeuxieme() instanceof Integer b
+                && contient(a, b);
+    }
+
+    /**
+     * Retourne un itérateur sur les couples, ligne par ligne.
+     *
+     * @return un itérateur sur les couples de la relation
+     */
+    private Iterator<Couple<Integer, Integer>> iterateur() {
+        return new Iterator<Couple<Integer, Integer>>() {
+            private int ligne = 0;
+            private int indiceMot = 0;
+            private long mot = premierMot(0);
+
+            private long premierMot(int i) {
+                return i < taille && lignes[i] != null ? lignes[i][0] : 0L;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (mot == 0) {
+                    if (ligne >= taille) {
+                        return false;
+                    }
+                    if (lignes[ligne] != null && indiceMot + 1 < nbMots) {
+                        mot = lignes[ligne][++indiceMot];
+                    } else {
+                        ligne++;
+                        indiceMot = 0;
+                        mot = premierMot(ligne);
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Couple<Integer, Integer> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int colonne = indiceMot * TAILLE_MOT + Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+                return couple(ligne, colonne);
+            }
+        };
+    }
+
+    /**
+     * Vérifie si deux relations sont égales, c'est-à-dire si elles contiennent exactement les
+     * mêmes couples, quelle que soit l'implémentation de l'autre.
+     *
+     * @param o l'objet à comparer
+     * @return {@code true} si les relations sont égales, {@code false} sinon
+     */
+    @Override
+    public boolean equals(Object o) {
+        return AlgebreRelation.egales(this, o);
+    }
+
+    /**
+     * Calcule le hash code de la relation à partir de ses couples, comme {@link RelationImpl}.
+     *
+     * @return le hash code de la relation
+     */
+    @Override
+    public int hashCode() {
+        return AlgebreRelation.hachage(this);
+    }
+
+    /**
+     * Retourne une représentation textuelle de la relation,
+     * contenant l'ensemble des couples.
+     *
+     * @return une chaîne de caractères représentant la relation
+     */
+    @Override
+    public String toString() {
+        return "Relation{" + elements() + '}';
+    }
+}
@@ -0,0 +1,127 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour les composantes fortement connexes ComposantesTarjan, obtenues par
+ * FabriqueRelation.
+ * Les composantes sont comparées à celles déduites de la fermeture transitive, et une longue
+ * chaîne vérifie que le calcul ne dépend pas de la pile d'appels.
+ */
+public class TestComposantesTarjan {
+
+    public static void main(String[] args) {
+        testComposantes();
+        testCondensation();
+        testAcyclique();
+        testLongueChaine();
+        testAleatoire();
+        testErreurs();
+    }
+
+    private static void testComposantes() {
+        System.out.println("---- test Composantes ----");
+        // a <-> b -> c -> d -> c, e isolé par une boucle
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "a"),
+                new CoupleImpl<>("b", "c"), new CoupleImpl<>("c", "d"), new CoupleImpl<>("d", "c"),
+                new CoupleImpl<>("e", "e")));
+        ComposantesFortementConnexes<String> cfc = FabriqueRelation.composantesFortementConnexes(r);
+        verifier(cfc.nombreClasses() == 3 && cfc.classes().cardinal() == 3);
+        verifier(cfc.memeClasse("a", "b") && cfc.memeClasse("d", "c") && !cfc.memeClasse("b", "c")
+                && !cfc.memeClasse("a", "z"));
+        verifier(cfc.classe("c").elements().equals(Set.of("c", "d")) && cfc.classe("z").cardinal() == 0
+                && cfc.classe("e").elements().equals(Set.of("e")));
+    }
+
+    private static void testCondensation() {
+        System.out.println("---- test Condensation ----");
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "a"),
+                new CoupleImpl<>("a", "c"), new CoupleImpl<>("b", "c"), new CoupleImpl<>("c", "d"),
+                new CoupleImpl<>("d", "c")));
+        ComposantesFortementConnexes<String> cfc = FabriqueRelation.composantesFortementConnexes(r);
+        Relation<Ensemble<String>> condensee = cfc.condensation();
+        // les deux arcs de {a, b} vers {c, d} ne donnent qu'un couple
+        verifier(condensee.elements().size() == 1
+                && condensee.contient(new CoupleImpl<>(cfc.classe("a"), cfc.classe("d")))
+                && FabriqueRelation.composantesFortementConnexes(condensee).estAcyclique());
+        verifier(cfc.condensation() == condensee);
+    }
+
+    private static void testAcyclique() {
+        System.out.println("---- test Acyclique ----");
+        Relation<Integer> dag = new RelationImpl<>(Set.of(new CoupleImpl<>(1, 2), new CoupleImpl<>(1, 3),
+                new CoupleImpl<>(2, 3)));
+        verifier(FabriqueRelation.composantesFortementConnexes(dag).estAcyclique());
+        Relation<Integer> boucle = dag.union(new RelationImpl<>(Set.of(new CoupleImpl<>(3, 3))));
+        verifier(!FabriqueRelation.composantesFortementConnexes(boucle).estAcyclique());
+        Relation<Integer> cycle = dag.union(new RelationImpl<>(Set.of(new CoupleImpl<>(3, 1))));
+        ComposantesFortementConnexes<Integer> cfc = FabriqueRelation.composantesFortementConnexes(cycle);
+        verifier(!cfc.estAcyclique() && cfc.nombreClasses() == 1 && cfc.condensation().elements().isEmpty());
+    }
+
+    private static void testLongueChaine() {
+        System.out.println("---- test Longue chaîne ----");
+        // un cycle de 500 000 éléments suivi d'une chaîne de 500 000 éléments
+        int n = 500_000;
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        for (int i = 0; i < 2 * n - 1; i++) {
+            couples.add(new CoupleImpl<>(i, i + 1));
+        }
+        couples.add(new CoupleImpl<>(n - 1, 0));
+        ComposantesFortementConnexes<Integer> cfc = FabriqueRelation.composantesFortementConnexes(
+                FabriqueRelation.creerRelationStatique(couples));
+        verifier(cfc.nombreClasses() == n + 1 && cfc.classe(0).cardinal() == n && cfc.memeClasse(0, n - 1)
+                && !cfc.memeClasse(n - 1, n) && cfc.condensation().elements().size() == n);
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(23);
+        boolean ok = true;
+        for (int essai = 0; essai < 200 && ok; essai++) {
+            int n = 1 + hasard.nextInt(20);
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            for (int k = hasard.nextInt(3 * n); k > 0; k--) {
+                couples.add(new CoupleImpl<>(hasard.nextInt(n), hasard.nextInt(n)));
+            }
+            Relation<Integer> r = new RelationImpl<>(couples);
+            Relation<Integer> fermeture = r.fermetureTransitive();
+            ComposantesFortementConnexes<Integer> cfc = FabriqueRelation.composantesFortementConnexes(r);
+            boolean cyclique = false;
+            for (int a = 0; a < n && ok; a++) {
+                cyclique |= fermeture.contient(a, a);
+                for (int b = 0; b < n && ok; b++) {
+                    boolean attendu = a == b ? cfc.classe(a).cardinal() > 0
+                            : fermeture.contient(a, b) && fermeture.contient(b, a);
+                    ok = cfc.memeClasse(a, b) == attendu;
+                }
+            }
+            ok &= cfc.estAcyclique() == !cyclique;
+            // la condensation relie deux composantes distinctes si un couple les relie
+            for (Couple<Ensemble<Integer>, Ensemble<Integer>> arc : cfc.condensation().elements()) {
+                ok &= arc.getPremier() != arc.getDeuxieme();
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        try {
+            FabriqueRelation.composantesFortementConnexes(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
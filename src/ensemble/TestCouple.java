@@ -1,5 +1,7 @@
 package ensemble;
 
+import java.util.Objects;
+
 /**
  * Classe de test pour la classe CoupleImpl<A, B>.
  * Chaque méthode teste un aspect fonctionnel du couple : constructeur, getters, equals, hashCode et toString.
@@ -118,6 +120,16 @@ public class TestCouple {
 
         testCasHashCode(c1, c2, true); // mêmes éléments => mêmes hash
         testCasHashCode(c1, c3, false); // éléments différents => pas forcément même hash
+
+        // la valeur reste celle d'Objects.hash, y compris avec des éléments null
+        CoupleImpl<String, Integer> c4 = new CoupleImpl<>(null, 7);
+        CoupleImpl<String, Integer> c5 = new CoupleImpl<>("x", null);
+        if (c1.hashCode() == Objects.hash("a", 1) && c4.hashCode() == Objects.hash(null, 7)
+                && c5.hashCode() == Objects.hash("x", null)) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
     }
 
     /**
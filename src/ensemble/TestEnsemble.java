@@ -1,7 +1,8 @@
 package ensemble;
 
-import java.util.Set;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Classe de test pour l'interface Ensemble<T> et son implémentation EnsembleImpl<T>.
@@ -19,6 +20,10 @@ public class TestEnsemble {
         testDiffSymetrique();
         testProduitCartesien();
         testElements();
+        testUnionAll();
+        testIntersectionAll();
+        testDifferenceAll();
+        testOperationsMixtes();
     }
 
     private static void testConstructeur() {
@@ -270,7 +275,7 @@ public class TestEnsemble {
     }
 
     private static void testElements() {
-        System.out.println("---- test Elements (copie défensive) ----");
+        System.out.println("---- test Elements (vue non modifiable) ----");
         Set<String> s = Set.of("x", "y");
         Ensemble<String> e = new EnsembleImpl<>(s);
 
@@ -281,12 +286,114 @@ public class TestEnsemble {
             System.out.println("ECHEC du test");
         }
 
-        // Test copie défensive : modification de res ne doit pas affecter e
-        res.clear();
-        if (e.cardinal() == s.size()) {
-            System.out.println("OK (copie défensive)");
+        // Test vue non modifiable : res ne doit pas permettre de modifier e
+        try {
+            res.clear();
+            System.out.println("ECHEC (vue modifiable)");
+        } catch (UnsupportedOperationException ex) {
+            if (e.cardinal() == s.size()) {
+                System.out.println("OK (vue non modifiable)");
+            } else {
+                System.out.println("ECHEC (ensemble modifié)");
+            }
+        }
+    }
+
+    private static void testUnionAll() {
+        System.out.println("---- test UnionAll ----");
+        List<Ensemble<Integer>> ensembles = List.of(
+                new EnsembleImpl<>(Set.of(1, 2)),
+                FabriqueEnsemble.creerEnsembleEntiers(Set.of(2, 3)),
+                new EnsembleImpl<>(Set.of(4)));
+        testCasNaire(FabriqueEnsemble.unionAll(ensembles), Set.of(1, 2, 3, 4));
+        testCasNaire(FabriqueEnsemble.unionAll(List.of()), Set.of());
+
+        System.out.println("Cas erreur (null):");
+        try {
+            FabriqueEnsemble.unionAll(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testIntersectionAll() {
+        System.out.println("---- test IntersectionAll ----");
+        List<Ensemble<Integer>> ensembles = List.of(
+                new EnsembleImpl<>(Set.of(1, 2, 3, 4, 5)),
+                new EnsembleImpl<>(Set.of(2, 3, 4)),
+                FabriqueEnsemble.creerEnsembleEntiers(Set.of(3, 4, 9)));
+        testCasNaire(FabriqueEnsemble.intersectionAll(ensembles), Set.of(3, 4));
+
+        List<Ensemble<Integer>> disjoints = List.of(
+                new EnsembleImpl<>(Set.of(1)), new EnsembleImpl<>(Set.of(2)), new EnsembleImpl<>(Set.of(1, 2)));
+        testCasNaire(FabriqueEnsemble.intersectionAll(disjoints), Set.of());
+
+        System.out.println("Cas erreur (aucun ensemble):");
+        try {
+            FabriqueEnsemble.intersectionAll(List.<Ensemble<Integer>>of());
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testDifferenceAll() {
+        System.out.println("---- test DifferenceAll ----");
+        Ensemble<Integer> base = new EnsembleImpl<>(Set.of(1, 2, 3, 4, 5));
+        List<Ensemble<Integer>> autres = List.of(new EnsembleImpl<>(Set.of(1, 9)), new EnsembleImpl<>(Set.of(4, 5)));
+        testCasNaire(FabriqueEnsemble.differenceAll(base, autres), Set.of(2, 3));
+        testCasNaire(FabriqueEnsemble.differenceAll(base, List.of()), Set.of(1, 2, 3, 4, 5));
+    }
+
+    private static void testCasNaire(Ensemble<Integer> res, Set<Integer> attendu) {
+        if (res.cardinal() == attendu.size() && res.elements().equals(attendu)) {
+            System.out.println("OK");
         } else {
-            System.out.println("ECHEC (copie non défensive)");
+            System.out.println("ECHEC du test (résultat incorrect)");
         }
     }
+
+    private static void testOperationsMixtes() {
+        System.out.println("---- test OperationsMixtes ----");
+        // un petit et un grand ensemble, pour passer par les deux sens de parcours
+        Set<Integer> petit = Set.of(-3, 5, 64, 70000);
+        Set<Integer> grand = new HashSet<>();
+        for (int i = -10; i < 200; i += 3) {
+            grand.add(i);
+        }
+        grand.add(70000);
+        List<Ensemble<Integer>> petits = implementations(petit);
+        List<Ensemble<Integer>> grands = implementations(grand);
+        boolean ok = true;
+        for (Ensemble<Integer> a : petits) {
+            for (Ensemble<Integer> b : grands) {
+                ok &= verifierOperations(a, b, petit, grand);
+                ok &= verifierOperations(b, a, grand, petit);
+            }
+        }
+        System.out.println(ok ? "OK" : "ECHEC du test (résultat incorrect)");
+    }
+
+    private static List<Ensemble<Integer>> implementations(Set<Integer> valeurs) {
+        return List.of(new EnsembleImpl<>(valeurs), FabriqueEnsemble.creerEnsembleEntiers(valeurs),
+                FabriqueEnsemble.creerEnsembleCompresse(valeurs), FabriqueEnsemble.creerEnsembleTrie(valeurs));
+    }
+
+    private static boolean verifierOperations(Ensemble<Integer> a, Ensemble<Integer> b, Set<Integer> x, Set<Integer> y) {
+        Set<Integer> union = new HashSet<>(x);
+        union.addAll(y);
+        Set<Integer> inter = new HashSet<>(x);
+        inter.retainAll(y);
+        Set<Integer> diff = new HashSet<>(x);
+        diff.removeAll(y);
+        Set<Integer> diffSym = new HashSet<>(union);
+        diffSym.removeAll(inter);
+        return egal(a.union(b), union) && egal(a.intersection(b), inter)
+                && egal(a.difference(b), diff) && egal(a.diffSymetrique(b), diffSym);
+    }
+
+    private static boolean egal(Ensemble<Integer> res, Set<Integer> attendu) {
+        return res.cardinal() == attendu.size() && res.elements().equals(attendu);
+    }
 }
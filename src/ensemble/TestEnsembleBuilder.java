@@ -0,0 +1,52 @@
+package ensemble;
+
+import java.util.Set;
+
+/**
+ * Classe de test pour EnsembleBuilder.
+ * Elle vérifie la construction d'un ensemble, la réutilisation du constructeur
+ * et l'indépendance de l'ensemble construit vis-à-vis des ajouts ultérieurs.
+ */
+public class TestEnsembleBuilder {
+
+    public static void main(String[] args) {
+        testConstruire();
+        testReutilisation();
+        testAjouterTout();
+    }
+
+    private static void testConstruire() {
+        System.out.println("---- test Construire ----");
+        Ensemble<String> e = new EnsembleBuilder<String>().ajouter("a").ajouter("b").ajouter("a").construire();
+        verifier(e.cardinal() == 2 && e.contient("a") && e.contient("b"));
+    }
+
+    private static void testReutilisation() {
+        System.out.println("---- test Réutilisation ----");
+        EnsembleBuilder<Integer> builder = new EnsembleBuilder<>();
+        Ensemble<Integer> e1 = builder.ajouter(1).construire();
+        Ensemble<Integer> e2 = builder.ajouter(2).construire();
+        verifier(e1.elements().equals(Set.of(1)) && e2.elements().equals(Set.of(2)));
+    }
+
+    private static void testAjouterTout() {
+        System.out.println("---- test AjouterTout ----");
+        Ensemble<Integer> source = FabriqueEnsemble.creerEnsembleEntiers(Set.of(1, 2, 3));
+        Ensemble<Integer> e = new EnsembleBuilder<Integer>().ajouterTout(source).ajouter(4).construire();
+        verifier(e.elements().equals(Set.of(1, 2, 3, 4)));
+        try {
+            new EnsembleBuilder<Integer>().ajouterTout(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException ex) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation EnsembleCompresse.
+ * Les opérations sont comparées au résultat obtenu avec des {@link HashSet}, sur des ensembles
+ * qui font apparaître les trois sortes de conteneurs (tableau, tableau de bits, plages).
+ */
+public class TestEnsembleCompresse {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testContient();
+        testOperations();
+        testOperationsAleatoires();
+        testToString();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        try {
+            new EnsembleCompresse(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        Set<Integer> data = plage(0, 100_000);
+        data.addAll(Set.of(-1, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        verifier(new EnsembleCompresse(data).cardinal() == data.size());
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        Ensemble<Integer> ens = new EnsembleCompresse(Set.of(-70_000, 3, 65_536, Integer.MAX_VALUE));
+        verifier(ens.contient(-70_000) && ens.contient(3) && ens.contient(65_536) && ens.contient(Integer.MAX_VALUE));
+        verifier(!ens.contient(4) && !ens.contient(0) && !ens.contient(-3) && !ens.contient(null));
+    }
+
+    private static void testOperations() {
+        System.out.println("---- test Union / Intersection / Différence / Différence symétrique ----");
+        Set<Integer> s1 = plage(0, 70_000);
+        Set<Integer> s2 = plage(60_000, 200_000);
+        s2.addAll(Set.of(-5, 5));
+        comparer(s1, s2);
+        try {
+            new EnsembleCompresse(s1).union(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testOperationsAleatoires() {
+        System.out.println("---- test Opérations sur des ensembles aléatoires ----");
+        Random alea = new Random(42);
+        for (int essai = 0; essai < 5; essai++) {
+            comparer(aleatoire(alea), aleatoire(alea));
+        }
+    }
+
+    private static void testToString() {
+        System.out.println("---- test toString ----");
+        verifier(new EnsembleCompresse(Set.of(70_000, -1, 2)).toString().equals("{-1, 2, 70000}"));
+    }
+
+    /**
+     * Vérifie les quatre opérations ensemblistes sur deux ensembles par rapport à HashSet.
+     */
+    private static void comparer(Set<Integer> s1, Set<Integer> s2) {
+        Ensemble<Integer> e1 = new EnsembleCompresse(s1);
+        Ensemble<Integer> e2 = new EnsembleCompresse(s2);
+
+        Set<Integer> union = new HashSet<>(s1);
+        union.addAll(s2);
+        Set<Integer> intersection = new HashSet<>(s1);
+        intersection.retainAll(s2);
+        Set<Integer> difference = new HashSet<>(s1);
+        difference.removeAll(s2);
+        Set<Integer> diffSym = new HashSet<>(union);
+        diffSym.removeAll(intersection);
+
+        verifier(memes(e1.union(e2), union)
+                && memes(e1.intersection(e2), intersection)
+                && memes(e1.difference(e2), difference)
+                && memes(e1.diffSymetrique(e2), diffSym));
+    }
+
+    private static boolean memes(Ensemble<Integer> res, Set<Integer> attendu) {
+        return res.cardinal() == attendu.size() && res.elements().equals(attendu);
+    }
+
+    /**
+     * Construit un ensemble mêlant des valeurs isolées, des tranches denses et des plages.
+     */
+    private static Set<Integer> aleatoire(Random alea) {
+        Set<Integer> s = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            s.add(alea.nextInt(1 << 20) - (1 << 19));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            s.add(65_536 + alea.nextInt(20_000));
+        }
+        int debut = alea.nextInt(100_000);
+        s.addAll(plage(debut, debut + alea.nextInt(50_000)));
+        return s;
+    }
+
+    private static Set<Integer> plage(int debut, int fin) {
+        Set<Integer> s = new HashSet<>();
+        for (int i = debut; i < fin; i++) {
+            s.add(i);
+        }
+        return s;
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation EnsembleDictionnaire et son Dictionnaire.
+ * Les opérations entre ensembles du même dictionnaire, puis avec d'autres implémentations,
+ * sont comparées sur des chaînes aléatoires à celles des Set de Java.
+ */
+public class TestEnsembleDictionnaire {
+
+    public static void main(String[] args) {
+        testDictionnaire();
+        testConstructeur();
+        testOperations();
+        testAutreImplementation();
+        testAleatoire();
+        testGrandDictionnaire();
+    }
+
+    private static void testDictionnaire() {
+        System.out.println("---- test Dictionnaire ----");
+        Dictionnaire<String> d = new Dictionnaire<>();
+        verifier(d.numero("a") == 0 && d.numero("b") == 1 && d.numero("a") == 0 && d.taille() == 2);
+        verifier(d.chercher("b") == 1 && d.chercher("z") == -1 && d.chercher(null) == -1
+                && d.element(1).equals("b") && d.taille() == 2);
+        verifierException(() -> d.numero(null));
+        verifierException(() -> d.element(2));
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        Dictionnaire<String> d = new Dictionnaire<>();
+        verifierException(() -> FabriqueEnsemble.creerEnsembleDictionnaire(null, Set.of("a")));
+        verifierException(() -> FabriqueEnsemble.creerEnsembleDictionnaire(d, null));
+        Set<String> avecNull = new HashSet<>();
+        avecNull.add(null);
+        verifierException(() -> FabriqueEnsemble.creerEnsembleDictionnaire(d, avecNull));
+        Ensemble<String> e = FabriqueEnsemble.creerEnsembleDictionnaire(d, Set.of("x", "y"));
+        verifier(e.cardinal() == 2 && e.contient("x") && !e.contient("z") && !e.contient(null)
+                && e.elements().equals(Set.of("x", "y")) && d.chercher("z") == -1);
+    }
+
+    private static void testOperations() {
+        System.out.println("---- test Opérations ----");
+        Dictionnaire<String> d = new Dictionnaire<>();
+        Ensemble<String> a = FabriqueEnsemble.creerEnsembleDictionnaire(d, Set.of("a", "b", "c"));
+        Ensemble<String> b = FabriqueEnsemble.creerEnsembleDictionnaire(d, Set.of("b", "c", "d"));
+        verifier(a.union(b).elements().equals(Set.of("a", "b", "c", "d")) && a.union(b) instanceof EnsembleDictionnaire);
+        verifier(a.intersection(b).elements().equals(Set.of("b", "c")) && a.intersection(b).cardinal() == 2);
+        verifier(a.difference(b).elements().equals(Set.of("a")) && b.difference(a).elements().equals(Set.of("d")));
+        verifier(a.diffSymetrique(b).elements().equals(Set.of("a", "d")));
+        verifier(a.produitCartesien(b).cardinal() == 9);
+        verifierException(() -> a.union(null));
+        verifierException(() -> a.intersection(null));
+    }
+
+    private static void testAutreImplementation() {
+        System.out.println("---- test Autre implémentation ----");
+        Dictionnaire<String> d = new Dictionnaire<>();
+        Ensemble<String> a = FabriqueEnsemble.creerEnsembleDictionnaire(d, Set.of("a", "b", "c"));
+        Ensemble<String> b = new EnsembleImpl<>(Set.of("c", "e"));
+        verifier(a.union(b).elements().equals(Set.of("a", "b", "c", "e")) && d.chercher("e") >= 0);
+        verifier(a.intersection(b).elements().equals(Set.of("c")) && a.difference(b).elements().equals(Set.of("a", "b")));
+        verifier(a.diffSymetrique(b).elements().equals(Set.of("a", "b", "e")));
+        // deux dictionnaires distincts numérotent différemment les mêmes éléments
+        Dictionnaire<String> autre = new Dictionnaire<>();
+        Ensemble<String> c = FabriqueEnsemble.creerEnsembleDictionnaire(autre, Set.of("z", "c", "b"));
+        verifier(a.intersection(c).elements().equals(Set.of("b", "c")) && a.union(c).cardinal() == 4);
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(61);
+        Dictionnaire<String> d = new Dictionnaire<>();
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            Set<String> x = tirage(hasard);
+            Set<String> y = tirage(hasard);
+            Ensemble<String> a = FabriqueEnsemble.creerEnsembleDictionnaire(d, x);
+            Ensemble<String> b = hasard.nextBoolean() ? FabriqueEnsemble.creerEnsembleDictionnaire(d, y)
+                    : new EnsembleImpl<>(y);
+            for (Ensemble<String> resultat : List.of(a.union(b), a.intersection(b), a.difference(b),
+                    a.diffSymetrique(b))) {
+                ok &= resultat.cardinal() == resultat.elements().size();
+            }
+            Set<String> union = new HashSet<>(x);
+            union.addAll(y);
+            Set<String> inter = new HashSet<>(x);
+            inter.retainAll(y);
+            Set<String> diff = new HashSet<>(x);
+            diff.removeAll(y);
+            Set<String> sym = new HashSet<>(union);
+            sym.removeAll(inter);
+            ok &= a.union(b).elements().equals(union) && a.intersection(b).elements().equals(inter)
+                    && a.difference(b).elements().equals(diff) && a.diffSymetrique(b).elements().equals(sym);
+        }
+        verifier(ok && d.taille() <= 200);
+    }
+
+    private static void testGrandDictionnaire() {
+        System.out.println("---- test Grand dictionnaire ----");
+        // 200 000 éléments numérotés : un tableau de bits jusqu'au plus grand numéro coûterait
+        // 25 Ko par singleton, soit plus d'un Go pour les 50 000 singletons gardés ici
+        Dictionnaire<Integer> d = new Dictionnaire<>();
+        for (int i = 0; i < 200_000; i++) {
+            d.numero(i);
+        }
+        List<Ensemble<Integer>> singletons = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            singletons.add(FabriqueEnsemble.creerEnsembleDictionnaire(d, Set.of(199_999 - i)));
+        }
+        verifier(singletons.get(0).contient(199_999) && !singletons.get(0).contient(0)
+                && singletons.get(49_999).elements().equals(Set.of(150_000)));
+        // des numéros répartis sur plusieurs tranches de 65 536
+        Random hasard = new Random(67);
+        boolean ok = true;
+        for (int essai = 0; essai < 50 && ok; essai++) {
+            Set<Integer> x = new HashSet<>();
+            Set<Integer> y = new HashSet<>();
+            for (int k = hasard.nextInt(5000); k > 0; k--) {
+                x.add(hasard.nextInt(200_000));
+                y.add(hasard.nextInt(200_000));
+            }
+            Ensemble<Integer> a = FabriqueEnsemble.creerEnsembleDictionnaire(d, x);
+            Ensemble<Integer> b = FabriqueEnsemble.creerEnsembleDictionnaire(d, y);
+            Set<Integer> union = new HashSet<>(x);
+            union.addAll(y);
+            Set<Integer> inter = new HashSet<>(x);
+            inter.retainAll(y);
+            Set<Integer> diff = new HashSet<>(x);
+            diff.removeAll(y);
+            ok = a.union(b).elements().equals(union) && a.intersection(b).elements().equals(inter)
+                    && a.difference(b).elements().equals(diff)
+                    && a.diffSymetrique(new EnsembleImpl<>(y)).cardinal() == union.size() - inter.size()
+                    && a.difference(new EnsembleImpl<>(y)).elements().equals(diff);
+        }
+        verifier(ok && d.taille() == 200_000);
+    }
+
+    private static Set<String> tirage(Random hasard) {
+        Set<String> elements = new HashSet<>();
+        for (int k = hasard.nextInt(150); k > 0; k--) {
+            elements.add("e" + hasard.nextInt(200));
+        }
+        return elements;
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
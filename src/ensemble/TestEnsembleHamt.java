@@ -0,0 +1,211 @@
+package ensemble;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation persistante EnsembleHamt (arbre de hachage).
+ * Chaque opération est testée en cas normal et en cas d'erreur si pertinent, ainsi que
+ * les collisions de codes de hachage et l'immuabilité des versions partageant leur structure.
+ */
+public class TestEnsembleHamt {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testContient();
+        testUnion();
+        testIntersection();
+        testDifference();
+        testDiffSymetrique();
+        testCollisions();
+        testVersions();
+        testAleatoire();
+        testAnciennesVersions();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        verifierException(() -> new EnsembleHamt<String>(null));
+        Set<String> avecNull = new HashSet<>();
+        avecNull.add(null);
+        verifierException(() -> new EnsembleHamt<>(avecNull));
+        verifierResultat(new EnsembleHamt<>(Set.of("a", "b", "c")), Set.of("a", "b", "c"));
+        verifierResultat(new EnsembleHamt<>(Set.<String>of()), Set.of());
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        Ensemble<String> ens = new EnsembleHamt<>(Set.of("a", "b", "d"));
+        verifier(ens.contient("a") && ens.contient("d"));
+        verifier(!ens.contient("c") && !ens.contient(null));
+    }
+
+    private static void testUnion() {
+        System.out.println("---- test Union ----");
+        Ensemble<Integer> e1 = new EnsembleHamt<>(Set.of(1, 2));
+        Ensemble<Integer> e2 = new EnsembleHamt<>(Set.of(2, 3, 4));
+        verifierResultat(e1.union(e2), Set.of(1, 2, 3, 4));
+        verifierResultat(e2.union(e1), Set.of(1, 2, 3, 4));
+        verifierResultat(e1.union(new EnsembleImpl<>(Set.of(5))), Set.of(1, 2, 5));
+        verifier(e1.union(new EnsembleImpl<>(Set.of(1))) == e1);
+        verifierException(() -> e1.union(null));
+    }
+
+    private static void testIntersection() {
+        System.out.println("---- test Intersection ----");
+        Ensemble<Integer> e1 = new EnsembleHamt<>(Set.of(1, 2, 4));
+        Ensemble<Integer> e2 = new EnsembleHamt<>(Set.of(2, 3, 4, 5));
+        verifierResultat(e1.intersection(e2), Set.of(2, 4));
+        verifierResultat(e2.intersection(e1), Set.of(2, 4));
+        verifierResultat(e2.intersection(new EnsembleImpl<>(Set.of(3, 9))), Set.of(3));
+        verifierException(() -> e1.intersection(null));
+    }
+
+    private static void testDifference() {
+        System.out.println("---- test Difference ----");
+        Ensemble<Integer> e1 = new EnsembleHamt<>(Set.of(1, 2, 4));
+        Ensemble<Integer> e2 = new EnsembleHamt<>(Set.of(2, 3));
+        verifierResultat(e1.difference(e2), Set.of(1, 4));
+        verifierResultat(e2.difference(e1), Set.of(3));
+        verifierResultat(e1.difference(new EnsembleImpl<>(Set.of(1, 2, 4, 8))), Set.of());
+        verifierException(() -> e1.difference(null));
+    }
+
+    private static void testDiffSymetrique() {
+        System.out.println("---- test Différence Symétrique ----");
+        Ensemble<Integer> e1 = new EnsembleHamt<>(Set.of(1, 2));
+        Ensemble<Integer> e2 = new EnsembleHamt<>(Set.of(2, 3, 5));
+        verifierResultat(e1.diffSymetrique(e2), Set.of(1, 3, 5));
+        verifierResultat(e2.diffSymetrique(e1), Set.of(1, 3, 5));
+        verifierException(() -> e1.diffSymetrique(null));
+    }
+
+    private static void testCollisions() {
+        System.out.println("---- test Collisions ----");
+        // "Aa" et "BB" ont le même code de hachage, tout comme leurs concaténations
+        Set<String> valeurs = Set.of("AaAa", "AaBB", "BBAa", "BBBB", "x");
+        Ensemble<String> ens = new EnsembleHamt<>(valeurs);
+        verifierResultat(ens, valeurs);
+        verifier(ens.contient("BBAa") && !ens.contient("AaAb"));
+        verifierResultat(ens.difference(new EnsembleImpl<>(Set.of("AaBB", "BBBB"))), Set.of("AaAa", "BBAa", "x"));
+        verifierResultat(ens.difference(new EnsembleImpl<>(Set.of("AaAa", "AaBB", "BBAa"))), Set.of("BBBB", "x"));
+    }
+
+    private static void testVersions() {
+        System.out.println("---- test Versions ----");
+        Set<Integer> valeurs = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            valeurs.add(i);
+        }
+        Ensemble<Integer> base = new EnsembleHamt<>(valeurs);
+        Ensemble<Integer> plus = base.union(new EnsembleImpl<>(Set.of(-1, -2)));
+        Ensemble<Integer> moins = base.difference(new EnsembleImpl<>(Set.of(0, 50_000)));
+        Ensemble<Integer> bascule = moins.diffSymetrique(new EnsembleImpl<>(Set.of(0, 1)));
+        verifier(plus.cardinal() == 100_002 && plus.contient(-2) && plus.contient(99_999));
+        verifier(moins.cardinal() == 99_998 && !moins.contient(50_000) && moins.contient(49_999));
+        verifier(bascule.cardinal() == 99_998 && bascule.contient(0) && !bascule.contient(1));
+        // la base et les versions intermédiaires ne sont pas modifiées
+        verifier(base.cardinal() == 100_000 && base.contient(0) && base.contient(50_000) && !base.contient(-1));
+        verifier(moins.cardinal() == 99_998 && !moins.contient(0) && moins.contient(1));
+        verifierResultat(base, valeurs);
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(42);
+        boolean ok = true;
+        for (int essai = 0; essai < 200 && ok; essai++) {
+            Set<Integer> x = tirage(hasard);
+            Set<Integer> y = tirage(hasard);
+            Ensemble<Integer> a = new EnsembleHamt<>(x);
+            Ensemble<Integer> b = hasard.nextBoolean() ? new EnsembleHamt<>(y) : new EnsembleImpl<>(y);
+            Set<Integer> union = new HashSet<>(x);
+            union.addAll(y);
+            Set<Integer> inter = new HashSet<>(x);
+            inter.retainAll(y);
+            Set<Integer> diff = new HashSet<>(x);
+            diff.removeAll(y);
+            Set<Integer> diffSym = new HashSet<>(union);
+            diffSym.removeAll(inter);
+            ok = egal(a.union(b), union) && egal(a.intersection(b), inter)
+                    && egal(a.difference(b), diff) && egal(a.diffSymetrique(b), diffSym) && egal(a, x);
+        }
+        verifier(ok);
+    }
+
+    private static Set<Integer> tirage(Random hasard) {
+        Set<Integer> valeurs = new HashSet<>();
+        int n = hasard.nextInt(3000);
+        int etendue = 1 + hasard.nextInt(5000);
+        for (int i = 0; i < n; i++) {
+            // des multiples de grandes puissances de deux pour forcer des chemins longs
+            valeurs.add(hasard.nextInt(etendue) << hasard.nextInt(20));
+        }
+        return valeurs;
+    }
+
+    private static boolean egal(Ensemble<Integer> res, Set<Integer> attendu) {
+        return res.cardinal() == attendu.size() && res.elements().equals(attendu);
+    }
+
+    private static <T> void verifierResultat(Ensemble<T> res, Set<T> attendu) {
+        verifier(res.cardinal() == attendu.size() && res.elements().equals(attendu));
+    }
+
+    private static void testAnciennesVersions() {
+        System.out.println("---- test Anciennes versions ----");
+        // 200 versions successives d'un grand ensemble : seule la dernière est gardée, les racines
+        // des précédentes, qui ne sont plus partagées, doivent pouvoir être libérées
+        Set<Integer> base = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            base.add(i);
+        }
+        Ensemble<Integer> version = new EnsembleHamt<>(base);
+        List<WeakReference<Object>> racines = new ArrayList<>();
+        for (int v = 0; v < 200; v++) {
+            racines.add(new WeakReference<>(racine(version)));
+            version = version.union(new EnsembleHamt<>(Set.of(-1 - v)));
+        }
+        boolean liberees = false;
+        for (int essai = 0; essai < 20 && !liberees; essai++) {
+            System.gc();
+            liberees = true;
+            for (WeakReference<Object> r : racines) {
+                liberees &= r.get() == null;
+            }
+        }
+        verifier(liberees && version.cardinal() == 100_200 && version.contient(-200) && version.contient(0));
+    }
+
+    private static Object racine(Ensemble<Integer> ensemble) {
+        try {
+            Field champ = EnsembleHamt.class.getDeclaredField("racine");
+            champ.setAccessible(true);
+            return champ.get(ensemble);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
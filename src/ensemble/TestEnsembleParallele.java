@@ -0,0 +1,109 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Classe de test pour la vue parallèle EnsembleParallele retournée par FabriqueEnsemble.parallele.
+ * Elle compare les résultats parallèles aux résultats séquentiels, avec un petit seuil pour
+ * forcer le découpage, et vérifie les cas d'erreur.
+ */
+public class TestEnsembleParallele {
+
+    public static void main(String[] args) {
+        testOperations();
+        testImplementationsMixtes();
+        testPoolBorne();
+        testErreurs();
+    }
+
+    private static void testOperations() {
+        System.out.println("---- test Operations ----");
+        Set<Integer> x = new HashSet<>();
+        Set<Integer> y = new HashSet<>();
+        for (int i = 0; i < 50000; i++) {
+            x.add(i * 2);
+            y.add(i * 3);
+        }
+        Ensemble<Integer> a = new EnsembleImpl<>(x);
+        Ensemble<Integer> b = new EnsembleImpl<>(y);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Ensemble<Integer> p = FabriqueEnsemble.parallele(a, pool, 100);
+            verifierResultat(p.union(b), a.union(b));
+            verifierResultat(p.intersection(b), a.intersection(b));
+            verifierResultat(p.difference(b), a.difference(b));
+            verifierResultat(p.diffSymetrique(b), a.diffSymetrique(b));
+            // l'autre opérande plus petit que la vue
+            Ensemble<Integer> petit = new EnsembleImpl<>(Set.of(0, 3, 6, 7));
+            verifierResultat(p.union(petit), a.union(petit));
+            verifierResultat(p.intersection(petit), a.intersection(petit));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void testImplementationsMixtes() {
+        System.out.println("---- test ImplementationsMixtes ----");
+        Set<Integer> x = new HashSet<>();
+        Set<Integer> y = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            x.add(i);
+            y.add(i * 5 - 1000);
+        }
+        Ensemble<Integer> a = FabriqueEnsemble.creerEnsembleEntiers(x);
+        Ensemble<Integer> b = FabriqueEnsemble.creerEnsembleCompresse(y);
+        Ensemble<Integer> p = FabriqueEnsemble.parallele(a);
+        verifierResultat(p.intersection(b), a.intersection(b));
+        verifierResultat(p.diffSymetrique(FabriqueEnsemble.parallele(b)), a.diffSymetrique(b));
+    }
+
+    private static void testPoolBorne() {
+        System.out.println("---- test PoolBorne ----");
+        Set<Integer> x = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            x.add(i);
+        }
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Ensemble<Integer> p = FabriqueEnsemble.parallele(new EnsembleImpl<>(x), pool, 1);
+            verifierResultat(p.difference(new EnsembleImpl<>(Set.of(1, 2, 3))), new EnsembleImpl<>(x).difference(
+                    new EnsembleImpl<>(Set.of(1, 2, 3))));
+            verifier(pool.getPoolSize() <= 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2));
+        try {
+            FabriqueEnsemble.parallele(a, ForkJoinPool.commonPool(), 0);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        try {
+            FabriqueEnsemble.parallele(a, null, 10);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        try {
+            FabriqueEnsemble.parallele(a).union(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifierResultat(Ensemble<Integer> res, Ensemble<Integer> attendu) {
+        verifier(res.cardinal() == attendu.cardinal() && res.elements().equals(attendu.elements()));
+    }
+
+    private static void verifier(boolean condition) {
+        System.out.println(condition ? "OK" : "ECHEC du test");
+    }
+}
@@ -0,0 +1,112 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation EnsembleTrie (tableau trié).
+ * Chaque opération est testée en cas normal et en cas d'erreur si pertinent,
+ * y compris l'intersection par recherche exponentielle entre un petit et un grand ensemble.
+ */
+public class TestEnsembleTrie {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testContient();
+        testUnion();
+        testIntersection();
+        testIntersectionGalop();
+        testDifference();
+        testDiffSymetrique();
+        testToString();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        try {
+            new EnsembleTrie<String>(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        verifier(new EnsembleTrie<>(Set.of("b", "a", "c")).cardinal() == 3);
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        Ensemble<String> ens = new EnsembleTrie<>(Set.of("a", "b", "d"));
+        verifier(ens.contient("a") && ens.contient("d"));
+        verifier(!ens.contient("c") && !ens.contient(null));
+    }
+
+    private static void testUnion() {
+        System.out.println("---- test Union ----");
+        Ensemble<Integer> e1 = new EnsembleTrie<>(Set.of(1, 2));
+        Ensemble<Integer> e2 = new EnsembleTrie<>(Set.of(2, 3));
+        verifierResultat(e1.union(e2), Set.of(1, 2, 3));
+        verifierResultat(e1.union(new EnsembleImpl<>(Set.of(5))), Set.of(1, 2, 5));
+        verifierException(() -> e1.union(null));
+    }
+
+    private static void testIntersection() {
+        System.out.println("---- test Intersection ----");
+        Ensemble<Integer> e1 = new EnsembleTrie<>(Set.of(1, 2, 4));
+        Ensemble<Integer> e2 = new EnsembleTrie<>(Set.of(2, 3, 4));
+        verifierResultat(e1.intersection(e2), Set.of(2, 4));
+        verifierException(() -> e1.intersection(null));
+    }
+
+    private static void testIntersectionGalop() {
+        System.out.println("---- test Intersection (petit / grand) ----");
+        Set<Integer> grand = new HashSet<>();
+        for (int i = 0; i < 10_000; i += 2) {
+            grand.add(i);
+        }
+        Ensemble<Integer> g = new EnsembleTrie<>(grand);
+        Ensemble<Integer> p = new EnsembleTrie<>(Set.of(-4, 0, 7, 500, 9_998, 20_000));
+        verifierResultat(p.intersection(g), Set.of(0, 500, 9_998));
+        verifierResultat(g.intersection(p), Set.of(0, 500, 9_998));
+    }
+
+    private static void testDifference() {
+        System.out.println("---- test Difference ----");
+        Ensemble<Integer> e1 = new EnsembleTrie<>(Set.of(1, 2, 4));
+        Ensemble<Integer> e2 = new EnsembleTrie<>(Set.of(2, 3));
+        verifierResultat(e1.difference(e2), Set.of(1, 4));
+        verifierException(() -> e1.difference(null));
+    }
+
+    private static void testDiffSymetrique() {
+        System.out.println("---- test Différence Symétrique ----");
+        Ensemble<Integer> e1 = new EnsembleTrie<>(Set.of(1, 2));
+        Ensemble<Integer> e2 = new EnsembleTrie<>(Set.of(2, 3));
+        verifierResultat(e1.diffSymetrique(e2), Set.of(1, 3));
+        verifierException(() -> e1.diffSymetrique(null));
+    }
+
+    private static void testToString() {
+        System.out.println("---- test toString ----");
+        verifier(new EnsembleTrie<>(Set.of("c", "a", "b")).toString().equals("{a, b, c}"));
+    }
+
+    private static <T> void verifierResultat(Ensemble<T> res, Set<T> attendu) {
+        verifier(res.cardinal() == attendu.size() && res.elements().equals(attendu));
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Classe de test pour les vues paresseuses EnsembleVue retournées par les opérations d'EnsembleImpl.
+ * Elle vérifie le contenu des vues chaînées, leur cardinal, la matérialisation explicite
+ * et la matérialisation automatique d'un arbre trop profond.
+ */
+public class TestEnsembleVue {
+
+    public static void main(String[] args) {
+        testVue();
+        testChainage();
+        testMaterialiser();
+        testProfondeur();
+        testIncompatible();
+        testCardinalPlafonne();
+    }
+
+    private static void testVue() {
+        System.out.println("---- test Vue ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2, 3));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(3, 4));
+        verifier(a.union(b) instanceof EnsembleVue);
+        verifierResultat(a.union(b), Set.of(1, 2, 3, 4));
+        verifierResultat(a.intersection(b), Set.of(3));
+        verifierResultat(a.difference(b), Set.of(1, 2));
+        verifierResultat(a.diffSymetrique(b), Set.of(1, 2, 4));
+    }
+
+    private static void testChainage() {
+        System.out.println("---- test Chaînage ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2, 3, 4));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(4, 5, 6));
+        Ensemble<Integer> c = new EnsembleImpl<>(Set.of(2, 4, 6, 8));
+        Ensemble<Integer> d = new EnsembleImpl<>(Set.of(6));
+        Ensemble<Integer> res = a.union(b).intersection(c).difference(d);
+        verifierResultat(res, Set.of(2, 4));
+        verifierResultat(c.diffSymetrique(a.union(b)), Set.of(1, 3, 5, 8));
+        verifier(res.contient(2) && !res.contient(6) && !res.contient(8));
+    }
+
+    private static void testMaterialiser() {
+        System.out.println("---- test Matérialiser ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(2, 3));
+        Ensemble<Integer> m = FabriqueEnsemble.materialiser(a.union(b));
+        verifier(m instanceof EnsembleImpl);
+        verifierResultat(m, Set.of(1, 2, 3));
+        verifier(FabriqueEnsemble.materialiser(a) == a);
+    }
+
+    private static void testProfondeur() {
+        System.out.println("---- test Profondeur maximale ----");
+        Ensemble<Integer> res = new EnsembleImpl<>(Set.of(0));
+        Set<Integer> attendu = new HashSet<>(Set.of(0));
+        for (int i = 1; i <= 3 * EnsembleVue.PROFONDEUR_MAX; i++) {
+            res = res.union(new EnsembleImpl<>(Set.of(i)));
+            attendu.add(i);
+        }
+        verifierResultat(res, attendu);
+    }
+
+    private static void testIncompatible() {
+        System.out.println("---- test Opérande incompatible ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2));
+        Ensemble<Integer> vue = a.union(a);
+        try {
+            vue.union(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testCardinalPlafonne() {
+        System.out.println("---- test Cardinal plafonné ----");
+        Set<Integer> facteur = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            facteur.add(i);
+        }
+        Ensemble<Integer> f = FabriqueEnsemble.creerEnsembleCompresse(facteur);
+        // 2,5 milliards de couples : le cardinal du produit est plafonné
+        Ensemble<Couple<Integer, Integer>> produit = FabriqueEnsemble.creerProduitCartesien(f, f);
+        Ensemble<Couple<Integer, Integer>> autres = new EnsembleImpl<>(Set.of(
+                new CoupleImpl<>(-1, -1), new CoupleImpl<>(-2, 0), new CoupleImpl<>(0, -3)));
+        verifier(produit.cardinal() == Integer.MAX_VALUE);
+        Ensemble<Couple<Integer, Integer>> union = produit.union(autres);
+        Ensemble<Couple<Integer, Integer>> diff = produit.diffSymetrique(autres);
+        verifier(union.cardinal() == Integer.MAX_VALUE && union.cardinal() == Integer.MAX_VALUE);
+        verifier(diff.cardinal() == Integer.MAX_VALUE && diff.cardinal() == Integer.MAX_VALUE);
+        verifier(autres.union(produit).cardinal() == Integer.MAX_VALUE);
+        verifier(autres.difference(produit).cardinal() == 3);
+    }
+
+    private static <T> void verifierResultat(Ensemble<T> res, Set<T> attendu) {
+        boolean ok = res.cardinal() == attendu.size() && res.elements().equals(attendu);
+        for (T e : attendu) {
+            ok = ok && res.contient(e);
+        }
+        verifier(ok);
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour le graphe Graphe construit à partir des couples d'une relation.
+ * Elle vérifie la numérotation des composantes fortement connexes, le traitement
+ * de très longs chemins sans récursion, et une fermeture transitive dont la place suit
+ * la taille du résultat.
+ */
+public class TestGraphe {
+
+    public static void main(String[] args) {
+        testComposantes();
+        testLongChemin();
+        testFermetureCreuse();
+        testFermetureAleatoire();
+    }
+
+    private static void testComposantes() {
+        System.out.println("---- test Composantes ----");
+        // {a, b} -> {c, d, e} -> {f}
+        Graphe<String> g = new Graphe<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "a"),
+                new CoupleImpl<>("b", "c"), new CoupleImpl<>("c", "d"), new CoupleImpl<>("d", "e"),
+                new CoupleImpl<>("e", "c"), new CoupleImpl<>("e", "f")));
+        verifier(g.nbSommets() == 6);
+        int[] composante = g.composantes();
+        Set<Couple<String, String>> fermeture = g.fermetureTransitive();
+        verifier(fermeture.contains(new CoupleImpl<>("a", "a")) && fermeture.contains(new CoupleImpl<>("a", "f"))
+                && fermeture.contains(new CoupleImpl<>("d", "c")) && !fermeture.contains(new CoupleImpl<>("f", "f"))
+                && !fermeture.contains(new CoupleImpl<>("c", "a")));
+        // a et b atteignent les 6 sommets, c, d et e atteignent c, d, e et f
+        verifier(fermeture.size() == 2 * 6 + 3 * 4);
+        // trois composantes distinctes : {a, b}, {c, d, e}, {f}
+        long distinctes = Arrays.stream(composante).distinct().count();
+        verifier(distinctes == 3);
+    }
+
+    private static void testLongChemin() {
+        System.out.println("---- test Long chemin ----");
+        // un cycle de 200 000 sommets : la récursion ferait déborder la pile
+        List<Couple<Integer, Integer>> couples = new ArrayList<>();
+        int n = 200_000;
+        for (int i = 0; i < n; i++) {
+            couples.add(new CoupleImpl<>(i, (i + 1) % n));
+        }
+        Graphe<Integer> g = new Graphe<>(couples);
+        int[] composante = g.composantes();
+        boolean uneSeule = true;
+        for (int c : composante) {
+            uneSeule &= c == composante[0];
+        }
+        verifier(uneSeule);
+
+        // un chemin sans cycle : autant de composantes que de sommets, numérotées de la fin vers le début
+        couples.remove(couples.size() - 1);
+        int[] chemin = new Graphe<>(couples).composantes();
+        verifier(chemin[0] == n - 1 && chemin[n - 1] == 0);
+    }
+
+    private static void testFermetureCreuse() {
+        System.out.println("---- test Fermeture creuse ----");
+        // 100 000 couples disjoints : 200 000 sommets, mais seulement 100 000 couples dans la
+        // fermeture ; une ligne de bits par composante occuperait plus de 4 Go
+        int n = 100_000;
+        List<Couple<Integer, Integer>> couples = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            couples.add(new CoupleImpl<>(2 * i, 2 * i + 1));
+        }
+        Graphe<Integer> g = new Graphe<>(couples);
+        int[][] fermeture = g.fermetureNumerotee();
+        boolean ok = fermeture.length == 2 * n;
+        for (int i = 0; i < n && ok; i++) {
+            int a = g.numeroDe(2 * i);
+            int b = g.numeroDe(2 * i + 1);
+            ok = fermeture[a].length == 1 && fermeture[a][0] == b && fermeture[b] == fermeture[g.numeroDe(1)];
+        }
+        verifier(ok && fermeture[g.numeroDe(1)].length == 0);
+        Relation<Integer> r = new RelationCsr<>(couples).fermetureTransitive();
+        verifier(r.contient(0, 1) && !r.contient(1, 0) && r.estTransitive() && r.elements().size() == n);
+    }
+
+    private static void testFermetureAleatoire() {
+        System.out.println("---- test Fermeture aléatoire ----");
+        // des graphes de densités variées, pour passer des lignes triées aux lignes de bits
+        Random hasard = new Random(29);
+        boolean ok = true;
+        for (int essai = 0; essai < 60 && ok; essai++) {
+            int n = 1 + hasard.nextInt(120);
+            int nbArcs = hasard.nextInt(2 * n);
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            for (int k = 0; k < nbArcs; k++) {
+                couples.add(new CoupleImpl<>(hasard.nextInt(n), hasard.nextInt(n)));
+            }
+            Set<Couple<Integer, Integer>> attendu = fermetureNaive(couples);
+            ok = new Graphe<>(couples).fermetureTransitive().equals(attendu)
+                    && new RelationCsr<>(couples).fermetureTransitive().elements().equals(attendu);
+        }
+        verifier(ok);
+    }
+
+    /**
+     * Fermeture transitive par ajout des couples composés jusqu'à stabilité.
+     */
+    private static Set<Couple<Integer, Integer>> fermetureNaive(Set<Couple<Integer, Integer>> couples) {
+        Set<Couple<Integer, Integer>> fermeture = new HashSet<>(couples);
+        boolean change = true;
+        while (change) {
+            Relation<Integer> r = new RelationImpl<>(fermeture);
+            change = fermeture.addAll(r.composition(r).elements());
+        }
+        return fermeture;
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'index d'accessibilité IndexAccessibilite, obtenu par FabriqueRelation.
+ * Les réponses sont comparées à la fermeture transitive, sur des relations avec et sans cycles,
+ * puis sur un grand graphe sans cycle dont les chemins sont connus.
+ */
+public class TestIndexAccessibilite {
+
+    public static void main(String[] args) {
+        testCasSimples();
+        testAleatoire();
+        testGrandGraphe();
+        testErreurs();
+    }
+
+    private static void testCasSimples() {
+        System.out.println("---- test Cas simples ----");
+        // a -> b -> c <-> d, e -> e, f -> a
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "c"),
+                new CoupleImpl<>("c", "d"), new CoupleImpl<>("d", "c"), new CoupleImpl<>("e", "e"),
+                new CoupleImpl<>("f", "a")));
+        Accessibilite<String> index = FabriqueRelation.indexAccessibilite(r);
+        verifier(index.atteignable("a", "d") && index.atteignable("f", "c") && index.atteignable("d", "c"));
+        verifier(!index.atteignable("d", "a") && !index.atteignable("b", "f") && !index.atteignable("a", "e"));
+        // un élément ne s'atteint lui-même que s'il est sur un cycle
+        verifier(index.atteignable("c", "c") && index.atteignable("e", "e") && !index.atteignable("a", "a"));
+        verifier(!index.atteignable("z", "a") && !index.atteignable("a", null));
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(31);
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            int n = 1 + hasard.nextInt(40);
+            boolean sansCycle = hasard.nextBoolean();
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            for (int k = hasard.nextInt(3 * n); k > 0; k--) {
+                int a = hasard.nextInt(n);
+                int b = hasard.nextInt(n);
+                if (sansCycle && a >= b) {
+                    continue;
+                }
+                couples.add(new CoupleImpl<>(a, b));
+            }
+            Relation<Integer> r = new RelationImpl<>(couples);
+            Relation<Integer> fermeture = r.fermetureTransitive();
+            Accessibilite<Integer> index = FabriqueRelation.indexAccessibilite(r);
+            for (int a = 0; a < n && ok; a++) {
+                for (int b = 0; b < n && ok; b++) {
+                    ok = index.atteignable(a, b) == fermeture.contient(a, b);
+                }
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testGrandGraphe() {
+        System.out.println("---- test Grand graphe ----");
+        // une grille de 300 × 300 orientée vers la droite et vers le bas :
+        // (i, j) atteint (k, l) si et seulement si i <= k, j <= l et les deux cases diffèrent
+        int cote = 300;
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        for (int i = 0; i < cote; i++) {
+            for (int j = 0; j < cote; j++) {
+                if (i + 1 < cote) {
+                    couples.add(new CoupleImpl<>(i * cote + j, (i + 1) * cote + j));
+                }
+                if (j + 1 < cote) {
+                    couples.add(new CoupleImpl<>(i * cote + j, i * cote + j + 1));
+                }
+            }
+        }
+        Accessibilite<Integer> index = FabriqueRelation.indexAccessibilite(FabriqueRelation.creerRelationStatique(couples));
+        Random hasard = new Random(2);
+        boolean ok = true;
+        for (int q = 0; q < 20_000 && ok; q++) {
+            int i = hasard.nextInt(cote);
+            int j = hasard.nextInt(cote);
+            int k = hasard.nextInt(cote);
+            int l = hasard.nextInt(cote);
+            boolean attendu = i <= k && j <= l && (i != k || j != l);
+            ok = index.atteignable(i * cote + j, k * cote + l) == attendu;
+        }
+        verifier(ok);
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        try {
+            FabriqueRelation.indexAccessibilite(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
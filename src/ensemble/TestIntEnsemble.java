@@ -0,0 +1,186 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation IntEnsemble (ensemble d'entiers en tableau de bits).
+ * Chaque opération est testée en cas normal, avec des entiers négatifs et éloignés,
+ * et en cas d'erreur si pertinent.
+ */
+public class TestIntEnsemble {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testCardinalEtContient();
+        testUnion();
+        testIntersection();
+        testDifference();
+        testDiffSymetrique();
+        testAutreImplementation();
+        testElements();
+        testValeursEloignees();
+        testAleatoire();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        try {
+            new IntEnsemble(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+
+        Set<Integer> avecNull = new HashSet<>();
+        avecNull.add(1);
+        avecNull.add(null);
+        try {
+            new IntEnsemble(avecNull);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testCardinalEtContient() {
+        System.out.println("---- test Cardinal et Contient ----");
+        Ensemble<Integer> ens = new IntEnsemble(Set.of(-70, -1, 0, 63, 64, 1000));
+        verifier(ens.cardinal() == 6);
+        verifier(ens.contient(-70) && ens.contient(-1) && ens.contient(0) && ens.contient(64));
+        verifier(!ens.contient(1) && !ens.contient(-2) && !ens.contient(5000) && !ens.contient(null));
+        verifier(new IntEnsemble(Set.of()).cardinal() == 0);
+    }
+
+    private static void testUnion() {
+        System.out.println("---- test Union ----");
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(1, 2, -100));
+        Ensemble<Integer> e2 = new IntEnsemble(Set.of(2, 3, 500));
+        verifierResultat(e1.union(e2), Set.of(-100, 1, 2, 3, 500));
+        verifierResultat(e1.union(new IntEnsemble(Set.of())), Set.of(-100, 1, 2));
+        verifierException(() -> e1.union(null));
+    }
+
+    private static void testIntersection() {
+        System.out.println("---- test Intersection ----");
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(1, 2, 130, -100));
+        Ensemble<Integer> e2 = new IntEnsemble(Set.of(2, 3, 130, 500));
+        verifierResultat(e1.intersection(e2), Set.of(2, 130));
+        verifierResultat(e1.intersection(new IntEnsemble(Set.of(10_000))), Set.of());
+        verifierException(() -> e1.intersection(null));
+    }
+
+    private static void testDifference() {
+        System.out.println("---- test Difference ----");
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(1, 2, 130, -100));
+        Ensemble<Integer> e2 = new IntEnsemble(Set.of(2, 3, 130, 500));
+        verifierResultat(e1.difference(e2), Set.of(1, -100));
+        verifierResultat(e2.difference(e1), Set.of(3, 500));
+        verifierException(() -> e1.difference(null));
+    }
+
+    private static void testDiffSymetrique() {
+        System.out.println("---- test Différence Symétrique ----");
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(1, 2, 130, -100));
+        Ensemble<Integer> e2 = new IntEnsemble(Set.of(2, 3, 130, 500));
+        verifierResultat(e1.diffSymetrique(e2), Set.of(1, -100, 3, 500));
+        verifierException(() -> e1.diffSymetrique(null));
+    }
+
+    private static void testAutreImplementation() {
+        System.out.println("---- test Opérations avec EnsembleImpl ----");
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(1, 2));
+        Ensemble<Integer> e2 = new EnsembleImpl<>(Set.of(2, 3));
+        verifierResultat(e1.union(e2), Set.of(1, 2, 3));
+        verifierResultat(e1.intersection(e2), Set.of(2));
+    }
+
+    private static void testElements() {
+        System.out.println("---- test Elements et toString ----");
+        Ensemble<Integer> e = new IntEnsemble(Set.of(3, -5, 64));
+        Set<Integer> res = e.elements();
+        verifier(res.equals(Set.of(3, -5, 64)));
+        verifier(e.toString().equals("{-5, 3, 64}"));
+    }
+
+    private static void testValeursEloignees() {
+        System.out.println("---- test Valeurs éloignées ----");
+        // un tableau de bits couvrant ces plages occuperait des centaines de mégaoctets
+        Ensemble<Integer> e1 = new IntEnsemble(Set.of(0, 2_000_000_000));
+        Ensemble<Integer> e2 = new IntEnsemble(Set.of(Integer.MIN_VALUE, -1, Integer.MAX_VALUE));
+        verifier(e1.cardinal() == 2 && e1.contient(2_000_000_000) && !e1.contient(1) && e1.toString().equals("{0, 2000000000}"));
+        verifier(e2.contient(Integer.MIN_VALUE) && e2.contient(Integer.MAX_VALUE) && !e2.contient(0));
+        verifierResultat(e1.union(e2), Set.of(Integer.MIN_VALUE, -1, 0, 2_000_000_000, Integer.MAX_VALUE));
+        verifierResultat(e1.diffSymetrique(e2).intersection(e1), Set.of(0, 2_000_000_000));
+        verifierResultat(e2.difference(new EnsembleImpl<>(Set.of(-1))), Set.of(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        // un ensemble dense et un élément lointain
+        Set<Integer> dense = new HashSet<>();
+        for (int v = 0; v < 1000; v++) {
+            dense.add(v);
+        }
+        Ensemble<Integer> e3 = new IntEnsemble(dense);
+        Ensemble<Integer> e4 = e3.union(new IntEnsemble(Set.of(1_500_000_000)));
+        verifier(e4.cardinal() == 1001 && e4.contient(1_500_000_000) && e4.contient(999)
+                && e4.difference(e3).elements().equals(Set.of(1_500_000_000))
+                && e4.intersection(e1).elements().equals(Set.of(0)));
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(5);
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            Set<Integer> x = tirage(hasard);
+            Set<Integer> y = tirage(hasard);
+            Ensemble<Integer> a = new IntEnsemble(x);
+            Ensemble<Integer> b = hasard.nextInt(4) == 0 ? new EnsembleImpl<>(y) : new IntEnsemble(y);
+            Set<Integer> union = new HashSet<>(x);
+            union.addAll(y);
+            Set<Integer> inter = new HashSet<>(x);
+            inter.retainAll(y);
+            Set<Integer> diff = new HashSet<>(x);
+            diff.removeAll(y);
+            Set<Integer> sym = new HashSet<>(union);
+            sym.removeAll(inter);
+            ok = memes(a.union(b), union) && memes(a.intersection(b), inter) && memes(a.difference(b), diff)
+                    && memes(a.diffSymetrique(b), sym);
+        }
+        verifier(ok);
+    }
+
+    private static Set<Integer> tirage(Random hasard) {
+        // des valeurs groupées, éparses ou mêlées, pour passer par les deux formes de stockage
+        Set<Integer> elements = new HashSet<>();
+        int etendue = hasard.nextBoolean() ? 300 : Integer.MAX_VALUE;
+        for (int k = hasard.nextInt(200); k > 0; k--) {
+            elements.add(hasard.nextInt(etendue) - (hasard.nextBoolean() ? 0 : etendue / 2));
+        }
+        return elements;
+    }
+
+    private static boolean memes(Ensemble<Integer> res, Set<Integer> attendu) {
+        return res.cardinal() == attendu.size() && res.elements().equals(attendu);
+    }
+
+    private static void verifierResultat(Ensemble<Integer> res, Set<Integer> attendu) {
+        verifier(res.cardinal() == attendu.size() && res.elements().equals(attendu));
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package ensemble;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'analyse des ordres OrdrePartielImpl, obtenue par FabriqueRelation.
+ * Le diagramme de Hasse est vérifié sur la divisibilité, puis comparé sur des ordres aléatoires
+ * à la définition : sa fermeture transitive redonne l'ordre strict et aucun de ses couples n'est
+ * obtenu par transitivité.
+ */
+public class TestOrdrePartielImpl {
+
+    public static void main(String[] args) {
+        testDivisibilite();
+        testOrdreStrict();
+        testOrdreTopologique();
+        testAleatoire();
+        testErreurs();
+    }
+
+    private static Set<Couple<Integer, Integer>> divisibilite(int n) {
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        for (int a = 1; a <= n; a++) {
+            for (int b = a; b <= n; b += a) {
+                couples.add(new CoupleImpl<>(a, b));
+            }
+        }
+        return couples;
+    }
+
+    private static void testDivisibilite() {
+        System.out.println("---- test Divisibilité ----");
+        OrdrePartiel<Integer> ordre = FabriqueRelation.ordrePartiel(new RelationImpl<>(divisibilite(12)));
+        Relation<Integer> hasse = ordre.diagrammeHasse();
+        // b couvre a si b / a est premier
+        verifier(hasse.contient(1, 2) && hasse.contient(1, 3) && hasse.contient(2, 4) && hasse.contient(6, 12)
+                && hasse.contient(4, 12) && !hasse.contient(1, 4) && !hasse.contient(2, 12) && !hasse.contient(3, 3));
+        verifier(hasse.elements().size() == 14 && ordre.diagrammeHasse() == hasse);
+        verifier(ordre.minimaux().elements().equals(Set.of(1))
+                && ordre.maximaux().elements().equals(Set.of(7, 8, 9, 10, 11, 12)));
+    }
+
+    private static void testOrdreStrict() {
+        System.out.println("---- test Ordre strict ----");
+        // l'inclusion stricte entre {}, {a}, {b}, {a, b}
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("", "a"), new CoupleImpl<>("", "b"),
+                new CoupleImpl<>("", "ab"), new CoupleImpl<>("a", "ab"), new CoupleImpl<>("b", "ab")));
+        OrdrePartiel<String> ordre = FabriqueRelation.ordrePartiel(r);
+        verifier(ordre.diagrammeHasse().elements().size() == 4 && !ordre.diagrammeHasse().contient("", "ab")
+                && ordre.minimaux().elements().equals(Set.of("")) && ordre.maximaux().elements().equals(Set.of("ab")));
+    }
+
+    private static void testOrdreTopologique() {
+        System.out.println("---- test Ordre topologique ----");
+        OrdrePartiel<Integer> ordre = FabriqueRelation.ordrePartiel(new RelationImpl<>(divisibilite(30)));
+        Map<Integer, Integer> position = new HashMap<>();
+        for (Iterator<Integer> it = ordre.ordreTopologique(); it.hasNext(); ) {
+            position.put(it.next(), position.size());
+        }
+        boolean ok = position.size() == 30;
+        for (Couple<Integer, Integer> c : divisibilite(30)) {
+            ok &= position.get(c.getPremier()) <= position.get(c.getDeuxieme());
+        }
+        verifier(ok);
+        Iterator<Integer> vide = FabriqueRelation.ordrePartiel(new RelationImpl<Integer>(new HashSet<>())).ordreTopologique();
+        try {
+            vide.next();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (java.util.NoSuchElementException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(47);
+        boolean ok = true;
+        for (int essai = 0; essai < 200 && ok; essai++) {
+            // la fermeture d'une relation qui va des petits vers les grands entiers est un ordre strict
+            int n = 1 + hasard.nextInt(30);
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            for (int k = hasard.nextInt(2 * n); k > 0; k--) {
+                int a = hasard.nextInt(n);
+                int b = hasard.nextInt(n);
+                if (a < b) {
+                    couples.add(new CoupleImpl<>(a, b));
+                }
+            }
+            Relation<Integer> strict = new RelationImpl<>(couples).fermetureTransitive();
+            Relation<Integer> large = hasard.nextBoolean() ? strict : FabriqueRelation.fermetureReflexive(strict);
+            OrdrePartiel<Integer> ordre = FabriqueRelation.ordrePartiel(large);
+            Relation<Integer> hasse = ordre.diagrammeHasse();
+            ok = hasse.fermetureTransitive().elements().equals(strict.elements())
+                    && hasse.intersection(hasse.composition(strict)).elements().isEmpty();
+            for (Couple<Integer, Integer> c : strict.elements()) {
+                ok &= !ordre.maximaux().contient(c.getPremier()) && !ordre.minimaux().contient(c.getDeuxieme());
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        verifierException(() -> FabriqueRelation.ordrePartiel(null));
+        // un cycle n'est pas antisymétrique
+        verifierException(() -> FabriqueRelation.ordrePartiel(new RelationImpl<>(Set.of(new CoupleImpl<>(1, 2),
+                new CoupleImpl<>(2, 1)))));
+        // une chaîne de deux couples n'est pas transitive
+        verifierException(() -> FabriqueRelation.ordrePartiel(new RelationImpl<>(Set.of(new CoupleImpl<>(1, 2),
+                new CoupleImpl<>(2, 3)))));
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour la partition PartitionUnionFind et les fermetures de FabriqueRelation
+ * qui s'appuient sur elle.
+ * Chaque méthode est testée en cas normal et en cas d'erreur si pertinent.
+ */
+public class TestPartitionUnionFind {
+
+    public static void main(String[] args) {
+        testClassesEquivalence();
+        testMemeClasse();
+        testFermetures();
+        testFermetureEquivalence();
+        testErreurs();
+    }
+
+    private static void testClassesEquivalence() {
+        System.out.println("---- test ClassesEquivalence ----");
+        // l'égalité modulo 3 sur 0..8
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        for (int i = 0; i < 9; i++) {
+            for (int j = 0; j < 9; j++) {
+                if (i % 3 == j % 3) {
+                    couples.add(new CoupleImpl<>(i, j));
+                }
+            }
+        }
+        Partition<Integer> p = FabriqueRelation.classesEquivalence(new RelationImpl<>(couples));
+        verifier(p.nombreClasses() == 3 && p.classes().cardinal() == 3);
+        verifier(p.classe(4).elements().equals(Set.of(1, 4, 7)));
+        boolean disjointes = true;
+        int total = 0;
+        for (Ensemble<Integer> c : p.classes().elements()) {
+            total += c.cardinal();
+            for (Integer e : c.elements()) {
+                disjointes &= p.classe(e) == c;
+            }
+        }
+        verifier(disjointes && total == 9);
+    }
+
+    private static void testMemeClasse() {
+        System.out.println("---- test MemeClasse ----");
+        Partition<String> p = new PartitionUnionFind<>(Set.of(new CoupleImpl<>("a", "b"),
+                new CoupleImpl<>("c", "b"), new CoupleImpl<>("d", "e")));
+        verifier(p.memeClasse("a", "c") && p.memeClasse("e", "d") && p.memeClasse("a", "a"));
+        verifier(!p.memeClasse("a", "d") && !p.memeClasse("a", "z") && !p.memeClasse("z", "z"));
+        verifier(p.classe("z").cardinal() == 0);
+    }
+
+    private static void testFermetures() {
+        System.out.println("---- test Fermetures ----");
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "c")));
+        Relation<String> reflexive = FabriqueRelation.fermetureReflexive(r);
+        verifier(reflexive.estReflexive() && reflexive.elements().size() == 5);
+        Relation<String> symetrique = FabriqueRelation.fermetureSymetrique(r);
+        verifier(symetrique.estSymetrique() && symetrique.elements().size() == 4
+                && symetrique.contient(new CoupleImpl<>("c", "b")));
+        Relation<String> equivalence = FabriqueRelation.fermetureEquivalence(r);
+        verifier(equivalence.estReflexive() && equivalence.estSymetrique() && equivalence.estTransitive()
+                && equivalence.elements().size() == 9);
+    }
+
+    private static void testFermetureEquivalence() {
+        System.out.println("---- test FermetureEquivalence (aléatoire) ----");
+        // la fermeture d'équivalence est la fermeture transitive de la fermeture symétrique et réflexive
+        Random hasard = new Random(11);
+        boolean ok = true;
+        for (int essai = 0; essai < 100 && ok; essai++) {
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            int n = 1 + hasard.nextInt(40);
+            for (int k = hasard.nextInt(n); k >= 0; k--) {
+                couples.add(new CoupleImpl<>(hasard.nextInt(n), hasard.nextInt(n)));
+            }
+            Relation<Integer> r = new RelationImpl<>(couples);
+            Relation<Integer> attendu = FabriqueRelation.fermetureReflexive(
+                    FabriqueRelation.fermetureSymetrique(r)).fermetureTransitive();
+            ok = FabriqueRelation.fermetureEquivalence(r).elements().equals(attendu.elements())
+                    && FabriqueRelation.classesEquivalence(attendu).nombreClasses()
+                            == FabriqueRelation.partition(r).nombreClasses();
+        }
+        verifier(ok);
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        verifierException(() -> FabriqueRelation.classesEquivalence(null));
+        verifierException(() -> FabriqueRelation.fermetureEquivalence(null));
+        Relation<String> nonEquivalence = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b")));
+        verifierException(() -> FabriqueRelation.classesEquivalence(nonEquivalence));
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
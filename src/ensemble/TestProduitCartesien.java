@@ -0,0 +1,102 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Classe de test pour le produit cartésien virtuel ProduitCartesien<A, B>.
+ * Elle vérifie le cardinal, l'appartenance et le parcours sans matérialisation,
+ * y compris pour des produits trop grands pour être énumérés.
+ */
+public class TestProduitCartesien {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testCardinalEtContient();
+        testGrandProduit();
+        testHeterogene();
+        testParcours();
+        testIntersection();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        try {
+            new EnsembleImpl<>(Set.of(1)).produitCartesien(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testCardinalEtContient() {
+        System.out.println("---- test Cardinal et Contient ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(3, 4, 5));
+        Ensemble<Couple<Integer, Integer>> p = a.produitCartesien(b);
+        verifier(p.cardinal() == 6);
+        verifier(p.contient(new CoupleImpl<>(2, 5)) && !p.contient(new CoupleImpl<>(5, 2)));
+        verifier(!p.contient(null));
+    }
+
+    private static void testGrandProduit() {
+        System.out.println("---- test Grand produit (non énuméré) ----");
+        Set<Integer> grand = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            grand.add(i);
+        }
+        Ensemble<Integer> a = FabriqueEnsemble.creerEnsembleEntiers(grand);
+        Ensemble<Couple<Integer, Integer>> p = a.produitCartesien(a);
+        verifier(p.cardinal() == Integer.MAX_VALUE);
+        verifier(p.contient(new CoupleImpl<>(49_999, 0)) && !p.contient(new CoupleImpl<>(50_000, 0)));
+
+        Set<Integer> moyen = new HashSet<>();
+        for (int i = 0; i < 40_000; i++) {
+            moyen.add(i);
+        }
+        Ensemble<Integer> m = FabriqueEnsemble.creerEnsembleEntiers(moyen);
+        verifier(m.produitCartesien(a).cardinal() == 2_000_000_000);
+    }
+
+    private static void testHeterogene() {
+        System.out.println("---- test Produit hétérogène ----");
+        Ensemble<String> a = new EnsembleImpl<>(Set.of("x", "y"));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(1));
+        Ensemble<Couple<String, Integer>> p = FabriqueEnsemble.creerProduitCartesien(a, b);
+        verifier(p.cardinal() == 2 && p.contient(new CoupleImpl<>("y", 1)));
+    }
+
+    private static void testParcours() {
+        System.out.println("---- test Parcours ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(3, 4));
+        Set<Couple<Integer, Integer>> attendu = new HashSet<>();
+        attendu.add(new CoupleImpl<>(1, 3));
+        attendu.add(new CoupleImpl<>(1, 4));
+        attendu.add(new CoupleImpl<>(2, 3));
+        attendu.add(new CoupleImpl<>(2, 4));
+        Ensemble<Couple<Integer, Integer>> p = a.produitCartesien(b);
+        verifier(p.elements().equals(attendu));
+
+        Ensemble<Integer> vide = new EnsembleImpl<>(Set.of());
+        Iterator<Couple<Integer, Integer>> it = ((ProduitCartesien<Integer, Integer>) a.produitCartesien(vide)).iterateur();
+        verifier(!it.hasNext());
+    }
+
+    private static void testIntersection() {
+        System.out.println("---- test Intersection de produits ----");
+        Ensemble<Integer> a = new EnsembleImpl<>(Set.of(1, 2, 3));
+        Ensemble<Integer> b = new EnsembleImpl<>(Set.of(2, 3, 4));
+        Ensemble<Couple<Integer, Integer>> res = a.produitCartesien(a).intersection(b.produitCartesien(b));
+        verifier(res.cardinal() == 4 && res.contient(new CoupleImpl<>(2, 3)) && !res.contient(new CoupleImpl<>(1, 2)));
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
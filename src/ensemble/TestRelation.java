@@ -17,6 +17,12 @@ public class TestRelation {
         testEstTransitive();
         testContient();
         testElements();
+        testBuilder();
+        testGrandeRelation();
+        testFermetureTransitive();
+        testProprietes();
+        testAlgebre();
+        testMethodesParDefaut();
     }
 
     private static void testEstReflexive() {
@@ -71,6 +77,13 @@ public class TestRelation {
         nonSym.add(new CoupleImpl<>("a", "b"));
         testCasEstSymetrique(nonSym, false);
 
+        // mêmes éléments reliés, mais (c, a) sans (a, c)
+        Set<Couple<String, String>> nonSym2 = new HashSet<>(sym);
+        nonSym2.add(new CoupleImpl<>("c", "a"));
+        nonSym2.add(new CoupleImpl<>("c", "b"));
+        nonSym2.add(new CoupleImpl<>("b", "c"));
+        testCasEstSymetrique(nonSym2, false);
+
         // Cas erreur
         testCasEstSymetrique(null, null);
     }
@@ -151,6 +164,15 @@ public class TestRelation {
         nonTransitive.add(new CoupleImpl<>("b", "c"));
         testCasEstTransitive(nonTransitive, false);
 
+        // un cycle a -> b -> a impose (a, a) et (b, b)
+        Set<Couple<String, String>> cycle = new HashSet<>();
+        cycle.add(new CoupleImpl<>("a", "b"));
+        cycle.add(new CoupleImpl<>("b", "a"));
+        cycle.add(new CoupleImpl<>("a", "a"));
+        testCasEstTransitive(cycle, false);
+        cycle.add(new CoupleImpl<>("b", "b"));
+        testCasEstTransitive(cycle, true);
+
         // Cas erreur
         testCasEstTransitive(null, null);
     }
@@ -188,6 +210,9 @@ public class TestRelation {
         testCasContient(r, c, true);
         testCasContient(r, new CoupleImpl<>("b", "a"), false);
 
+        // la version sans couple donne les mêmes réponses
+        testCas(r.contient("a", "b") && !r.contient("b", "a") && !r.contient("a", null) && !r.contient(null, "b"));
+
         // Pas de test d'exception ici car contient() ne lance pas d'exception selon l'implémentation
     }
 
@@ -219,4 +244,249 @@ public class TestRelation {
             System.out.println("ECHEC du test");
         }
     }
+
+    private static void testBuilder() {
+        System.out.println("------------ test RelationBuilder ------------");
+
+        RelationBuilder<String> builder = new RelationBuilder<>();
+        Relation<String> r = builder.ajouter("a", "b").ajouter(new CoupleImpl<>("b", "a")).construire();
+        if (r.elements().size() == 2 && r.contient(new CoupleImpl<>("b", "a")) && r.estSymetrique()) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        // le constructeur repart d'un ensemble vide : la relation construite ne doit pas changer
+        builder.ajouter("c", "c");
+        if (r.elements().size() == 2 && builder.construire().elements().size() == 1) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        try {
+            r.elements().clear();
+            System.out.println("ECHEC du test - vue modifiable");
+        } catch (UnsupportedOperationException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testGrandeRelation() {
+        System.out.println("------------ test grande relation ------------");
+
+        // l'ordre strict sur 0..599 : environ 180 000 couples
+        Set<Couple<Integer, Integer>> ordre = new HashSet<>();
+        for (int i = 0; i < 600; i++) {
+            for (int j = i + 1; j < 600; j++) {
+                ordre.add(new CoupleImpl<>(i, j));
+            }
+        }
+        Relation<Integer> r = new RelationImpl<>(ordre);
+        if (r.estTransitive() && r.estAntisymetrique() && !r.estSymetrique() && !r.estReflexive()) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        ordre.remove(new CoupleImpl<>(100, 500));
+        if (!new RelationImpl<>(ordre).estTransitive()) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+
+    private static void testFermetureTransitive() {
+        System.out.println("------------ test fermetureTransitive ------------");
+
+        // a -> b -> c, c -> d -> c
+        Set<Couple<String, String>> couples = new HashSet<>();
+        couples.add(new CoupleImpl<>("a", "b"));
+        couples.add(new CoupleImpl<>("b", "c"));
+        couples.add(new CoupleImpl<>("c", "d"));
+        couples.add(new CoupleImpl<>("d", "c"));
+        Relation<String> f = new RelationImpl<>(couples).fermetureTransitive();
+        Set<Couple<String, String>> attendu = new HashSet<>(couples);
+        attendu.add(new CoupleImpl<>("a", "c"));
+        attendu.add(new CoupleImpl<>("a", "d"));
+        attendu.add(new CoupleImpl<>("b", "d"));
+        attendu.add(new CoupleImpl<>("c", "c"));
+        attendu.add(new CoupleImpl<>("d", "d"));
+        if (f.elements().equals(attendu) && f.estTransitive()) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        // sans cycle, un élément n'est pas relié à lui-même
+        Relation<String> simple = new RelationImpl<>(Set.of(new CoupleImpl<>("x", "y"))).fermetureTransitive();
+        if (simple.elements().size() == 1 && !simple.contient(new CoupleImpl<>("x", "x"))) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        // comparaison avec l'algorithme de Warshall sur des relations aléatoires
+        java.util.Random hasard = new java.util.Random(3);
+        boolean ok = true;
+        for (int essai = 0; essai < 100 && ok; essai++) {
+            int n = 1 + hasard.nextInt(30);
+            boolean[][] m = new boolean[n][n];
+            Set<Couple<Integer, Integer>> aleatoire = new HashSet<>();
+            for (int k = hasard.nextInt(2 * n); k > 0; k--) {
+                int a = hasard.nextInt(n);
+                int b = hasard.nextInt(n);
+                m[a][b] = true;
+                aleatoire.add(new CoupleImpl<>(a, b));
+            }
+            for (int k = 0; k < n; k++) {
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        m[i][j] |= m[i][k] && m[k][j];
+                    }
+                }
+            }
+            Set<Couple<Integer, Integer>> warshall = new HashSet<>();
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (m[i][j]) {
+                        warshall.add(new CoupleImpl<>(i, j));
+                    }
+                }
+            }
+            ok = new RelationImpl<>(aleatoire).fermetureTransitive().elements().equals(warshall);
+        }
+        System.out.println(ok ? "OK" : "ECHEC du test");
+    }
+
+    private static void testProprietes() {
+        System.out.println("------------ test proprietes ------------");
+
+        Set<Couple<String, String>> couples = new HashSet<>();
+        couples.add(new CoupleImpl<>("a", "b"));
+        couples.add(new CoupleImpl<>("b", "a"));
+        couples.add(new CoupleImpl<>("b", "c"));
+        couples.add(new CoupleImpl<>("a", "a"));
+        Relation<String> r = new RelationImpl<>(couples);
+        ProprietesRelation<String> p = r.proprietes();
+        Couple<String, String> reflexivite = p.contreExempleReflexivite();
+        Couple<String, String> symetrie = p.contreExempleSymetrie();
+        Couple<String, String> antisymetrie = p.contreExempleAntisymetrie();
+        Couple<String, String> transitivite = p.contreExempleTransitivite();
+        // (b, b) ou (c, c) manque ; seul (b, c) n'a pas d'inverse ; (a, b) et (b, a) se contredisent ;
+        // (a, b), (b, c) imposent (a, c), et (b, a), (a, b) imposent (b, b)
+        if (!p.estReflexive() && !r.contient(reflexivite) && reflexivite.getPremier().equals(reflexivite.getDeuxieme())
+                && symetrie.equals(new CoupleImpl<>("b", "c"))
+                && (antisymetrie.equals(new CoupleImpl<>("a", "b")) || antisymetrie.equals(new CoupleImpl<>("b", "a")))
+                && (transitivite.equals(new CoupleImpl<>("a", "c")) || transitivite.equals(new CoupleImpl<>("b", "b")))) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        // le résultat est conservé par la relation
+        if (r.proprietes() == p && p.estReflexive() == r.estReflexive()) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+
+        Set<Couple<String, String>> egalite = new HashSet<>();
+        egalite.add(new CoupleImpl<>("x", "x"));
+        egalite.add(new CoupleImpl<>("y", "y"));
+        ProprietesRelation<String> q = new RelationImpl<>(egalite).proprietes();
+        if (q.estEquivalence() && q.estOrdre() && q.contreExempleTransitivite() == null) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+
+    private static void testAlgebre() {
+        System.out.println("------------ test algèbre des relations ------------");
+
+        // r : a -> b, a -> c, b -> c ; s : b -> d, c -> d, c -> e
+        Relation<String> r = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("a", "c"),
+                new CoupleImpl<>("b", "c")));
+        Relation<String> s = new RelationImpl<>(Set.of(new CoupleImpl<>("b", "d"), new CoupleImpl<>("c", "d"),
+                new CoupleImpl<>("c", "e")));
+        Set<Couple<String, String>> composee = Set.of(new CoupleImpl<>("a", "d"), new CoupleImpl<>("a", "e"),
+                new CoupleImpl<>("b", "d"), new CoupleImpl<>("b", "e"));
+        testCas(r.composition(s).elements().equals(composee) && s.composition(r).elements().isEmpty()
+                && AlgebreRelation.composer(r, s).elements().equals(composee));
+
+        Relation<String> inverse = r.inverse();
+        testCas(inverse.elements().equals(Set.of(new CoupleImpl<>("b", "a"), new CoupleImpl<>("c", "a"),
+                new CoupleImpl<>("c", "b")))
+                && inverse.image("c").elements().equals(Set.of("a", "b")) && inverse.preImage("a").elements().equals(Set.of("b", "c"))
+                && inverse.inverse().elements().equals(r.elements()));
+
+        testCas(r.union(s).elements().size() == 6 && r.union(s).contient(new CoupleImpl<>("c", "e"))
+                && r.intersection(s).elements().isEmpty()
+                && r.intersection(r.union(s)).elements().equals(r.elements()));
+
+        testCas(r.image("a").elements().equals(Set.of("b", "c")) && r.image("c").cardinal() == 0
+                && r.image("z").cardinal() == 0 && r.preImage("c").elements().equals(Set.of("a", "b"))
+                && r.image(new EnsembleImpl<>(Set.of("a", "b", "z"))).elements().equals(Set.of("b", "c"))
+                && s.image(r.image("a")).elements().equals(Set.of("d", "e")));
+
+        int exceptions = 0;
+        try {
+            r.composition(null);
+        } catch (IllegalArgumentException e) {
+            exceptions++;
+        }
+        try {
+            r.union(null);
+        } catch (IllegalArgumentException e) {
+            exceptions++;
+        }
+        try {
+            r.intersection(null);
+        } catch (IllegalArgumentException e) {
+            exceptions++;
+        }
+        try {
+            r.image((Ensemble<String>) null);
+        } catch (IllegalArgumentException e) {
+            exceptions++;
+        }
+        testCas(exceptions == 4);
+    }
+
+    private static void testMethodesParDefaut() {
+        System.out.println("------------ test méthodes par défaut ------------");
+        // une implémentation extérieure n'écrit que les méthodes abstraites de l'interface
+        RelationImpl<String> base = new RelationImpl<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("a", "c"),
+                new CoupleImpl<>("b", "c")));
+        Relation<String> r = new Relation<>() {
+            public boolean estReflexive() { return base.estReflexive(); }
+            public boolean estSymetrique() { return base.estSymetrique(); }
+            public boolean estAntisymetrique() { return base.estAntisymetrique(); }
+            public boolean estTransitive() { return base.estTransitive(); }
+            public ProprietesRelation<String> proprietes() { return base.proprietes(); }
+            public Relation<String> fermetureTransitive() { return base.fermetureTransitive(); }
+            public boolean contient(Couple<String, String> couple) { return base.contient(couple); }
+            public Set<Couple<String, String>> elements() { return base.elements(); }
+        };
+        testCas(r.contient("a", "b") && !r.contient("b", "a")
+                && r.image("a").elements().equals(Set.of("b", "c")) && r.image("z").cardinal() == 0
+                && r.preImage("c").elements().equals(Set.of("a", "b"))
+                && r.image(new EnsembleImpl<>(Set.of("a", "b"))).elements().equals(Set.of("b", "c")));
+        testCas(r.inverse().elements().equals(base.inverse().elements())
+                && r.composition(base).elements().equals(base.composition(base).elements())
+                && r.union(base.inverse()).elements().size() == 6
+                && r.intersection(base).elements().equals(base.elements()));
+        try {
+            r.union(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testCas(boolean condition) {
+        System.out.println(condition ? "OK" : "ECHEC du test");
+    }
 }
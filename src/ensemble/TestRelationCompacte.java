@@ -0,0 +1,206 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation RelationCompacte (couples codés dans des long).
+ * Les résultats sont comparés à ceux de RelationImpl, y compris aux bornes de l'intervalle
+ * des entiers, où le codage des couples doit conserver l'ordre.
+ */
+public class TestRelationCompacte {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testCodage();
+        testContient();
+        testElements();
+        testProprietes();
+        testAlgebre();
+        testAleatoire();
+        testEgalite();
+        testFermeture();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        verifierException(() -> new RelationCompacte(null));
+        Set<Couple<Integer, Integer>> avecNull = new HashSet<>();
+        avecNull.add(new CoupleImpl<>(null, 1));
+        verifierException(() -> new RelationCompacte(avecNull));
+        Relation<Integer> vide = new RelationCompacte(new HashSet<>());
+        verifier(vide.elements().isEmpty() && vide.estReflexive() && vide.estTransitive() && vide.image(3).cardinal() == 0);
+    }
+
+    private static void testCodage() {
+        System.out.println("---- test Codage ----");
+        int[] valeurs = {Integer.MIN_VALUE, -70000, -1, 0, 1, 65536, Integer.MAX_VALUE};
+        boolean ok = true;
+        for (int a : valeurs) {
+            for (int b : valeurs) {
+                long code = RelationCompacte.code(a, b);
+                ok &= RelationCompacte.premier(code) == a && RelationCompacte.deuxieme(code) == b;
+                for (int c : valeurs) {
+                    // l'ordre des codes est l'ordre lexicographique des couples
+                    ok &= Long.compare(code, RelationCompacte.code(a, c)) == Integer.compare(b, c);
+                }
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        RelationCompacte r = new RelationCompacte(Set.of(new CoupleImpl<>(Integer.MIN_VALUE, Integer.MAX_VALUE),
+                new CoupleImpl<>(-1, 0), new CoupleImpl<>(0, -1)));
+        verifier(r.contient(Integer.MIN_VALUE, Integer.MAX_VALUE) && r.contient(new CoupleImpl<>(-1, 0)) && r.contient(0, -1));
+        verifier(!r.contient(Integer.MAX_VALUE, Integer.MIN_VALUE) && !r.contient(null) && !r.contient(null, 0));
+    }
+
+    private static void testElements() {
+        System.out.println("---- test Elements ----");
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(3, 2_000_000), new CoupleImpl<>(2_000_000, 3),
+                new CoupleImpl<>(-64, -64));
+        Relation<Integer> r = new RelationCompacte(couples);
+        verifier(r.elements().size() == 3 && r.elements().equals(couples) && couples.equals(r.elements()));
+        try {
+            r.elements().clear();
+            System.out.println("ECHEC du test - vue modifiable");
+        } catch (UnsupportedOperationException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testProprietes() {
+        System.out.println("---- test Proprietes ----");
+        // l'égalité modulo 5 sur des entiers très espacés
+        Set<Couple<Integer, Integer>> modulo = new HashSet<>();
+        for (int i = 0; i < 60; i++) {
+            for (int j = 0; j < 60; j++) {
+                if (i % 5 == j % 5) {
+                    modulo.add(new CoupleImpl<>(i * 1_000_003 - 30_000_000, j * 1_000_003 - 30_000_000));
+                }
+            }
+        }
+        Relation<Integer> m = new RelationCompacte(modulo);
+        verifier(m.estReflexive() && m.estSymetrique() && m.estTransitive() && !m.estAntisymetrique());
+        Relation<Integer> chaine = new RelationCompacte(Set.of(new CoupleImpl<>(1, 2), new CoupleImpl<>(2, 3)));
+        ProprietesRelation<Integer> p = chaine.proprietes();
+        verifier(!p.estTransitive() && p.contreExempleTransitivite().equals(new CoupleImpl<>(1, 3))
+                && p.estAntisymetrique() && chaine.proprietes() == p);
+    }
+
+    private static void testAlgebre() {
+        System.out.println("---- test Algèbre ----");
+        Relation<Integer> r = new RelationCompacte(Set.of(new CoupleImpl<>(1, 2), new CoupleImpl<>(1, 3),
+                new CoupleImpl<>(2, 3)));
+        verifier(r.image(1).elements().equals(Set.of(2, 3)) && r.preImage(3).elements().equals(Set.of(1, 2))
+                && r.image(new EnsembleImpl<>(Set.of(1, 2, 9))).elements().equals(Set.of(2, 3))
+                && r.inverse().image(3).elements().equals(Set.of(1, 2)));
+        verifierException(() -> r.composition(null));
+        verifierException(() -> r.intersection(null));
+        verifierException(() -> r.image((Ensemble<Integer>) null));
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(5);
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            Set<Couple<Integer, Integer>> x = tirage(hasard);
+            Set<Couple<Integer, Integer>> y = tirage(hasard);
+            Relation<Integer> a = new RelationCompacte(x);
+            Relation<Integer> b = hasard.nextBoolean() ? new RelationCompacte(y) : new RelationImpl<>(y);
+            Relation<Integer> attenduA = new RelationImpl<>(x);
+            Relation<Integer> attenduB = new RelationImpl<>(y);
+            ok = a.elements().equals(x)
+                    && a.estReflexive() == attenduA.estReflexive()
+                    && a.estSymetrique() == attenduA.estSymetrique()
+                    && a.estAntisymetrique() == attenduA.estAntisymetrique()
+                    && a.estTransitive() == attenduA.estTransitive()
+                    && a.fermetureTransitive().elements().equals(attenduA.fermetureTransitive().elements())
+                    && a.composition(b).elements().equals(attenduA.composition(attenduB).elements())
+                    && a.union(b).elements().equals(attenduA.union(attenduB).elements())
+                    && a.intersection(b).elements().equals(attenduA.intersection(attenduB).elements())
+                    && a.inverse().elements().equals(attenduA.inverse().elements());
+            for (int v = -12; v < 12 && ok; v++) {
+                int valeur = v * 1_000_000;
+                ok = a.image(valeur).elements().equals(attenduA.image(valeur).elements())
+                        && a.preImage(valeur).elements().equals(attenduA.preImage(valeur).elements());
+            }
+        }
+        verifier(ok);
+    }
+
+    private static Set<Couple<Integer, Integer>> tirage(Random hasard) {
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        int etendue = 1 + hasard.nextInt(20);
+        for (int k = hasard.nextInt(60); k > 0; k--) {
+            // des entiers espacés d'un million, de part et d'autre de zéro
+            int a = (hasard.nextInt(etendue) - 10) * 1_000_000;
+            int b = (hasard.nextInt(etendue) - 10) * 1_000_000;
+            couples.add(new CoupleImpl<>(a, b));
+            if (hasard.nextInt(3) == 0) {
+                couples.add(new CoupleImpl<>(b, a));
+            }
+            if (hasard.nextInt(4) == 0) {
+                couples.add(new CoupleImpl<>(a, a));
+            }
+        }
+        return couples;
+    }
+
+    private static void testEgalite() {
+        System.out.println("---- test Egalite ----");
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(-5, 2_000_000_000),
+                new CoupleImpl<>(2_000_000_000, 7), new CoupleImpl<>(7, 7));
+        Relation<Integer> a = new RelationCompacte(couples);
+        Relation<Integer> b = FabriqueRelation.creerRelationEntiersCreuse(new HashSet<>(couples));
+        Relation<Integer> attendu = new RelationImpl<>(couples);
+        Relation<Integer> matrice = new RelationMatrice(Set.of(new CoupleImpl<>(1, 2)));
+        verifier(a.equals(b) && a.hashCode() == b.hashCode() && a.equals(attendu) && attendu.equals(a)
+                && a.hashCode() == attendu.hashCode() && Set.of(attendu).contains(a));
+        Relation<Integer> c = new RelationCompacte(Set.of(new CoupleImpl<>(1, 2)));
+        verifier(c.equals(matrice) && matrice.equals(c) && c.hashCode() == matrice.hashCode()
+                && !a.equals(c) && !a.equals(couples) && !a.equals(null));
+    }
+
+    private static void testFermeture() {
+        System.out.println("---- test Fermeture ----");
+        // des entiers négatifs et éloignés : les codes produits doivent rester triés pour la dichotomie
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(Integer.MAX_VALUE, -3),
+                new CoupleImpl<>(-3, Integer.MIN_VALUE), new CoupleImpl<>(Integer.MIN_VALUE, 0), new CoupleImpl<>(0, -3));
+        Relation<Integer> fermeture = new RelationCompacte(couples).fermetureTransitive();
+        Relation<Integer> attendu = new RelationImpl<>(couples).fermetureTransitive();
+        boolean ok = fermeture.equals(attendu);
+        for (Couple<Integer, Integer> c : attendu.elements()) {
+            ok &= fermeture.contient(c.getPremier(), c.getDeuxieme());
+        }
+        verifier(ok && fermeture.estTransitive() && !fermeture.contient(-3, Integer.MAX_VALUE));
+        // 100 000 couples disjoints : la fermeture est la relation elle-même
+        Set<Couple<Integer, Integer>> disjoints = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            disjoints.add(new CoupleImpl<>(-20_000 * i - 1, 20_000 * i));
+        }
+        Relation<Integer> r = new RelationCompacte(disjoints);
+        verifier(r.fermetureTransitive().equals(r));
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package ensemble;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation RelationCsr (lignes compressées).
+ * Les résultats sont comparés à ceux de RelationImpl, sur des cas construits puis sur
+ * des relations aléatoires dont les couples sont fournis avec des doublons.
+ */
+public class TestRelationCsr {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testContient();
+        testElements();
+        testProprietes();
+        testInverse();
+        testDerivees();
+        testAleatoire();
+        testSupport();
+        testAlgebreSurSupport();
+        testSupportsEgaux();
+        testSupportDuReceveur();
+        testEgalite();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        verifierException(() -> new RelationCsr<String>(null));
+        List<Couple<String, String>> avecNull = new ArrayList<>();
+        avecNull.add(null);
+        verifierException(() -> new RelationCsr<>(avecNull));
+        Relation<String> vide = new RelationCsr<>(new HashSet<Couple<String, String>>());
+        verifier(vide.elements().isEmpty() && vide.estReflexive() && vide.estTransitive() && vide.image("a").cardinal() == 0);
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        // les doublons de la source sont ignorés
+        List<Couple<String, String>> couples = List.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "c"),
+                new CoupleImpl<>("a", "b"));
+        Relation<String> r = new RelationCsr<>(couples);
+        verifier(r.contient("a", "b") && r.contient(new CoupleImpl<>("b", "c")) && r.elements().size() == 2);
+        verifier(!r.contient("b", "a") && !r.contient("a", "z") && !r.contient(null) && !r.contient("z", "a"));
+    }
+
+    private static void testElements() {
+        System.out.println("---- test Elements ----");
+        Set<Couple<String, String>> couples = Set.of(new CoupleImpl<>("x", "y"), new CoupleImpl<>("y", "x"),
+                new CoupleImpl<>("x", "x"), new CoupleImpl<>("z", "x"));
+        Relation<String> r = new RelationCsr<>(couples);
+        verifier(r.elements().equals(couples) && couples.equals(r.elements()));
+        try {
+            r.elements().clear();
+            System.out.println("ECHEC du test - vue modifiable");
+        } catch (UnsupportedOperationException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testProprietes() {
+        System.out.println("---- test Proprietes ----");
+        Set<Couple<Integer, Integer>> ordre = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            for (int j = i; j < 100; j++) {
+                ordre.add(new CoupleImpl<>(i, j));
+            }
+        }
+        Relation<Integer> r = new RelationCsr<>(ordre);
+        verifier(r.estReflexive() && r.estAntisymetrique() && r.estTransitive() && !r.estSymetrique());
+        ordre.remove(new CoupleImpl<>(10, 90));
+        ProprietesRelation<Integer> p = new RelationCsr<>(ordre).proprietes();
+        Couple<Integer, Integer> temoin = p.contreExempleTransitivite();
+        verifier(!p.estTransitive() && temoin.equals(new CoupleImpl<>(10, 90)) && p.estReflexive());
+    }
+
+    private static void testInverse() {
+        System.out.println("---- test Inverse ----");
+        Relation<String> r = new RelationCsr<>(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("a", "c"),
+                new CoupleImpl<>("c", "b")));
+        Relation<String> inverse = r.inverse();
+        verifier(inverse.contient("b", "a") && inverse.contient("b", "c") && !inverse.contient("a", "b")
+                && inverse.image("b").elements().equals(Set.of("a", "c"))
+                && inverse.preImage("a").elements().equals(Set.of("b", "c"))
+                && inverse.inverse().elements().equals(r.elements()));
+    }
+
+    private static void testDerivees() {
+        System.out.println("---- test Relations déduites ----");
+        // l'intersection et la composée partagent le dictionnaire de leur source, qui numérote aussi 2
+        Relation<Integer> r = FabriqueRelation.creerRelationStatique(Set.of(new CoupleImpl<>(1, 1),
+                new CoupleImpl<>(1, 2), new CoupleImpl<>(1, 3), new CoupleImpl<>(3, 3)));
+        Relation<Integer> boucles = r.intersection(r.inverse());
+        verifier(boucles.elements().equals(Set.of(new CoupleImpl<>(1, 1), new CoupleImpl<>(3, 3)))
+                && boucles.estReflexive() && boucles.proprietes().contreExempleReflexivite() == null);
+        Relation<Integer> composee = boucles.composition(boucles);
+        verifier(composee.elements().equals(boucles.elements()) && composee.estReflexive());
+        Relation<Integer> r2 = FabriqueRelation.creerRelationStatique(Set.of(new CoupleImpl<>(1, 2),
+                new CoupleImpl<>(2, 3), new CoupleImpl<>(3, 3)));
+        Relation<Integer> attendu = new RelationImpl<>(r2.elements());
+        Relation<Integer> chemins = r2.composition(r2);
+        verifier(chemins.elements().equals(attendu.composition(attendu).elements())
+                && chemins.estReflexive() == attendu.composition(attendu).estReflexive()
+                && r2.intersection(r2.inverse()).estReflexive());
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(17);
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            int n = 1 + hasard.nextInt(25);
+            List<Couple<Integer, Integer>> source = new ArrayList<>();
+            for (int k = hasard.nextInt(80); k > 0; k--) {
+                int a = hasard.nextInt(n);
+                int b = hasard.nextInt(n);
+                source.add(new CoupleImpl<>(a, b));
+                if (hasard.nextInt(3) == 0) {
+                    source.add(new CoupleImpl<>(b, a));
+                }
+                if (hasard.nextInt(4) == 0) {
+                    source.add(new CoupleImpl<>(a, a));
+                }
+            }
+            Set<Couple<Integer, Integer>> couples = new HashSet<>(source);
+            Relation<Integer> r = new RelationCsr<>(source);
+            Relation<Integer> attendu = new RelationImpl<>(couples);
+            ok = r.elements().equals(couples) && r.elements().size() == couples.size()
+                    && r.estReflexive() == attendu.estReflexive()
+                    && r.estSymetrique() == attendu.estSymetrique()
+                    && r.estAntisymetrique() == attendu.estAntisymetrique()
+                    && r.estTransitive() == attendu.estTransitive()
+                    && r.fermetureTransitive().elements().equals(attendu.fermetureTransitive().elements())
+                    && r.composition(attendu).elements().equals(attendu.composition(attendu).elements())
+                    && r.inverse().elements().equals(attendu.inverse().elements());
+            for (int v = 0; v < n && ok; v++) {
+                ok = r.image(v).elements().equals(attendu.image(v).elements())
+                        && r.preImage(v).elements().equals(attendu.preImage(v).elements());
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testSupport() {
+        System.out.println("---- test Support ----");
+        Ensemble<String> support = new EnsembleImpl<>(Set.of("a", "b", "c"));
+        Relation<String> boucles = FabriqueRelation.creerRelationSur(support, Set.of(new CoupleImpl<>("a", "a"),
+                new CoupleImpl<>("b", "b")));
+        // c ne figure dans aucun couple mais appartient au support : la relation n'est pas réflexive
+        verifier(!boucles.estReflexive() && new RelationCsr<>(boucles.elements()).estReflexive()
+                && boucles.proprietes().contreExempleReflexivite().equals(new CoupleImpl<>("c", "c")));
+        Relation<String> complete = boucles.union(FabriqueRelation.creerRelationSur(support,
+                Set.of(new CoupleImpl<>("c", "c"))));
+        verifier(complete.estReflexive() && complete.inverse().estReflexive()
+                && complete.fermetureTransitive().estReflexive() && complete.image("c").elements().equals(Set.of("c")));
+        verifierException(() -> FabriqueRelation.creerRelationSur(support, Set.of(new CoupleImpl<>("a", "z"))));
+        verifierException(() -> FabriqueRelation.creerRelationSur(null, Set.of(new CoupleImpl<>("a", "a"))));
+    }
+
+    private static void testAlgebreSurSupport() {
+        System.out.println("---- test Algèbre sur support ----");
+        Random hasard = new Random(29);
+        boolean ok = true;
+        for (int essai = 0; essai < 200 && ok; essai++) {
+            int n = 1 + hasard.nextInt(20);
+            Set<Integer> elements = new HashSet<>();
+            for (int v = 0; v < n; v++) {
+                elements.add(v);
+            }
+            Ensemble<Integer> support = new EnsembleImpl<>(elements);
+            Set<Couple<Integer, Integer>> premiers = new HashSet<>();
+            Set<Couple<Integer, Integer>> seconds = new HashSet<>();
+            for (int k = hasard.nextInt(3 * n); k > 0; k--) {
+                premiers.add(new CoupleImpl<>(hasard.nextInt(n), hasard.nextInt(n)));
+                seconds.add(new CoupleImpl<>(hasard.nextInt(n), hasard.nextInt(n)));
+            }
+            Relation<Integer> r = FabriqueRelation.creerRelationSur(support, premiers);
+            Relation<Integer> s = FabriqueRelation.creerRelationSur(support, seconds);
+            Relation<Integer> a = new RelationImpl<>(premiers);
+            Relation<Integer> b = new RelationImpl<>(seconds);
+            Relation<Integer> reunion = r.union(s);
+            ok = reunion.elements().equals(a.union(b).elements())
+                    && r.intersection(s).elements().equals(a.intersection(b).elements())
+                    && r.composition(s).elements().equals(a.composition(b).elements())
+                    && r.composition(r.inverse()).elements().equals(a.composition(a.inverse()).elements())
+                    && reunion.estReflexive() == (reunion.intersection(
+                            FabriqueRelation.creerRelationSur(support, identite(n))).elements().size() == n);
+        }
+        verifier(ok);
+    }
+
+    private static void testSupportsEgaux() {
+        System.out.println("---- test Supports égaux ----");
+        // deux supports égaux construits séparément, parcourus dans des ordres différents : un
+        // ensemble sur dictionnaire est parcouru dans l'ordre des numéros
+        List<String> ordre = List.of("a", "b", "c", "d");
+        Ensemble<String> premier = surDictionnaire(ordre);
+        Ensemble<String> second = surDictionnaire(List.of("d", "c", "b", "a"));
+        Relation<String> r = FabriqueRelation.creerRelationSur(premier, Set.of(new CoupleImpl<>("a", "b")));
+        Relation<String> s = FabriqueRelation.creerRelationSur(second, Set.of(new CoupleImpl<>("b", "c"),
+                new CoupleImpl<>("d", "d")));
+        Relation<String> reunion = r.union(s);
+        verifier(reunion instanceof RelationCsr && r.composition(s) instanceof RelationCsr
+                && reunion.elements().equals(Set.of(new CoupleImpl<>("a", "b"), new CoupleImpl<>("b", "c"),
+                        new CoupleImpl<>("d", "d")))
+                && r.composition(s).elements().equals(Set.of(new CoupleImpl<>("a", "c")))
+                && r.intersection(s).elements().isEmpty());
+        // le support est conservé : c n'a pas de boucle, la réunion n'est pas réflexive
+        Set<Couple<String, String>> boucles = new HashSet<>();
+        for (String x : ordre) {
+            boucles.add(new CoupleImpl<>(x, x));
+        }
+        verifier(!reunion.estReflexive() && reunion.union(
+                FabriqueRelation.creerRelationSur(second, boucles)).estReflexive());
+        // avec une autre implémentation, le résultat reste sur le support
+        Relation<String> avecImpl = r.union(new RelationImpl<>(Set.of(new CoupleImpl<>("c", "c"))));
+        verifier(avecImpl instanceof RelationCsr && !avecImpl.estReflexive()
+                && avecImpl.contient("c", "c") && avecImpl.contient("a", "b"));
+        verifierException(() -> r.union(new RelationImpl<>(Set.of(new CoupleImpl<>("a", "z")))));
+        // deux supports explicites différents ne se mélangent pas
+        Ensemble<String> autre = surDictionnaire(List.of("a", "b", "c", "e"));
+        Relation<String> t = FabriqueRelation.creerRelationSur(autre, Set.of(new CoupleImpl<>("a", "b")));
+        verifierException(() -> r.union(t));
+    }
+
+    private static void testSupportDuReceveur() {
+        System.out.println("---- test Support du receveur ----");
+        Ensemble<String> support = surDictionnaire(List.of("a", "b", "c"));
+        Relation<String> sur = FabriqueRelation.creerRelationSur(support, Set.of(new CoupleImpl<>("a", "a"),
+                new CoupleImpl<>("b", "b")));
+        Set<Couple<String, String>> boucle = Set.of(new CoupleImpl<>("c", "c"));
+        // une relation sans support se comporte de même quelle que soit son implémentation
+        Relation<String> parImpl = sur.union(FabriqueRelation.creerRelation(boucle));
+        Relation<String> parCsr = sur.union(FabriqueRelation.creerRelationStatique(boucle));
+        verifier(parImpl.equals(parCsr) && parImpl.estReflexive() && parCsr.estReflexive()
+                && parCsr instanceof RelationCsr);
+        Relation<String> inter = sur.intersection(FabriqueRelation.creerRelationStatique(
+                Set.of(new CoupleImpl<>("a", "a"))));
+        verifier(inter.equals(sur.intersection(FabriqueRelation.creerRelation(Set.of(new CoupleImpl<>("a", "a")))))
+                && !inter.estReflexive() && inter.proprietes().contreExempleReflexivite() != null);
+        // le résultat suit le support du receveur : sans support, seuls comptent les éléments des couples
+        Relation<String> sansSupport = FabriqueRelation.creerRelationStatique(boucle).union(sur);
+        verifier(sansSupport.equals(parCsr) && sansSupport.estReflexive()
+                && FabriqueRelation.creerRelationStatique(boucle).intersection(sur).elements().isEmpty());
+        verifierException(() -> sur.union(FabriqueRelation.creerRelationStatique(
+                Set.of(new CoupleImpl<>("a", "z")))));
+    }
+
+    private static void testEgalite() {
+        System.out.println("---- test Egalite ----");
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(1, 2), new CoupleImpl<>(2, 3),
+                new CoupleImpl<>(3, 3));
+        Relation<Integer> a = FabriqueRelation.creerRelationStatique(couples);
+        Relation<Integer> b = FabriqueRelation.creerRelationStatique(List.of(new CoupleImpl<>(3, 3),
+                new CoupleImpl<>(2, 3), new CoupleImpl<>(1, 2)));
+        verifier(a.equals(b) && a.hashCode() == b.hashCode() && !a.equals(a.inverse()) && !a.equals(couples));
+        // toutes les implémentations se comparent par leurs couples
+        List<Relation<Integer>> memes = List.of(new RelationImpl<>(couples), new RelationMatrice(couples),
+                new RelationCompacte(couples), FabriqueRelation.creerRelationSur(new EnsembleImpl<>(Set.of(1, 2, 3)), couples),
+                a.fermetureTransitive().intersection(a));
+        boolean ok = true;
+        for (Relation<Integer> r : memes) {
+            ok &= a.equals(r) && r.equals(a) && a.hashCode() == r.hashCode();
+        }
+        verifier(ok && new HashSet<>(memes).size() == 1);
+    }
+
+    private static Ensemble<String> surDictionnaire(List<String> ordre) {
+        Dictionnaire<String> dictionnaire = new Dictionnaire<>();
+        for (String x : ordre) {
+            dictionnaire.numero(x);
+        }
+        return FabriqueEnsemble.creerEnsembleDictionnaire(dictionnaire, new HashSet<>(ordre));
+    }
+
+    private static Set<Couple<Integer, Integer>> identite(int n) {
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        for (int v = 0; v < n; v++) {
+            couples.add(new CoupleImpl<>(v, v));
+        }
+        return couples;
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ensemble;
+
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour la relation mutable RelationIncrementale.
+ * Après chaque modification d'une suite aléatoire d'ajouts et de retraits, les propriétés
+ * tenues à jour sont comparées à l'analyse complète d'une copie immuable.
+ */
+public class TestRelationIncrementale {
+
+    public static void main(String[] args) {
+        testCasSimples();
+        testVersion();
+        testAleatoire();
+        testErreurs();
+    }
+
+    private static void testCasSimples() {
+        System.out.println("---- test Cas simples ----");
+        RelationIncrementale<String> r = new RelationIncrementale<>();
+        verifier(r.estReflexive() && r.estSymetrique() && r.estAntisymetrique() && r.estTransitive());
+        r.ajouter("a", "b");
+        r.ajouter("b", "c");
+        verifier(!r.estReflexive() && !r.estSymetrique() && r.estAntisymetrique() && !r.estTransitive());
+        r.ajouter("a", "c");
+        verifier(r.estTransitive() && r.cardinal() == 3);
+        r.ajouter("c", "b");
+        // (c, b) et (b, c) exigent les boucles (b, b) et (c, c)
+        verifier(!r.estAntisymetrique() && !r.estTransitive());
+        r.ajouter("b", "b");
+        r.ajouter("c", "c");
+        verifier(r.estTransitive() && !r.estReflexive());
+        r.retirer("c", "b");
+        r.retirer("b", "c");
+        r.retirer("a", "b");
+        // il reste (a, c), (b, b) et (c, c)
+        verifier(r.estAntisymetrique() && r.estTransitive() && !r.estReflexive() && r.cardinal() == 3);
+        r.retirer("a", "c");
+        verifier(r.estReflexive() && r.estSymetrique() && r.instantane().elements().size() == 2);
+    }
+
+    private static void testVersion() {
+        System.out.println("---- test Version ----");
+        RelationIncrementale<Integer> r = new RelationIncrementale<>(new RelationImpl<>(Set.of(
+                new CoupleImpl<>(1, 1), new CoupleImpl<>(1, 2))));
+        verifier(r.version() == 0 && r.cardinal() == 2 && !r.estReflexive() && r.estTransitive());
+        verifier(!r.ajouter(1, 2) && !r.retirer(2, 1) && r.version() == 0);
+        verifier(r.ajouter(2, 2) && r.retirer(1, 1) && r.version() == 2 && !r.estReflexive());
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(53);
+        boolean ok = true;
+        for (int essai = 0; essai < 50 && ok; essai++) {
+            int n = 1 + hasard.nextInt(8);
+            RelationIncrementale<Integer> r = new RelationIncrementale<>();
+            for (int pas = 0; pas < 200 && ok; pas++) {
+                int a = hasard.nextInt(n);
+                int b = hasard.nextInt(n);
+                boolean present = r.contient(a, b);
+                boolean modifie = hasard.nextInt(3) > 0 ? r.ajouter(a, b) : r.retirer(a, b);
+                Relation<Integer> copie = r.instantane();
+                ProprietesRelation<Integer> attendu = new RelationImpl<>(copie.elements()).proprietes();
+                ok = modifie == (present != r.contient(a, b)) && r.cardinal() == copie.elements().size()
+                        && r.estReflexive() == attendu.estReflexive()
+                        && r.estSymetrique() == attendu.estSymetrique()
+                        && r.estAntisymetrique() == attendu.estAntisymetrique()
+                        && r.estTransitive() == attendu.estTransitive();
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testErreurs() {
+        System.out.println("---- test Erreurs ----");
+        try {
+            new RelationIncrementale<Integer>().ajouter(1, null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        try {
+            new RelationIncrementale<Integer>(null);
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+        verifier(!new RelationIncrementale<Integer>().retirer(null, 1));
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
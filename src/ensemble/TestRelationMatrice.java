@@ -0,0 +1,270 @@
+package ensemble;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Classe de test pour l'implémentation RelationMatrice (matrice de bits).
+ * Les propriétés sont comparées à celles de RelationImpl sur des relations construites
+ * pour être vraies, puis sur des relations aléatoires qui traversent plusieurs blocs de 64.
+ */
+public class TestRelationMatrice {
+
+    public static void main(String[] args) {
+        testConstructeur();
+        testContient();
+        testElements();
+        testTransposer();
+        testProprietes();
+        testAleatoire();
+        testAlgebre();
+        testFabrique();
+        testEgalite();
+    }
+
+    private static void testConstructeur() {
+        System.out.println("---- test Constructeur ----");
+        verifierException(() -> new RelationMatrice(null));
+        Set<Couple<Integer, Integer>> avecNull = new HashSet<>();
+        avecNull.add(new CoupleImpl<>(1, null));
+        verifierException(() -> new RelationMatrice(avecNull));
+        Set<Couple<Integer, Integer>> etendu = new HashSet<>();
+        etendu.add(new CoupleImpl<>(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        verifierException(() -> new RelationMatrice(etendu));
+        Relation<Integer> vide = new RelationMatrice(new HashSet<>());
+        verifier(vide.elements().isEmpty() && vide.estReflexive() && vide.estTransitive());
+    }
+
+    private static void testContient() {
+        System.out.println("---- test Contient ----");
+        RelationMatrice r = new RelationMatrice(Set.of(new CoupleImpl<>(-5, 70), new CoupleImpl<>(70, 70)));
+        verifier(r.contient(new CoupleImpl<>(-5, 70)) && r.contient(70, 70));
+        verifier(!r.contient(new CoupleImpl<>(70, -5)) && !r.contient(null) && !r.contient(1000, 70));
+        Relation<Integer> vue = r;
+        verifier(vue.contient(-5, 70) && !vue.contient(70, -5) && !vue.contient(null, 70) && !vue.contient(70, null));
+    }
+
+    private static void testElements() {
+        System.out.println("---- test Elements ----");
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(3, 200), new CoupleImpl<>(200, 3),
+                new CoupleImpl<>(64, 64), new CoupleImpl<>(3, 63));
+        Relation<Integer> r = new RelationMatrice(couples);
+        verifier(r.elements().size() == 4 && r.elements().equals(couples) && couples.equals(r.elements()));
+        try {
+            r.elements().clear();
+            System.out.println("ECHEC du test - vue modifiable");
+        } catch (UnsupportedOperationException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void testTransposer() {
+        System.out.println("---- test Transposer ----");
+        Random hasard = new Random(7);
+        long[] x = new long[64];
+        for (int i = 0; i < 64; i++) {
+            x[i] = hasard.nextLong();
+        }
+        long[] t = x.clone();
+        RelationMatrice.transposer(t);
+        boolean ok = true;
+        for (int r = 0; r < 64; r++) {
+            for (int c = 0; c < 64; c++) {
+                ok &= ((x[r] >>> c) & 1) == ((t[c] >>> r) & 1);
+            }
+        }
+        verifier(ok);
+    }
+
+    private static void testProprietes() {
+        System.out.println("---- test Proprietes ----");
+        // l'ordre large sur 0..299 : réflexif, antisymétrique, transitif
+        Set<Couple<Integer, Integer>> ordre = new HashSet<>();
+        for (int i = 0; i < 300; i++) {
+            for (int j = i; j < 300; j++) {
+                ordre.add(new CoupleImpl<>(i, j));
+            }
+        }
+        Relation<Integer> r = new RelationMatrice(ordre);
+        verifier(r.estReflexive() && r.estAntisymetrique() && r.estTransitive() && !r.estSymetrique());
+
+        // l'égalité modulo 7 sur 0..199 : une relation d'équivalence
+        Set<Couple<Integer, Integer>> modulo = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            for (int j = 0; j < 200; j++) {
+                if (i % 7 == j % 7) {
+                    modulo.add(new CoupleImpl<>(i, j));
+                }
+            }
+        }
+        Relation<Integer> m = new RelationMatrice(modulo);
+        verifier(m.estReflexive() && m.estSymetrique() && m.estTransitive() && !m.estAntisymetrique());
+
+        modulo.remove(new CoupleImpl<>(150, 3));
+        Relation<Integer> m2 = new RelationMatrice(modulo);
+        verifier(!m2.estSymetrique() && !m2.estTransitive() && m2.estReflexive());
+    }
+
+    private static void testAleatoire() {
+        System.out.println("---- test Aléatoire ----");
+        Random hasard = new Random(42);
+        boolean ok = true;
+        for (int essai = 0; essai < 300 && ok; essai++) {
+            int etendue = 1 + hasard.nextInt(150);
+            int n = hasard.nextInt(40);
+            boolean symetrique = hasard.nextBoolean();
+            Set<Couple<Integer, Integer>> couples = new HashSet<>();
+            for (int k = 0; k < n; k++) {
+                int a = hasard.nextInt(etendue) - 20;
+                int b = hasard.nextInt(etendue) - 20;
+                couples.add(new CoupleImpl<>(a, b));
+                if (symetrique) {
+                    couples.add(new CoupleImpl<>(b, a));
+                }
+                if (hasard.nextInt(4) == 0) {
+                    couples.add(new CoupleImpl<>(a, a));
+                }
+            }
+            Relation<Integer> attendu = new RelationImpl<>(couples);
+            Relation<Integer> r = new RelationMatrice(couples);
+            ok = r.estReflexive() == attendu.estReflexive()
+                    && r.fermetureTransitive().elements().equals(attendu.fermetureTransitive().elements())
+                    && r.estSymetrique() == attendu.estSymetrique()
+                    && r.estAntisymetrique() == attendu.estAntisymetrique()
+                    && r.estTransitive() == attendu.estTransitive()
+                    && r.elements().equals(couples)
+                    && temoinsValides(r) && temoinsValides(attendu);
+        }
+        verifier(ok);
+    }
+
+    private static void testAlgebre() {
+        System.out.println("---- test Algèbre ----");
+        Random hasard = new Random(11);
+        boolean ok = true;
+        for (int essai = 0; essai < 200 && ok; essai++) {
+            // une fois sur deux, les deux relations ont le même domaine [-20, 130]
+            boolean memeDomaine = hasard.nextBoolean();
+            Set<Couple<Integer, Integer>> x = tirage(hasard, memeDomaine);
+            Set<Couple<Integer, Integer>> y = tirage(hasard, memeDomaine);
+            RelationMatrice a = new RelationMatrice(x);
+            Relation<Integer> b = new RelationMatrice(y);
+            Relation<Integer> attenduA = new RelationImpl<>(x);
+            Relation<Integer> attenduB = new RelationImpl<>(y);
+            ok = a.composition(b).elements().equals(attenduA.composition(attenduB).elements())
+                    && a.composition(attenduB).elements().equals(attenduA.composition(b).elements())
+                    && a.union(b).elements().equals(attenduA.union(attenduB).elements())
+                    && a.intersection(b).elements().equals(attenduA.intersection(attenduB).elements())
+                    && a.inverse().elements().equals(attenduA.inverse().elements());
+            for (int v = -25; v < 140 && ok; v += 1 + hasard.nextInt(10)) {
+                ok = a.image(v).elements().equals(attenduA.image(v).elements())
+                        && a.preImage(v).elements().equals(attenduA.preImage(v).elements());
+            }
+            Ensemble<Integer> depart = new EnsembleImpl<>(new HashSet<>(
+                    List.of(hasard.nextInt(150) - 20, hasard.nextInt(150) - 20, 500)));
+            ok &= a.image(depart).elements().equals(attenduA.image(depart).elements());
+        }
+        verifier(ok);
+        RelationMatrice r = new RelationMatrice(Set.of(new CoupleImpl<>(1, 2)));
+        verifier(r.image((Integer) null).cardinal() == 0 && r.preImage(2).contient(1) && r.image(2).cardinal() == 0);
+        verifierException(() -> r.composition(null));
+        verifierException(() -> r.union(null));
+        verifierException(() -> r.image((Ensemble<Integer>) null));
+    }
+
+    private static void testFabrique() {
+        System.out.println("---- test Fabrique ----");
+        // un domaine dense reste une matrice de bits
+        Set<Couple<Integer, Integer>> dense = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j <= i; j++) {
+                dense.add(new CoupleImpl<>(i, j));
+            }
+        }
+        verifier(RelationMatrice.estAdaptee(dense) && FabriqueRelation.creerRelationEntiers(dense) instanceof RelationMatrice);
+        // deux milliards d'entiers entre deux couples : aucune ligne n'est allouée sur l'écart
+        Set<Couple<Integer, Integer>> eloigne = Set.of(new CoupleImpl<>(0, 2_000_000_000),
+                new CoupleImpl<>(2_000_000_000, 2_000_000_000), new CoupleImpl<>(-7, -7));
+        Relation<Integer> r = FabriqueRelation.creerRelationEntiers(eloigne);
+        Relation<Integer> attendu = new RelationImpl<>(eloigne);
+        verifier(!RelationMatrice.estAdaptee(eloigne) && !(r instanceof RelationMatrice)
+                && r.contient(0, 2_000_000_000) && !r.contient(2_000_000_000, 0)
+                && r.elements().equals(eloigne) && r.estTransitive() == attendu.estTransitive()
+                && r.estAntisymetrique() && !r.estReflexive());
+        // même l'étendue que le constructeur refuse passe par la fabrique
+        Set<Couple<Integer, Integer>> etendu = Set.of(new CoupleImpl<>(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        verifier(FabriqueRelation.creerRelationEntiers(etendu).contient(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        verifierException(() -> FabriqueRelation.creerRelationEntiers(null));
+        Set<Couple<Integer, Integer>> avecNull = new HashSet<>();
+        avecNull.add(new CoupleImpl<>(null, 1));
+        verifierException(() -> FabriqueRelation.creerRelationEntiers(avecNull));
+    }
+
+    private static void testEgalite() {
+        System.out.println("---- test Egalite ----");
+        Set<Couple<Integer, Integer>> couples = Set.of(new CoupleImpl<>(1, 2), new CoupleImpl<>(2, 3),
+                new CoupleImpl<>(3, 3));
+        Relation<Integer> a = new RelationMatrice(couples);
+        Relation<Integer> b = FabriqueRelation.creerRelationEntiers(new HashSet<>(couples));
+        Relation<Integer> attendu = new RelationImpl<>(couples);
+        verifier(a.equals(b) && a.hashCode() == b.hashCode() && a.equals(attendu) && attendu.equals(a)
+                && a.hashCode() == attendu.hashCode() && Set.of(a).contains(attendu));
+        verifier(!a.equals(new RelationMatrice(Set.of(new CoupleImpl<>(1, 2)))) && !a.equals(couples) && !a.equals(null));
+        // une relation déduite égale la même relation construite directement
+        Relation<Integer> chemin = new RelationMatrice(Set.of(new CoupleImpl<>(0, 1), new CoupleImpl<>(1, 2)));
+        verifier(chemin.fermetureTransitive().equals(new RelationImpl<>(Set.of(new CoupleImpl<>(0, 1),
+                new CoupleImpl<>(1, 2), new CoupleImpl<>(0, 2)))));
+    }
+
+    private static Set<Couple<Integer, Integer>> tirage(Random hasard, boolean memeDomaine) {
+        Set<Couple<Integer, Integer>> couples = new HashSet<>();
+        int etendue = memeDomaine ? 151 : 1 + hasard.nextInt(150);
+        if (memeDomaine) {
+            couples.add(new CoupleImpl<>(-20, 130));
+        }
+        for (int k = hasard.nextInt(300); k > 0; k--) {
+            couples.add(new CoupleImpl<>(hasard.nextInt(etendue) - 20, hasard.nextInt(etendue) - 20));
+        }
+        return couples;
+    }
+
+    private static boolean temoinsValides(Relation<Integer> r) {
+        ProprietesRelation<Integer> p = r.proprietes();
+        Couple<Integer, Integer> c = p.contreExempleReflexivite();
+        boolean ok = c == null || c.getPremier().equals(c.getDeuxieme()) && !r.contient(c);
+        c = p.contreExempleSymetrie();
+        ok &= c == null || r.contient(c) && !r.contient(new CoupleImpl<>(c.getDeuxieme(), c.getPremier()));
+        c = p.contreExempleAntisymetrie();
+        ok &= c == null || !c.getPremier().equals(c.getDeuxieme()) && r.contient(c)
+                && r.contient(new CoupleImpl<>(c.getDeuxieme(), c.getPremier()));
+        c = p.contreExempleTransitivite();
+        if (c != null) {
+            boolean intermediaire = false;
+            for (Couple<Integer, Integer> ab : r.elements()) {
+                intermediaire |= ab.getPremier().equals(c.getPremier())
+                        && r.contient(new CoupleImpl<>(ab.getDeuxieme(), c.getDeuxieme()));
+            }
+            ok &= intermediaire && !r.contient(c);
+        }
+        return ok;
+    }
+
+    private static void verifierException(Runnable operation) {
+        try {
+            operation.run();
+            System.out.println("ECHEC du test (exception attendue)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("OK");
+        }
+    }
+
+    private static void verifier(boolean condition) {
+        if (condition) {
+            System.out.println("OK");
+        } else {
+            System.out.println("ECHEC du test");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ensemble;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+/**
+ * Vue en lecture seule sur les éléments d'un {@link Ensemble}, retournée par {@code elements()}.
+ * Aucune copie n'est faite : {@code size} et {@code contains} sont délégués à
+ * {@code cardinal} et {@code contient}, et le parcours utilise l'itérateur de l'ensemble.
+ * Toute tentative de modification lève une {@link UnsupportedOperationException}.
+ *
+ * @param <T> Le type des éléments de l'ensemble
+ */
+class VueElements<T> extends AbstractSet<T> {
+
+    /** L'ensemble dont on expose les éléments. */
+    private final Ensemble<T> ensemble;
+
+    /**
+     * Construit une vue sur les éléments d'un ensemble.
+     *
+     * @param ensemble l'ensemble à exposer
+     */
+    VueElements(Ensemble<T> ensemble) {
+        this.ensemble = ensemble;
+    }
+
+    @Override
+    public int size() {
+        return ensemble.cardinal();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        try {
+            return ensemble.contient((T) o);
+        } catch (ClassCastException e) {
+            // un objet d'un autre type n'appartient pas à l'ensemble
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return EnsembleVue.iterateur(ensemble);
+    }
+}